@@ -1,44 +1,103 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.listener;
 
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.LoggingService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.ChangeCaptureService;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
-import com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.util.EntityStateCopier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadataRegistry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeCapture;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
 import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.hibernate.event.spi.*;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.springframework.stereotype.Component;
 
+import java.time.temporal.Temporal;
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class EntityChangeListenerAdapter
         implements PostCommitInsertEventListener, PostCommitDeleteEventListener, PostCommitUpdateEventListener {
-    private final LoggingService loggingService;
+    private final ChangeCaptureService changeCaptureService;
     private final EntityLoggingProperties loggingProperties;
-    private final EntityStateCopier stateCopier;
 
     @Override
     public void onPostInsert(PostInsertEvent event) {
         if (loggingProperties.shouldLogChanges(event.getEntity())) {
-            loggingService.logChange(null, event.getEntity(), Operation.CREATE);
+            EntityState state = EntityState.ofInsert(
+                    event.getPersister().getPropertyNames(),
+                    event.getId(),
+                    event.getState()
+            );
+            capture(event.getEntity(), event.getId(), Operation.CREATE, state);
         }
     }
 
     @Override
     public void onPostUpdate(PostUpdateEvent event) {
         if (loggingProperties.shouldLogChanges(event.getEntity())) {
-            Object oldEntity = stateCopier.cloneEntity(event);
-            loggingService.logChange(oldEntity, event.getEntity(), Operation.UPDATE);
+            EntityState state = EntityState.ofUpdate(
+                    event.getPersister().getPropertyNames(),
+                    event.getOldState(),
+                    event.getState(),
+                    event.getDirtyProperties()
+            );
+            capture(event.getEntity(), event.getId(), Operation.UPDATE, state);
         }
     }
 
     @Override
     public void onPostDelete(PostDeleteEvent event) {
         if (loggingProperties.shouldLogChanges(event.getEntity())) {
-            loggingService.logChange(event.getEntity(), null, Operation.DELETE);
+            EntityState state = EntityState.ofDelete(
+                    event.getPersister().getPropertyNames(),
+                    event.getId(),
+                    event.getDeletedState()
+            );
+            capture(event.getEntity(), event.getId(), Operation.DELETE, state);
         }
     }
 
+    // 요청 스레드에서는 원시 상태만 스냅샷으로 남기고 나머지 처리는 캡처 서비스에 위임
+    private void capture(Object entity, Object id, Operation operation, EntityState state) {
+        Class<?> entityClass = entity.getClass();
+        EntityIdentifier identifier = EntityIdentifier.of(
+                EntityMetadataRegistry.get(entityClass).getEntityName(),
+                String.valueOf(id)
+        );
+        // deferred 모드에서는 세션이 닫힌 뒤 워커가 값을 읽으므로 세션에 묶인 값은 여기서 문자열로 고정한다
+        EntityState captured = loggingProperties.isDeferredCapture()
+                ? state.snapshotValues(EntityChangeListenerAdapter::snapshotValue)
+                : state;
+        changeCaptureService.capture(ChangeCapture.of(entityClass, identifier, operation, captured));
+    }
+
+    private static Object snapshotValue(Object value) {
+        if (value == null || isImmutableValue(value)) {
+            return value;
+        }
+        // 초기화되지 않은 지연 로딩 연관은 로딩하지 않고 엔티티 이름과 식별자만 남긴다
+        if (value instanceof HibernateProxy proxy) {
+            LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+            if (initializer.isUninitialized()) {
+                return initializer.getEntityName() + "#" + initializer.getInternalIdentifier();
+            }
+        } else if (!Hibernate.isInitialized(value)) {
+            return "[uninitialized]";
+        }
+        return value.toString();
+    }
+
+    private static boolean isImmutableValue(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof UUID
+                || value instanceof Temporal;
+    }
+
     @Override
     public boolean requiresPostCommitHandling(EntityPersister persister) {
         return true;
@@ -9,26 +9,50 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 @Service
 public class MicrometerLogMetricsAdapter implements MetricsPort {
+    private final MeterRegistry registry;
     private final Counter droppedCounter;
     private final Counter saveErrorCounter;
     private final Counter processedCounter;
+    private final Counter retryCounter;
+    private final Counter bisectCounter;
+    private final Counter deadLetterCounter;
     private final DistributionSummary batchSizeSummary;
     private final Gauge queueSizeGauge;
     private final Timer offerTimer;
     private final Timer batchTimer;
     private final Timer flushTimer;
     private final Counter shutdownFlushedCounter;
+    private final Timer captureTimer;
+    private final Counter captureOverflowCounter;
+    private final DistributionSummary walGroupSizeSummary;
+    private final Timer walFsyncTimer;
+    private final Counter walReplayedCounter;
     private final AtomicInteger queueSize;
+    private final List<Gauge> dynamicGauges = new CopyOnWriteArrayList<>();
+    private final Map<String, Counter> overflowCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> chunkTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> statementRowSummaries = new ConcurrentHashMap<>();
 
     public MicrometerLogMetricsAdapter(MeterRegistry registry) {
+        this.registry = registry;
         this.droppedCounter = registry.counter(Metrics.ENTITYLOG_QUEUE_DROPPED);
         this.saveErrorCounter = registry.counter(Metrics.ENTITYLOG_BATCH_SAVE_ERRORS);
         this.processedCounter = registry.counter(Metrics.ENTITYLOG_BATCH_PROCESSED);
+        this.retryCounter = registry.counter(Metrics.ENTITYLOG_BATCH_RETRY);
+        this.bisectCounter = registry.counter(Metrics.ENTITYLOG_BATCH_BISECT);
+        this.deadLetterCounter = registry.counter(Metrics.ENTITYLOG_DEADLETTER_WRITTEN);
         this.batchSizeSummary = registry.summary(Metrics.ENTITYLOG_BATCH_SIZE);
         this.queueSize = new AtomicInteger(0);
         this.queueSizeGauge = Gauge
@@ -38,6 +62,15 @@ public class MicrometerLogMetricsAdapter implements MetricsPort {
         this.batchTimer = registry.timer(Metrics.ENTITYLOG_BATCH_PROCESSING_LATENCY);
         this.flushTimer = registry.timer(Metrics.ENTITYLOG_FLUSH_LATENCY);
         this.shutdownFlushedCounter = registry.counter(Metrics.ENTITYLOG_SHUTDOWN_FLUSHED_COUNT);
+        this.captureTimer = Timer.builder(Metrics.ENTITYLOG_CAPTURE_LATENCY)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.captureOverflowCounter = registry.counter(Metrics.ENTITYLOG_CAPTURE_OVERFLOW);
+        this.walGroupSizeSummary = registry.summary(Metrics.ENTITYLOG_WAL_GROUP_SIZE);
+        this.walFsyncTimer = Timer.builder(Metrics.ENTITYLOG_WAL_FSYNC_LATENCY)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.walReplayedCounter = registry.counter(Metrics.ENTITYLOG_WAL_REPLAYED);
     }
 
     @Override
@@ -50,11 +83,52 @@ public class MicrometerLogMetricsAdapter implements MetricsPort {
         droppedCounter.increment();
     }
 
+    @Override
+    public void incrementOverflowCount(String policy, String outcome) {
+        overflowCounters.computeIfAbsent(policy + ":" + outcome, key -> Counter
+                        .builder(Metrics.ENTITYLOG_QUEUE_OVERFLOW)
+                        .tag("policy", policy)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .increment();
+    }
+
     @Override
     public void gaugeQueueSize(int currentSize) {
         queueSize.set(currentSize);
     }
 
+    @Override
+    public void registerShardQueueSizeGauge(int shard, IntSupplier sizeSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_QUEUE_SHARD_SIZE, sizeSupplier, IntSupplier::getAsInt)
+                .tag("shard", String.valueOf(shard))
+                .register(registry));
+    }
+
+    @Override
+    public void registerBatchTargetSizeGauge(int worker, IntSupplier sizeSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_BATCH_TARGET_SIZE, sizeSupplier, IntSupplier::getAsInt)
+                .tag("worker", String.valueOf(worker))
+                .register(registry));
+    }
+
+    @Override
+    public void registerQueueLaneSizeGauge(String lane, IntSupplier sizeSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_QUEUE_LANE_SIZE, sizeSupplier, IntSupplier::getAsInt)
+                .tag("lane", lane)
+                .register(registry));
+    }
+
+    @Override
+    public void registerSpillSizeGauge(LongSupplier sizeSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_SPILL_SIZE, sizeSupplier, LongSupplier::getAsLong)
+                .register(registry));
+    }
+
     @Override
     public void recordBatchLatency(long durationNanos) {
         batchTimer.record(durationNanos, TimeUnit.NANOSECONDS);
@@ -65,6 +139,50 @@ public class MicrometerLogMetricsAdapter implements MetricsPort {
         batchSizeSummary.record(size);
     }
 
+    @Override
+    public void recordStageBusy(String stage, long durationNanos) {
+        stageTimer(Metrics.ENTITYLOG_PIPELINE_STAGE_BUSY, stage).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStageWait(String stage, long durationNanos) {
+        stageTimer(Metrics.ENTITYLOG_PIPELINE_STAGE_WAIT, stage).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer stageTimer(String name, String stage) {
+        return stageTimers.computeIfAbsent(name + ":" + stage, key -> Timer
+                .builder(name)
+                .tag("stage", stage)
+                .register(registry));
+    }
+
+    @Override
+    public void registerHandoffSizeGauge(int lane, IntSupplier sizeSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_PIPELINE_HANDOFF_SIZE, sizeSupplier, IntSupplier::getAsInt)
+                .tag("lane", String.valueOf(lane))
+                .register(registry));
+    }
+
+    @Override
+    public void recordStatementRows(String path, int rows) {
+        statementRowSummaries.computeIfAbsent(path, key -> DistributionSummary
+                        .builder(Metrics.ENTITYLOG_PERSISTENCE_STATEMENT_ROWS)
+                        .tag("path", path)
+                        .register(registry))
+                .record(rows);
+    }
+
+    @Override
+    public void recordChunkLatency(String path, long durationNanos) {
+        chunkTimers.computeIfAbsent(path, key -> Timer
+                        .builder(Metrics.ENTITYLOG_PERSISTENCE_CHUNK_LATENCY)
+                        .tag("path", path)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public void incrementProcessedCount(int count) {
         processedCounter.increment(count);
@@ -75,6 +193,28 @@ public class MicrometerLogMetricsAdapter implements MetricsPort {
         saveErrorCounter.increment();
     }
 
+    @Override
+    public void incrementRetryCount() {
+        retryCounter.increment();
+    }
+
+    @Override
+    public void incrementBisectCount() {
+        bisectCounter.increment();
+    }
+
+    @Override
+    public void incrementDeadLetterCount(int count) {
+        deadLetterCounter.increment(count);
+    }
+
+    @Override
+    public void registerDeadLetterSizeGauge(LongSupplier sizeSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_DEADLETTER_SIZE, sizeSupplier, LongSupplier::getAsLong)
+                .register(registry));
+    }
+
     @Override
     public void recordFlushLatency(long durationNanos) {
         flushTimer.record(durationNanos, TimeUnit.NANOSECONDS);
@@ -85,15 +225,60 @@ public class MicrometerLogMetricsAdapter implements MetricsPort {
         shutdownFlushedCounter.increment(count);
     }
 
+    @Override
+    public void recordCaptureLatency(long durationNanos) {
+        captureTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void incrementCaptureOverflowCount() {
+        captureOverflowCounter.increment();
+    }
+
+    @Override
+    public void recordWalGroupSize(int records) {
+        walGroupSizeSummary.record(records);
+    }
+
+    @Override
+    public void recordWalFsyncLatency(long durationNanos) {
+        walFsyncTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void incrementWalReplayedCount(int count) {
+        walReplayedCounter.increment(count);
+    }
+
+    @Override
+    public void registerWalReplayBacklogGauge(LongSupplier bytesSupplier) {
+        dynamicGauges.add(Gauge
+                .builder(Metrics.ENTITYLOG_WAL_REPLAY_BACKLOG, bytesSupplier, LongSupplier::getAsLong)
+                .register(registry));
+    }
+
     @Override
     public void shutdown() {
         droppedCounter.close();
         saveErrorCounter.close();
         processedCounter.close();
+        retryCounter.close();
+        bisectCounter.close();
+        deadLetterCounter.close();
         batchSizeSummary.close();
         queueSizeGauge.close();
         offerTimer.close();
         flushTimer.close();
         shutdownFlushedCounter.close();
+        captureTimer.close();
+        captureOverflowCounter.close();
+        walGroupSizeSummary.close();
+        walFsyncTimer.close();
+        walReplayedCounter.close();
+        dynamicGauges.forEach(Gauge::close);
+        overflowCounters.values().forEach(Counter::close);
+        stageTimers.values().forEach(Timer::close);
+        chunkTimers.values().forEach(Timer::close);
+        statementRowSummaries.values().forEach(DistributionSummary::close);
     }
 }
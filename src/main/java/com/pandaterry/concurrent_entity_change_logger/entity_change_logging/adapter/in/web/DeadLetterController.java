@@ -0,0 +1,33 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.web;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.BatchRetryService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.DeadLetterReplayResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/entity-logs/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+    private final BatchRetryService batchRetryService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Long>> pending() {
+        return ResponseEntity.ok(Map.of("pending", batchRetryService.pendingDeadLetters()));
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayResult> replay() throws IOException {
+        try {
+            return ResponseEntity.ok(batchRetryService.replayDeadLetters());
+        } catch (IllegalStateException e) {
+            // 다른 요청이 이미 재처리 중
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.web;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.LogEntryExportService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ExportQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+/**
+ * 변경 이력을 NDJSON 으로 내려받는다. 행을 읽는 대로 응답에 쓰므로 건수와 무관하게 메모리 사용량이 일정하다.
+ */
+@RestController
+@RequestMapping("/api/entity-logs/export")
+@RequiredArgsConstructor
+public class LogEntryExportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final LogEntryExportService logEntryExportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String entityName,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) Operation operation,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportQuery query = new ExportQuery(entityName, entityId, operation, from, to);
+        String filename = gzip ? "entity-logs.ndjson.gz" : "entity-logs.ndjson";
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> logEntryExportService.export(query, out, gzip));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
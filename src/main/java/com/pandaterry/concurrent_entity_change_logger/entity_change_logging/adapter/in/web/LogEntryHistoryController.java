@@ -0,0 +1,67 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.web;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.web.dto.HistoryPageResponse;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.LogEntryHistoryService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+/**
+ * 변경 이력 조회. 결과는 최신순이며, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 읽는다.
+ */
+@RestController
+@RequestMapping("/api/entity-logs/history")
+@RequiredArgsConstructor
+public class LogEntryHistoryController {
+    private final LogEntryHistoryService logEntryHistoryService;
+
+    @GetMapping("/entities/{entityName}/{entityId}")
+    public ResponseEntity<HistoryPageResponse> entityHistory(
+            @PathVariable String entityName,
+            @PathVariable String entityId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int size) {
+        HistoryQuery query = HistoryQuery.forEntity(
+                EntityIdentifier.of(entityName, entityId), from, to, decode(cursor), size);
+        return ResponseEntity.ok(HistoryPageResponse.from(logEntryHistoryService.find(query)));
+    }
+
+    @GetMapping("/entities/{entityName}")
+    public ResponseEntity<HistoryPageResponse> entityTypeHistory(
+            @PathVariable String entityName,
+            @RequestParam Instant from,
+            @RequestParam Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int size) {
+        HistoryQuery query = HistoryQuery.forEntityType(entityName, from, to, decode(cursor), size);
+        return ResponseEntity.ok(HistoryPageResponse.from(logEntryHistoryService.find(query)));
+    }
+
+    @GetMapping("/operations/{operation}")
+    public ResponseEntity<HistoryPageResponse> operationHistory(
+            @PathVariable Operation operation,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int size) {
+        HistoryQuery query = HistoryQuery.forOperation(operation, from, to, decode(cursor), size);
+        return ResponseEntity.ok(HistoryPageResponse.from(logEntryHistoryService.find(query)));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private static HistoryCursor decode(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : HistoryCursor.decode(cursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.web.dto;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.HistoryPage;
+
+import java.util.List;
+
+public record HistoryPageResponse(List<LogEntryResponse> entries, String nextCursor) {
+
+    public static HistoryPageResponse from(HistoryPage page) {
+        return new HistoryPageResponse(
+                page.entries().stream().map(LogEntryResponse::from).toList(),
+                page.hasNext() ? page.next().encode() : null
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// changes/context 는 저장된 JSON 을 다시 파싱하지 않고 그대로 내보낸다
+public record LogEntryResponse(UUID id, String entityName, String entityId, String operation, Instant recordedAt,
+                               @JsonRawValue String changes, @JsonRawValue String context) {
+
+    public static LogEntryResponse from(EncodedLogEntry entry) {
+        return new LogEntryResponse(
+                entry.getId().getValue(),
+                entry.getEntityIdentifier().getEntityName(),
+                entry.getEntityIdentifier().getEntityId(),
+                entry.getOperation().name(),
+                entry.getRecordedAt(),
+                entry.getChangesJson(),
+                entry.getContextJson()
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryEncodingPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * LogEntry 를 EncodedLogEntry 로 한 번만 인코딩하고, 디스크 기록용 JSON 형식을 담당한다.
+ * 디스크 JSON 은 이미 인코딩된 changes/context 를 raw 값으로 붙이므로 다시 직렬화하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonLogEntryEncoder implements LogEntryEncodingPort {
+    private static final int INITIAL_LINE_CAPACITY = 512;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public EncodedLogEntry encode(LogEntry entry) {
+        try {
+            return EncodedLogEntry.of(
+                    entry.getId(),
+                    entry.getEntityIdentifier(),
+                    entry.getOperation(),
+                    entry.getRecordedAt(),
+                    objectMapper.writeValueAsString(entry.getChangeSet().toMap()),
+                    objectMapper.writeValueAsString(entry.getContext().toMap()),
+                    entry.getOperation().isHighPriority() || entry.requiresHighPriorityProcessing()
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("로그 엔트리 인코딩 실패: " + entry.getId(), e);
+        }
+    }
+
+    public byte[] toJson(EncodedLogEntry entry) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(INITIAL_LINE_CAPACITY);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeStringField("id", entry.getId().toString());
+            generator.writeStringField("entityName", entry.getEntityIdentifier().getEntityName());
+            generator.writeStringField("entityId", entry.getEntityIdentifier().getEntityId());
+            generator.writeFieldName("changes");
+            generator.writeRawValue(entry.getChangesJson());
+            generator.writeStringField("operation", entry.getOperation().name());
+            generator.writeStringField("recordedAt", entry.getRecordedAt().toString());
+            generator.writeFieldName("context");
+            generator.writeRawValue(entry.getContextJson());
+            generator.writeBooleanField("highPriority", entry.isHighPriority());
+            generator.writeEndObject();
+        }
+        return output.toByteArray();
+    }
+
+    public EncodedLogEntry fromJson(byte[] json) throws IOException {
+        JsonNode node = objectMapper.readTree(json);
+        return EncodedLogEntry.of(
+                LogEntryId.of(UUID.fromString(node.get("id").asText())),
+                EntityIdentifier.of(node.get("entityName").asText(), node.get("entityId").asText()),
+                Operation.valueOf(node.get("operation").asText()),
+                Instant.parse(node.get("recordedAt").asText()),
+                node.get("changes").toString(),
+                node.get("context").toString(),
+                node.path("highPriority").asBoolean(false)
+        );
+    }
+}
@@ -0,0 +1,499 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalDictionary;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalPayload;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalReader;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.FieldChange;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WAL 레코드 인코딩/디코딩. JSON 한 줄 형식과 바이너리 v1 형식을 쓰고, 읽을 때는 첫 바이트로 형식을 구분한다.
+ *
+ * <p>바이너리 v1 레코드 구성
+ * <pre>
+ * version(1) | 이름표 | id(16) | operation ordinal(1) | recordedAt epoch micros(varlong)
+ *   | entityName(이름 번호) | entityId(문자열) | flags(1) | changes | context
+ * </pre>
+ * 이름표는 레코드가 쓰는 엔티티/필드/컨텍스트 이름 목록이다. 세그먼트에 이미 정의된 이름은 사전 번호+1,
+ * 처음 나온 이름은 0 뒤에 문자열로 적어 사전에 추가한다. 본문은 이름표의 순번으로 이름을 가리킨다.
+ * changes/context 가 예상한 모양이 아니면 JSON 문자열 그대로 담는다.
+ * Operation 과 ChangeType 은 ordinal 로 저장하므로 상수 순서를 바꾸면 안 된다.
+ */
+public class WalLogEntryCodec implements WalReader.RecordDecoder<EncodedLogEntry> {
+    public static final byte BINARY_V1 = 0x01;
+    private static final byte JSON_RECORD = '{';
+
+    private static final byte STRUCTURED = 0;
+    private static final byte RAW_JSON = 1;
+
+    private static final byte ABSENT = 0;
+    private static final byte NULL = 1;
+    private static final byte FALSE = 2;
+    private static final byte TRUE = 3;
+    private static final byte INT = 4;
+    private static final byte STRING = 5;
+    private static final byte NUMBER = 6;
+    private static final byte JSON = 7;
+    private static final byte NAME = 8;
+
+    private static final byte NO_CHANGE_TYPE = (byte) 0xFF;
+    private static final byte HIGH_PRIORITY = 1;
+
+    // 이보다 긴 컨텍스트 문자열은 사전에 넣지 않는다
+    private static final int MAX_NAME_VALUE_LENGTH = 128;
+
+    private static final String FIELD_NAME = "fieldName";
+    private static final String OLD_VALUE = "oldValue";
+    private static final String NEW_VALUE = "newValue";
+    private static final String CHANGE_TYPE = "changeType";
+
+    private static final FieldChange.ChangeType[] CHANGE_TYPES = FieldChange.ChangeType.values();
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final JsonLogEntryEncoder jsonEncoder;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader treeReader;
+    private final boolean binary;
+
+    public WalLogEntryCodec(JsonLogEntryEncoder jsonEncoder, ObjectMapper objectMapper, String format) {
+        this.jsonEncoder = jsonEncoder;
+        this.objectMapper = objectMapper;
+        // 소수는 원문 자릿수 그대로 NUMBER 텍스트로 남긴다
+        this.treeReader = objectMapper.reader()
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .without(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES);
+        this.binary = switch (format.toLowerCase()) {
+            case "binary" -> true;
+            case "json" -> false;
+            default -> throw new IllegalArgumentException("Unknown WAL record format: " + format);
+        };
+    }
+
+    /**
+     * 요청 스레드에서 호출한다. 바이너리 형식은 이름을 뺀 본문까지 만들어 두고,
+     * 이름 번호 치환만 세그먼트가 정해진 뒤 writer 스레드에서 한다.
+     */
+    public WalPayload encode(EncodedLogEntry entry) {
+        try {
+            if (!binary) {
+                return WalPayload.of(jsonEncoder.toJson(entry));
+            }
+            return encodeBinary(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 레코드 인코딩 실패: " + entry.getId(), e);
+        }
+    }
+
+    private BinaryPayload encodeBinary(EncodedLogEntry entry) throws IOException {
+        BinaryPayload payload = new BinaryPayload();
+        ByteSink body = payload.body;
+
+        UUID id = entry.getId().getValue();
+        body.putLong(id.getMostSignificantBits());
+        body.putLong(id.getLeastSignificantBits());
+        body.put((byte) entry.getOperation().ordinal());
+        body.putVarLong(zigzag(toEpochMicros(entry.getRecordedAt())));
+        body.putVarInt(payload.name(entry.getEntityIdentifier().getEntityName()));
+        body.putString(entry.getEntityIdentifier().getEntityId());
+        body.put(entry.isHighPriority() ? HIGH_PRIORITY : 0);
+
+        writeChanges(payload, treeReader.readTree(entry.getChangesJson()), entry.getChangesJson());
+        writeContext(payload, treeReader.readTree(entry.getContextJson()), entry.getContextJson());
+        return payload;
+    }
+
+    private void writeChanges(BinaryPayload payload, JsonNode changes, String raw) {
+        ByteSink body = payload.body;
+        if (!isStructuredChanges(changes)) {
+            body.put(RAW_JSON);
+            body.putString(raw);
+            return;
+        }
+
+        body.put(STRUCTURED);
+        body.putVarInt(changes.size());
+        for (Iterator<Map.Entry<String, JsonNode>> it = changes.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> change = it.next();
+            JsonNode value = change.getValue();
+            JsonNode changeType = value.get(CHANGE_TYPE);
+
+            body.putVarInt(payload.name(change.getKey()));
+            body.putVarInt(payload.name(value.get(FIELD_NAME).asText()));
+            writeValue(payload, value.get(OLD_VALUE), false);
+            writeValue(payload, value.get(NEW_VALUE), false);
+            body.put(changeType == null
+                    ? NO_CHANGE_TYPE
+                    : (byte) FieldChange.ChangeType.valueOf(changeType.asText()).ordinal());
+        }
+    }
+
+    // ChangeSet.toMap 모양({키: {fieldName, oldValue, newValue, changeType}})인지 확인한다
+    private static boolean isStructuredChanges(JsonNode changes) {
+        if (!changes.isObject()) {
+            return false;
+        }
+        for (JsonNode value : changes) {
+            if (!value.isObject() || !value.path(FIELD_NAME).isTextual()) {
+                return false;
+            }
+            for (Iterator<String> names = value.fieldNames(); names.hasNext(); ) {
+                String name = names.next();
+                if (!FIELD_NAME.equals(name) && !OLD_VALUE.equals(name)
+                        && !NEW_VALUE.equals(name) && !CHANGE_TYPE.equals(name)) {
+                    return false;
+                }
+            }
+            JsonNode changeType = value.get(CHANGE_TYPE);
+            if (changeType != null && !isChangeType(changeType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isChangeType(JsonNode node) {
+        if (!node.isTextual()) {
+            return false;
+        }
+        for (FieldChange.ChangeType type : CHANGE_TYPES) {
+            if (type.name().equals(node.asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeContext(BinaryPayload payload, JsonNode context, String raw) {
+        ByteSink body = payload.body;
+        if (!context.isObject()) {
+            body.put(RAW_JSON);
+            body.putString(raw);
+            return;
+        }
+
+        body.put(STRUCTURED);
+        body.putVarInt(context.size());
+        for (Iterator<Map.Entry<String, JsonNode>> it = context.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            body.putVarInt(payload.name(field.getKey()));
+            // 스레드 이름, 호스트명처럼 반복되는 값은 사전에 넣는다
+            writeValue(payload, field.getValue(), true);
+        }
+    }
+
+    private static void writeValue(BinaryPayload payload, JsonNode value, boolean nameStrings) {
+        ByteSink body = payload.body;
+        if (value == null) {
+            body.put(ABSENT);
+        } else if (value.isNull()) {
+            body.put(NULL);
+        } else if (value.isBoolean()) {
+            body.put(value.booleanValue() ? TRUE : FALSE);
+        } else if (value.isIntegralNumber() && value.canConvertToLong()) {
+            body.put(INT);
+            body.putVarLong(zigzag(value.longValue()));
+        } else if (value.isNumber()) {
+            body.put(NUMBER);
+            body.putString(value.asText());
+        } else if (value.isTextual()) {
+            String text = value.textValue();
+            if (nameStrings && text.length() <= MAX_NAME_VALUE_LENGTH) {
+                body.put(NAME);
+                body.putVarInt(payload.name(text));
+            } else {
+                body.put(STRING);
+                body.putString(text);
+            }
+        } else {
+            body.put(JSON);
+            body.putString(value.toString());
+        }
+    }
+
+    @Override
+    public EncodedLogEntry decode(ByteBuffer record, WalDictionary dictionary) throws IOException {
+        byte format = record.get(record.position());
+        if (format == JSON_RECORD) {
+            byte[] json = new byte[record.remaining()];
+            record.get(json);
+            return jsonEncoder.fromJson(json);
+        }
+        if (format != BINARY_V1) {
+            throw new IOException("Unknown WAL record format: " + format);
+        }
+
+        record.get();
+        String[] names = readNames(record, dictionary);
+
+        UUID id = new UUID(record.getLong(), record.getLong());
+        Operation operation = OPERATIONS[record.get()];
+        Instant recordedAt = fromEpochMicros(unzigzag(readVarLong(record)));
+        String entityName = names[readVarInt(record)];
+        String entityId = readString(record);
+        boolean highPriority = (record.get() & HIGH_PRIORITY) != 0;
+        String changesJson = readChanges(record, names);
+        String contextJson = readContext(record, names);
+
+        return EncodedLogEntry.of(LogEntryId.of(id), EntityIdentifier.of(entityName, entityId), operation,
+                recordedAt, changesJson, contextJson, highPriority);
+    }
+
+    @Override
+    public void absorb(ByteBuffer record, WalDictionary dictionary) {
+        if (record.get(record.position()) == BINARY_V1) {
+            record.get();
+            readNames(record, dictionary);
+        }
+    }
+
+    private static String[] readNames(ByteBuffer record, WalDictionary dictionary) {
+        String[] names = new String[readVarInt(record)];
+        for (int i = 0; i < names.length; i++) {
+            int reference = readVarInt(record);
+            if (reference == 0) {
+                names[i] = readString(record);
+                dictionary.define(names[i]);
+            } else {
+                names[i] = dictionary.nameOf(reference - 1);
+            }
+        }
+        return names;
+    }
+
+    private String readChanges(ByteBuffer record, String[] names) throws IOException {
+        if (record.get() == RAW_JSON) {
+            return readString(record);
+        }
+
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            generator.writeStartObject();
+            int count = readVarInt(record);
+            for (int i = 0; i < count; i++) {
+                generator.writeFieldName(names[readVarInt(record)]);
+                generator.writeStartObject();
+                generator.writeStringField(FIELD_NAME, names[readVarInt(record)]);
+                readValue(record, names, generator, OLD_VALUE);
+                readValue(record, names, generator, NEW_VALUE);
+                byte changeType = record.get();
+                if (changeType != NO_CHANGE_TYPE) {
+                    generator.writeStringField(CHANGE_TYPE, CHANGE_TYPES[changeType].name());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+        return json.toString();
+    }
+
+    private String readContext(ByteBuffer record, String[] names) throws IOException {
+        if (record.get() == RAW_JSON) {
+            return readString(record);
+        }
+
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            generator.writeStartObject();
+            int count = readVarInt(record);
+            for (int i = 0; i < count; i++) {
+                readValue(record, names, generator, names[readVarInt(record)]);
+            }
+            generator.writeEndObject();
+        }
+        return json.toString();
+    }
+
+    private static void readValue(ByteBuffer record, String[] names, JsonGenerator generator,
+                                  String fieldName) throws IOException {
+        byte tag = record.get();
+        if (tag == ABSENT) {
+            return;
+        }
+
+        generator.writeFieldName(fieldName);
+        switch (tag) {
+            case NULL -> generator.writeNull();
+            case FALSE -> generator.writeBoolean(false);
+            case TRUE -> generator.writeBoolean(true);
+            case INT -> generator.writeNumber(unzigzag(readVarLong(record)));
+            case STRING -> generator.writeString(readString(record));
+            case NUMBER -> generator.writeNumber(readString(record));
+            case JSON -> generator.writeRawValue(readString(record));
+            case NAME -> generator.writeString(names[readVarInt(record)]);
+            default -> throw new IOException("Unknown WAL value tag: " + tag);
+        }
+    }
+
+    // DB 컬럼 정밀도와 같은 마이크로초 단위로 저장한다
+    static long toEpochMicros(Instant instant) {
+        return TimeUnit.SECONDS.toMicros(instant.getEpochSecond()) + instant.getNano() / 1_000;
+    }
+
+    static Instant fromEpochMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in WAL record");
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        return Math.toIntExact(readVarLong(buffer));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        byte[] utf8 = new byte[length];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 이름을 제외하고 완성된 바이너리 레코드. 레코드 안의 이름은 등장 순서대로 로컬 번호를 받는다.
+     */
+    private static final class BinaryPayload implements WalPayload {
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Integer> localIds = new HashMap<>();
+        private final ByteSink body = new ByteSink(256);
+        private int namesMaxSize;
+
+        int name(String name) {
+            Integer id = localIds.get(name);
+            if (id != null) {
+                return id;
+            }
+            id = names.size();
+            names.add(name);
+            localIds.put(name, id);
+            // 번호(최대 5) + 길이(최대 5) + UTF-8 최대 3바이트/문자
+            namesMaxSize += 10 + name.length() * 3;
+            return id;
+        }
+
+        @Override
+        public int maxEncodedSize() {
+            return 1 + 5 + namesMaxSize + body.size();
+        }
+
+        @Override
+        public byte[] encode(WalDictionary dictionary) {
+            ByteSink record = new ByteSink(maxEncodedSize());
+            record.put(BINARY_V1);
+            record.putVarInt(names.size());
+            for (String name : names) {
+                int id = dictionary.idOf(name);
+                if (id >= 0) {
+                    record.putVarInt(id + 1);
+                } else {
+                    dictionary.define(name);
+                    record.putVarInt(0);
+                    record.putString(name);
+                }
+            }
+            record.put(body);
+            return record.toByteArray();
+        }
+    }
+
+    private static final class ByteSink {
+        private byte[] bytes;
+        private int size;
+
+        ByteSink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void put(byte b) {
+            ensure(1);
+            bytes[size++] = b;
+        }
+
+        void put(ByteSink other) {
+            ensure(other.size);
+            System.arraycopy(other.bytes, 0, bytes, size, other.size);
+            size += other.size;
+        }
+
+        void putLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void putVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void putVarInt(int value) {
+            putVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void putString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            putVarInt(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.lifecycle;
 
 
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryPartitionManager;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository.LogEntryIndexInitializer;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogStoragePort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.BatchProcessingService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.ChangeCaptureService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.WalRecoveryService;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.error.LoggingErrorCode;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.error.LoggingException;
 import lombok.RequiredArgsConstructor;
@@ -12,16 +18,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class LoggingSmartLifecycle implements SmartLifecycle {
     private final LogStoragePort logStoragePort;
     private final QueuePort queuePort;
+    private final SpillStoragePort spillStoragePort;
+    private final DeadLetterPort deadLetterPort;
+    private final LogEntryPartitionManager partitionManager;
+    private final LogEntryIndexInitializer indexInitializer;
     private final MetricsPort metricsPort;
     private final BatchProcessingService batchProcessingService;
+    private final ChangeCaptureService changeCaptureService;
+    private final WalRecoveryService walRecoveryService;
 
     private volatile boolean running = false;
 
@@ -33,9 +43,16 @@ public class LoggingSmartLifecycle implements SmartLifecycle {
 
         log.info("로깅 인프라 시작");
         try {
+            partitionManager.init();
+            indexInitializer.init();
             logStoragePort.init();
+            spillStoragePort.init();
+            // 지난 실행에서 DB 에 닿지 못한 WAL 구간과 스필 잔여분을 먼저 채운다
+            walRecoveryService.recover();
+            deadLetterPort.init();
             queuePort.init();
             batchProcessingService.init();
+            changeCaptureService.init();
 
             running = true;
             log.info("로깅 인프라 시작 완료");
@@ -64,17 +81,22 @@ public class LoggingSmartLifecycle implements SmartLifecycle {
 
     private void gracefulShutdown() {
         try {
+            // 캡처 버퍼에 남은 스냅샷을 먼저 큐로 넘긴다
+            changeCaptureService.shutdown();
             batchProcessingService.shutdown();
-            queuePort.shutdown();
-
-            // 진행 중인 작업 완료 대기
-            awaitTermination(Duration.ofSeconds(30));
 
             // 최종 플러시 처리
             batchProcessingService.finalFlush();
 
+            // 플러시하지 못한 엔트리는 버리지 않고 스필 세그먼트에 남긴다
+            batchProcessingService.spillRemaining();
+            queuePort.shutdown();
+
             // 리소스 정리
+            spillStoragePort.close();
+            deadLetterPort.close();
             logStoragePort.close();
+            partitionManager.shutdown();
             // 모니터링 종료
             metricsPort.shutdown();
 
@@ -83,21 +105,6 @@ public class LoggingSmartLifecycle implements SmartLifecycle {
         }
     }
 
-    private boolean awaitTermination(Duration timeout) {
-        long deadline = System.currentTimeMillis() + timeout.toMillis();
-
-        while (queuePort.size() > 0 && System.currentTimeMillis() < deadline) {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
-        }
-
-        return queuePort.size() == 0;
-    }
-
     @Override
     public boolean isRunning() {
         return running;
@@ -2,14 +2,13 @@ package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.ada
 
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryRepository;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-@Component
 @RequiredArgsConstructor
 @Slf4j
 public class BatchPersistenceAdapter implements BatchPersistencePort {
@@ -17,8 +16,13 @@ public class BatchPersistenceAdapter implements BatchPersistencePort {
     private final LogEntryRepository logEntryRepository;
 
     @Override
-    public void saveBatch(List<LogEntry> logEntries) {
-        if (logEntries == null || logEntries.isEmpty()) {
+    public PreparedBatch prepare(List<EncodedLogEntry> logEntries) {
+        return logEntryRepository.prepareBatch(logEntries == null ? List.of() : logEntries);
+    }
+
+    @Override
+    public void write(PreparedBatch batch) {
+        if (batch.size() == 0) {
             log.debug("저장할 로그 엔트리가 없습니다");
             return;
         }
@@ -27,17 +31,22 @@ public class BatchPersistenceAdapter implements BatchPersistencePort {
 
         try {
 
-            logEntryRepository.saveBatch(logEntries);
+            logEntryRepository.writeBatch(batch);
 
             long processingTime = System.currentTimeMillis() - startTime;
             log.debug("배치 저장 완료 - 건수: {}, 처리시간: {}ms",
-                    logEntries.size(), processingTime);
+                    batch.size(), processingTime);
 
         } catch (Exception e) {
             long processingTime = System.currentTimeMillis() - startTime;
             log.error("배치 저장 실패 - 건수: {}, 처리시간: {}ms",
-                    logEntries.size(), processingTime, e);
+                    batch.size(), processingTime, e);
             throw e; // 상위로 예외 전파
         }
     }
+
+    @Override
+    public boolean isRetryable(Exception e) {
+        return RetryableFailures.isRetryable(e);
+    }
 }
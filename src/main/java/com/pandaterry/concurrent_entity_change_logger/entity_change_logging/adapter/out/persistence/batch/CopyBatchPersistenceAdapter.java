@@ -0,0 +1,96 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryTableResolver;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * PgJDBC CopyManager 로 배치를 COPY log_entries FROM STDIN 한 번에 흘려보내는 저장 어댑터.
+ * 행마다 INSERT 를 파싱/실행하지 않고, 페이로드는 준비 단계에서 엔트리로부터 바로 인코딩한다.
+ */
+@Slf4j
+public class CopyBatchPersistenceAdapter implements BatchPersistencePort {
+    private final DataSource dataSource;
+    private final LogEntryTableResolver tableResolver;
+    private final boolean binary;
+
+    public CopyBatchPersistenceAdapter(DataSource dataSource, LogEntryTableResolver tableResolver, String format) {
+        this.dataSource = dataSource;
+        this.tableResolver = tableResolver;
+        this.binary = switch (format.toLowerCase()) {
+            case "binary" -> true;
+            case "text" -> false;
+            default -> throw new IllegalArgumentException("Unknown copy format: " + format);
+        };
+    }
+
+    @Override
+    public PreparedBatch prepare(List<EncodedLogEntry> logEntries) {
+        List<EncodedLogEntry> entries = logEntries == null ? List.of() : logEntries;
+        byte[] payload = binary ? PgCopyEncoder.binary(entries) : PgCopyEncoder.text(entries);
+        return new CopyPreparedBatch(entries, tableResolver.tableFor(entries), payload);
+    }
+
+    @Override
+    public void write(PreparedBatch batch) {
+        if (!(batch instanceof CopyPreparedBatch copyBatch)) {
+            throw new IllegalArgumentException("Unsupported prepared batch: " + batch.getClass().getName());
+        }
+        if (copyBatch.size() == 0) {
+            log.debug("저장할 로그 엔트리가 없습니다");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long rows = copyManager.copyIn(
+                    LogEntrySql.copyInto(copyBatch.table(), binary),
+                    new ByteArrayInputStream(copyBatch.payload()));
+
+            // 자동 커밋이 꺼진 커넥션이면 직접 커밋한다 (스프링 트랜잭션에 묶인 경우는 제외)
+            if (!connection.getAutoCommit() && !DataSourceUtils.isConnectionTransactional(connection, dataSource)) {
+                connection.commit();
+            }
+
+            log.debug("COPY 저장 완료 - 건수: {}, 페이로드: {} bytes, 처리시간: {}ms",
+                    rows, copyBatch.payload().length, System.currentTimeMillis() - startTime);
+        } catch (SQLException | IOException e) {
+            log.error("COPY 저장 실패 - 건수: {}, 처리시간: {}ms",
+                    copyBatch.size(), System.currentTimeMillis() - startTime, e);
+            rollbackQuietly(connection);
+            throw new RuntimeException("로그 엔트리 COPY 저장 실패", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    public boolean isRetryable(Exception e) {
+        return RetryableFailures.isRetryable(e);
+    }
+
+    private void rollbackQuietly(Connection connection) {
+        try {
+            if (!connection.getAutoCommit() && !DataSourceUtils.isConnectionTransactional(connection, dataSource)) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            log.warn("COPY 롤백 실패", e);
+        }
+    }
+}
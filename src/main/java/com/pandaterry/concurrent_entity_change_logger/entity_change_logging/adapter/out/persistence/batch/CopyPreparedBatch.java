@@ -0,0 +1,12 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.util.List;
+
+/**
+ * COPY FROM STDIN 으로 그대로 흘려보낼 페이로드.
+ */
+record CopyPreparedBatch(List<EncodedLogEntry> entries, String table, byte[] payload) implements PreparedBatch {
+}
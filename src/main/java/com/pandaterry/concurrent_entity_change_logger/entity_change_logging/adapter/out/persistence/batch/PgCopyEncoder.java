@@ -0,0 +1,107 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * log_entries 행을 COPY FROM STDIN 페이로드로 직접 인코딩한다.
+ * 컬럼 순서는 {@link com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql#COPY_COLUMNS} 와 같다.
+ */
+final class PgCopyEncoder {
+    private static final byte[] BINARY_SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final short COLUMN_COUNT = 7;
+    private static final int UUID_BYTES = 16;
+    private static final byte JSONB_VERSION = 1;
+    // PostgreSQL 타임스탬프 기준 시각 (2000-01-01T00:00:00Z)
+    private static final Instant PG_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+    private static final int ESTIMATED_ROW_BYTES = 256;
+
+    private PgCopyEncoder() {
+    }
+
+    static byte[] binary(List<EncodedLogEntry> entries) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(entries.size() * ESTIMATED_ROW_BYTES + 32);
+        DataOutputStream out = new DataOutputStream(buffer);
+        try {
+            out.write(BINARY_SIGNATURE);
+            out.writeInt(0); // flags
+            out.writeInt(0); // 헤더 확장 길이
+
+            for (EncodedLogEntry entry : entries) {
+                out.writeShort(COLUMN_COUNT);
+
+                UUID id = entry.getId().getValue();
+                out.writeInt(UUID_BYTES);
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+
+                writeBinaryText(out, entry.getEntityIdentifier().getEntityName());
+                writeBinaryText(out, entry.getEntityIdentifier().getEntityId());
+                writeBinaryJsonb(out, entry.getChangesJson());
+                writeBinaryText(out, entry.getOperation().name());
+
+                out.writeInt(Long.BYTES);
+                out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, entry.getRecordedAt()));
+
+                writeBinaryJsonb(out, entry.getContextJson());
+            }
+
+            out.writeShort(-1); // 트레일러
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] text(List<EncodedLogEntry> entries) {
+        StringBuilder rows = new StringBuilder(entries.size() * ESTIMATED_ROW_BYTES);
+        for (EncodedLogEntry entry : entries) {
+            rows.append(entry.getId().getValue()).append('\t');
+            appendEscaped(rows, entry.getEntityIdentifier().getEntityName()).append('\t');
+            appendEscaped(rows, entry.getEntityIdentifier().getEntityId()).append('\t');
+            appendEscaped(rows, entry.getChangesJson()).append('\t');
+            rows.append(entry.getOperation().name()).append('\t');
+            rows.append(entry.getRecordedAt()).append('\t');
+            appendEscaped(rows, entry.getContextJson()).append('\n');
+        }
+        return rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeBinaryText(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // jsonb 바이너리 표현은 버전 바이트(1) + JSON 텍스트
+    private static void writeBinaryJsonb(DataOutputStream out, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(bytes);
+    }
+
+    // COPY 텍스트 형식에서 의미가 있는 문자만 이스케이프한다 (JSON 의 역슬래시 포함)
+    static StringBuilder appendEscaped(StringBuilder rows, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\t' -> rows.append("\\t");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,40 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Set;
+
+/**
+ * 같은 배치를 잠시 후 다시 쓰면 성공할 수 있는 오류인지 판별한다. 저장 방식과 무관하게 같은 기준을 쓴다.
+ */
+final class RetryableFailures {
+    // 08: 연결 오류, 40: 직렬화 실패/교착, 53: 자원 부족, 57: 관리자 개입(DB 재시작 등)
+    private static final Set<String> RETRYABLE_SQL_STATE_CLASSES = Set.of("08", "40", "53", "57");
+
+    private RetryableFailures() {
+    }
+
+    static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotGetJdbcConnectionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && sqlException.getSQLState() != null
+                    && sqlException.getSQLState().length() >= 2
+                    && RETRYABLE_SQL_STATE_CLASSES.contains(sqlException.getSQLState().substring(0, 2))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryTableResolver;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치를 컬럼별 배열 7개로 묶어 INSERT ... SELECT FROM unnest(...) 한 문장으로 저장하는 어댑터.
+ * 행마다 파라미터를 보내는 batchUpdate 보다 왕복과 문장 처리 비용이 적다.
+ * 한 문장이 너무 커지지 않도록 행 수/바이트 기준으로 청크를 나누고, 한 배치의 청크는 한 트랜잭션으로 묶는다.
+ */
+@Slf4j
+public class UnnestBatchPersistenceAdapter implements BatchPersistencePort {
+    private static final String METRIC_PATH = "unnest";
+    // 배열 리터럴 하나가 프로토콜 메시지 한도(1GB)에 한참 못 미치도록 잡은 청크당 상한
+    private static final long MAX_CHUNK_BYTES = 64L * 1024 * 1024;
+    private static final int ROW_OVERHEAD_BYTES = 128;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LogEntryTableResolver tableResolver;
+    private final MetricsPort metricsPort;
+    private final int chunkSize;
+    private final long maxChunkBytes;
+
+    public UnnestBatchPersistenceAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                         LogEntryTableResolver tableResolver, MetricsPort metricsPort, int chunkSize) {
+        this(jdbcTemplate, transactionTemplate, tableResolver, metricsPort, chunkSize, MAX_CHUNK_BYTES);
+    }
+
+    UnnestBatchPersistenceAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  LogEntryTableResolver tableResolver, MetricsPort metricsPort,
+                                  int chunkSize, long maxChunkBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableResolver = tableResolver;
+        this.transactionTemplate = transactionTemplate;
+        this.metricsPort = metricsPort;
+        this.chunkSize = chunkSize;
+        this.maxChunkBytes = maxChunkBytes;
+    }
+
+    @Override
+    public PreparedBatch prepare(List<EncodedLogEntry> logEntries) {
+        List<EncodedLogEntry> entries = logEntries == null ? List.of() : logEntries;
+        List<UnnestPreparedBatch.Chunk> chunks = new ArrayList<>();
+
+        int from = 0;
+        long chunkBytes = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            EncodedLogEntry entry = entries.get(i);
+            long rowBytes = ROW_OVERHEAD_BYTES + utf8Length(entry.getChangesJson()) + utf8Length(entry.getContextJson());
+
+            if (i > from && (i - from == chunkSize || chunkBytes + rowBytes > maxChunkBytes)) {
+                chunks.add(toChunk(entries.subList(from, i)));
+                from = i;
+                chunkBytes = 0;
+            }
+            chunkBytes += rowBytes;
+        }
+        if (from < entries.size()) {
+            chunks.add(toChunk(entries.subList(from, entries.size())));
+        }
+
+        return new UnnestPreparedBatch(entries, tableResolver.tableFor(entries), chunks);
+    }
+
+    // 서버로 나가는 크기는 문자 수가 아니라 UTF-8 바이트 수다. 한글 같은 문자는 한 글자가 3바이트가 된다
+    static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static UnnestPreparedBatch.Chunk toChunk(List<EncodedLogEntry> entries) {
+        int rows = entries.size();
+        String[] ids = new String[rows];
+        String[] entityNames = new String[rows];
+        String[] entityIds = new String[rows];
+        String[] changes = new String[rows];
+        String[] operations = new String[rows];
+        String[] recordedAts = new String[rows];
+        String[] contexts = new String[rows];
+
+        for (int i = 0; i < rows; i++) {
+            EncodedLogEntry entry = entries.get(i);
+            ids[i] = entry.getId().toString();
+            entityNames[i] = entry.getEntityIdentifier().getEntityName();
+            entityIds[i] = entry.getEntityIdentifier().getEntityId();
+            changes[i] = entry.getChangesJson();
+            operations[i] = entry.getOperation().name();
+            recordedAts[i] = entry.getRecordedAt().toString();
+            contexts[i] = entry.getContextJson();
+        }
+        return new UnnestPreparedBatch.Chunk(ids, entityNames, entityIds, changes, operations, recordedAts, contexts);
+    }
+
+    @Override
+    public void write(PreparedBatch batch) {
+        if (!(batch instanceof UnnestPreparedBatch unnestBatch)) {
+            throw new IllegalArgumentException("Unsupported prepared batch: " + batch.getClass().getName());
+        }
+        if (unnestBatch.size() == 0) {
+            log.debug("저장할 로그 엔트리가 없습니다");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            // 일부 청크만 커밋된 채 재시도되면 중복 키로 실패하므로 배치 전체를 한 트랜잭션으로 묶는다
+            String sql = LogEntrySql.insertUnnestInto(unnestBatch.table());
+            transactionTemplate.executeWithoutResult(status -> unnestBatch.chunks().forEach(chunk -> insertChunk(sql, chunk)));
+
+            log.debug("unnest 배치 저장 완료 - 건수: {}, 청크: {}, 처리시간: {}ms",
+                    unnestBatch.size(), unnestBatch.chunks().size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("unnest 배치 저장 실패 - 건수: {}, 처리시간: {}ms",
+                    unnestBatch.size(), System.currentTimeMillis() - startTime, e);
+            throw e;
+        }
+    }
+
+    private void insertChunk(String sql, UnnestPreparedBatch.Chunk chunk) {
+        long startNanos = System.nanoTime();
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> insert(connection, sql, chunk));
+
+        metricsPort.recordChunkLatency(METRIC_PATH, System.nanoTime() - startNanos);
+        metricsPort.recordStatementRows(METRIC_PATH, inserted == null ? 0 : inserted);
+    }
+
+    private static int insert(Connection connection, String sql, UnnestPreparedBatch.Chunk chunk) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            // 모두 text[] 로 보내고 SQL 에서 컬럼 타입 배열로 캐스팅한다
+            statement.setArray(1, connection.createArrayOf("text", chunk.ids()));
+            statement.setArray(2, connection.createArrayOf("text", chunk.entityNames()));
+            statement.setArray(3, connection.createArrayOf("text", chunk.entityIds()));
+            statement.setArray(4, connection.createArrayOf("text", chunk.changes()));
+            statement.setArray(5, connection.createArrayOf("text", chunk.operations()));
+            statement.setArray(6, connection.createArrayOf("text", chunk.recordedAts()));
+            statement.setArray(7, connection.createArrayOf("text", chunk.contexts()));
+            return statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public boolean isRetryable(Exception e) {
+        return RetryableFailures.isRetryable(e);
+    }
+}
@@ -0,0 +1,20 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.util.List;
+
+/**
+ * unnest() INSERT 한 문장씩에 바인딩할 컬럼 배열 묶음.
+ */
+record UnnestPreparedBatch(List<EncodedLogEntry> entries, String table, List<Chunk> chunks) implements PreparedBatch {
+
+    record Chunk(String[] ids, String[] entityNames, String[] entityIds, String[] changes,
+                 String[] operations, String[] recordedAts, String[] contexts) {
+
+        int rows() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * log_entries 를 recorded_at 범위 파티션 테이블로 관리한다.
+ * 기동 시와 주기적으로 앞으로 쓸 파티션을 미리 만들고, 보관 기간이 지난 파티션은 통째로 DROP 한다.
+ * 저장 어댑터는 {@link #tableFor} 로 배치가 들어갈 파티션 이름을 받아 부모 테이블 라우팅 없이 바로 쓴다.
+ */
+@Slf4j
+@Component
+public class LogEntryPartitionManager implements LogEntryTableResolver {
+    private static final String PARTITION_PREFIX = LogEntrySql.TABLE + "_p";
+    private static final String DEFAULT_PARTITION = LogEntrySql.TABLE + "_default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityLoggingProperties.Partition settings;
+    private final PartitionInterval interval;
+    private final Clock clock;
+    // 파티션 시작 시각 -> 파티션 테이블 이름
+    private final ConcurrentSkipListMap<Instant, String> partitions = new ConcurrentSkipListMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean active = false;
+
+    public LogEntryPartitionManager(JdbcTemplate jdbcTemplate, EntityLoggingProperties properties) {
+        this(jdbcTemplate, properties, Clock.systemUTC());
+    }
+
+    LogEntryPartitionManager(JdbcTemplate jdbcTemplate, EntityLoggingProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = properties.getPartition();
+        this.interval = PartitionInterval.from(settings.getInterval());
+        this.clock = clock;
+    }
+
+    public void init() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        jdbcTemplate.execute(LogEntrySql.CREATE_PARTITIONED_TABLE);
+        if (!isPartitioned()) {
+            // 파티션 없이 만들어진 기존 테이블은 자동으로 바꾸지 않는다 (데이터 이관 필요)
+            log.warn("{} 가 파티션 테이블이 아니어서 파티션 관리를 건너뜁니다", LogEntrySql.TABLE);
+            return;
+        }
+        jdbcTemplate.execute(String.format(LogEntrySql.CREATE_DEFAULT_PARTITION, DEFAULT_PARTITION));
+
+        loadPartitions();
+        maintainSafely();
+        active = true;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "entitylog-partition");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = settings.getMaintenanceInterval();
+        scheduler.scheduleWithFixedDelay(this::maintainSafely, period, period, TimeUnit.MINUTES);
+        log.info("파티션 관리 시작 - 단위: {}, 선생성: {}개, 보관: {}일", interval, settings.getPremake(), settings.getRetentionDays());
+    }
+
+    @Override
+    public String tableFor(List<EncodedLogEntry> batch) {
+        if (!active || batch.isEmpty()) {
+            return LogEntrySql.TABLE;
+        }
+
+        Instant min = batch.get(0).getRecordedAt();
+        Instant max = min;
+        for (EncodedLogEntry entry : batch) {
+            Instant recordedAt = entry.getRecordedAt();
+            if (recordedAt.isBefore(min)) {
+                min = recordedAt;
+            } else if (recordedAt.isAfter(max)) {
+                max = recordedAt;
+            }
+        }
+
+        Instant start = interval.startOf(min);
+        String partition = partitions.get(start);
+        if (partition != null && max.isBefore(interval.next(start))) {
+            return partition;
+        }
+        // 경계에 걸친 배치나 아직 없는 구간은 부모 테이블이 라우팅한다 (해당 없으면 default 파티션)
+        return LogEntrySql.TABLE;
+    }
+
+    private void maintainSafely() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.error("파티션 관리 실패", e);
+        }
+    }
+
+    void maintain() {
+        Instant current = interval.startOf(clock.instant());
+
+        // 지난 구간 하나(지연 도착분)와 앞으로 premake 개 구간을 보장한다
+        Instant start = interval.previous(current);
+        for (int i = 0; i <= settings.getPremake() + 1; i++) {
+            createPartition(start);
+            start = interval.next(start);
+        }
+
+        if (settings.getRetentionDays() > 0) {
+            Instant cutoff = clock.instant().minus(Duration.ofDays(settings.getRetentionDays()));
+            for (Map.Entry<Instant, String> partition : partitions.headMap(cutoff).entrySet()) {
+                if (!interval.next(partition.getKey()).isAfter(cutoff)) {
+                    dropPartition(partition.getKey(), partition.getValue());
+                }
+            }
+        }
+    }
+
+    private void createPartition(Instant start) {
+        if (partitions.containsKey(start)) {
+            return;
+        }
+
+        String name = PARTITION_PREFIX + interval.suffix(start);
+        Instant end = interval.next(start);
+        if (hasDefaultRows(start, end)) {
+            // 파티션이 생기기 전에 default 로 들어간 행. 그대로 두면 CREATE ... PARTITION OF 가 실패한다
+            log.warn("default 파티션에 있는 [{}, {}) 구간의 행을 {} 로 옮깁니다", start, end, name);
+            jdbcTemplate.execute(String.format(LogEntrySql.MOVE_DEFAULT_ROWS_AND_ATTACH_PARTITION,
+                    name, DEFAULT_PARTITION, start, end));
+        } else {
+            jdbcTemplate.execute(String.format(LogEntrySql.CREATE_RANGE_PARTITION, name, start, end));
+        }
+        partitions.put(start, name);
+        log.info("파티션 생성 - {} [{}, {})", name, start, end);
+    }
+
+    private boolean hasDefaultRows(Instant start, Instant end) {
+        Boolean exists = jdbcTemplate.queryForObject(String.format(LogEntrySql.EXISTS_IN_RANGE, DEFAULT_PARTITION),
+                Boolean.class, start.atOffset(ZoneOffset.UTC), end.atOffset(ZoneOffset.UTC));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private void dropPartition(Instant start, String name) {
+        partitions.remove(start);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+        log.info("보관 기간이 지난 파티션 삭제 - {}", name);
+    }
+
+    private boolean isPartitioned() {
+        String kind = jdbcTemplate.queryForObject(LogEntrySql.SELECT_TABLE_KIND, String.class, LogEntrySql.TABLE);
+        return "p".equals(kind);
+    }
+
+    private void loadPartitions() {
+        List<String> names = jdbcTemplate.queryForList(LogEntrySql.SELECT_PARTITIONS, String.class, LogEntrySql.TABLE);
+        for (String name : names) {
+            if (!name.startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            Instant start = interval.parseSuffix(name.substring(PARTITION_PREFIX.length()));
+            if (start != null) {
+                partitions.put(start, name);
+            } else {
+                log.warn("다른 단위로 만든 파티션은 관리하지 않습니다 - {}", name);
+            }
+        }
+    }
+
+    public void shutdown() {
+        active = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+
+import java.util.List;
+
+/**
+ * 배치를 어느 테이블에 쓸지 정한다.
+ * 배치 전체가 한 파티션에 들어가면 그 파티션에 바로 쓰고, 아니면 부모 테이블에 써서 PostgreSQL 이 나눠 넣게 한다.
+ */
+public interface LogEntryTableResolver {
+    String tableFor(List<EncodedLogEntry> batch);
+
+    static LogEntryTableResolver parentTable() {
+        return batch -> LogEntrySql.TABLE;
+    }
+}
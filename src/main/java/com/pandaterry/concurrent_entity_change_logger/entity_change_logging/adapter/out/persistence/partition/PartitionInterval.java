@@ -0,0 +1,62 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * recorded_at 범위 파티션 단위. 경계는 UTC 기준이다.
+ */
+public enum PartitionInterval {
+    DAILY(ChronoUnit.DAYS, "yyyyMMdd"),
+    HOURLY(ChronoUnit.HOURS, "yyyyMMddHH");
+
+    private final ChronoUnit unit;
+    private final DateTimeFormatter suffixFormat;
+
+    PartitionInterval(ChronoUnit unit, String suffixPattern) {
+        this.unit = unit;
+        this.suffixFormat = DateTimeFormatter.ofPattern(suffixPattern).withZone(ZoneOffset.UTC);
+    }
+
+    public static PartitionInterval from(String value) {
+        return switch (value.toLowerCase()) {
+            case "daily" -> DAILY;
+            case "hourly" -> HOURLY;
+            default -> throw new IllegalArgumentException("Unknown partition interval: " + value);
+        };
+    }
+
+    public Instant startOf(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    public Instant next(Instant start) {
+        return start.plus(1, unit);
+    }
+
+    public Instant previous(Instant start) {
+        return start.minus(1, unit);
+    }
+
+    public String suffix(Instant start) {
+        return suffixFormat.format(start);
+    }
+
+    // 이 단위로 만든 이름이 아니면 null
+    public Instant parseSuffix(String suffix) {
+        int length = this == DAILY ? 8 : 10;
+        if (suffix.length() != length || !suffix.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return LocalDateTime.of(
+                Integer.parseInt(suffix.substring(0, 4)),
+                Integer.parseInt(suffix.substring(4, 6)),
+                Integer.parseInt(suffix.substring(6, 8)),
+                this == HOURLY ? Integer.parseInt(suffix.substring(8, 10)) : 0,
+                0
+        ).toInstant(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.util.List;
+
+/**
+ * table 에 대한 INSERT 문에 바로 넘길 수 있는 바인딩 인자 묶음.
+ */
+record JdbcPreparedBatch(List<EncodedLogEntry> entries, String table, List<Object[]> batchArgs) implements PreparedBatch {
+}
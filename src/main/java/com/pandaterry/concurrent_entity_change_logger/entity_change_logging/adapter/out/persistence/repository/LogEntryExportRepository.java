@@ -0,0 +1,114 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryExportPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ExportQuery;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경 이력 NDJSON 내보내기.
+ * PostgreSQL 드라이버는 autocommit 이 꺼져 있고 fetch size 가 지정돼야 서버 커서로 나눠 읽으므로
+ * 읽기 전용 트랜잭션 안에서 조회한다. 행은 엔티티/도메인 객체를 거치지 않고 바로 JSON 바이트로 쓴다.
+ */
+@Repository
+public class LogEntryExportRepository implements LogEntryExportPort {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+
+    public LogEntryExportRepository(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper, EntityLoggingProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getHistory().getExportFetchSize());
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public long export(ExportQuery query, OutputStream out) throws IOException {
+        List<Object> args = new ArrayList<>();
+        String sql = exportSql(query, args);
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            // 스트림은 호출한 쪽이 닫는다. 줄 구분은 직접 쓰므로 루트 값 구분자는 없앤다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            NdjsonRowWriter writer = new NdjsonRowWriter(generator);
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.query(sql, writer, args.toArray()));
+            return writer.rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 어떤 조건 조합이든 정렬은 이력 조회 인덱스 중 하나가 받는다 (LogEntrySql.HISTORY_INDEXES)
+    static String exportSql(ExportQuery query, List<Object> args) {
+        StringBuilder sql = new StringBuilder(LogEntrySql.SELECT_HISTORY);
+        LogEntryFilterSql.append(sql, args, query.entityName(), query.entityId(), query.operation(),
+                query.from(), query.to());
+        sql.append(" ORDER BY recorded_at, id");
+        return sql.toString();
+    }
+
+    private static final class NdjsonRowWriter implements RowCallbackHandler {
+        private final JsonGenerator generator;
+        private long rows;
+
+        private NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("id", rs.getString("id"));
+                generator.writeStringField("entityName", rs.getString("entity_name"));
+                generator.writeStringField("entityId", rs.getString("entity_id"));
+                generator.writeStringField("operation", rs.getString("operation"));
+                generator.writeStringField("recordedAt", rs.getTimestamp("recorded_at").toInstant().toString());
+                writeRawField("changes", rs.getString("changes"));
+                writeRawField("context", rs.getString("context"));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                rows++;
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊으면 여기서 멈추고 트랜잭션과 커서를 정리한다
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 저장된 JSON 문자열은 파싱하지 않고 그대로 쓴다
+        private void writeRawField(String name, String json) throws IOException {
+            generator.writeFieldName(name);
+            if (json == null) {
+                generator.writeNull();
+            } else {
+                generator.writeRawValue(json);
+            }
+        }
+    }
+}
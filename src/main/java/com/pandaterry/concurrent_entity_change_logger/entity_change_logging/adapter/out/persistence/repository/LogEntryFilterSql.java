@@ -0,0 +1,41 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 이력 조회/내보내기가 함께 쓰는 WHERE 조건 빌더. 비어 있는 조건은 생략한다.
+ */
+final class LogEntryFilterSql {
+
+    private LogEntryFilterSql() {
+    }
+
+    static void append(StringBuilder sql, List<Object> args, String entityName, String entityId,
+                       Operation operation, Instant from, Instant to) {
+        sql.append(" WHERE TRUE");
+        if (entityName != null) {
+            sql.append(" AND entity_name = ?");
+            args.add(entityName);
+        }
+        if (entityId != null) {
+            sql.append(" AND entity_id = ?");
+            args.add(entityId);
+        }
+        if (operation != null) {
+            sql.append(" AND operation = ?");
+            args.add(operation.name());
+        }
+        if (from != null) {
+            sql.append(" AND recorded_at >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND recorded_at < ?");
+            args.add(Timestamp.from(to));
+        }
+    }
+}
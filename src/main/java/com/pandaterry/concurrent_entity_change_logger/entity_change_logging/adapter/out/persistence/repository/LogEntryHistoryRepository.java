@@ -0,0 +1,62 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryHistoryPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryQuery;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 변경 이력 키셋 조회.
+ * 조건은 모두 인덱스 선두 컬럼의 등호 + (recorded_at, id) 범위이므로 페이지 위치와 무관하게 인덱스를 limit 만큼만 읽는다.
+ * JPA 엔티티로 매핑하지 않고 changes/context 는 JSON 문자열 그대로 돌려준다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogEntryHistoryRepository implements LogEntryHistoryPort {
+    private static final RowMapper<EncodedLogEntry> ROW_MAPPER = (rs, rowNum) -> {
+        Operation operation = Operation.valueOf(rs.getString("operation"));
+        return EncodedLogEntry.of(
+                LogEntryId.of(rs.getObject("id", UUID.class)),
+                EntityIdentifier.of(rs.getString("entity_name"), rs.getString("entity_id")),
+                operation,
+                rs.getTimestamp("recorded_at").toInstant(),
+                rs.getString("changes"),
+                rs.getString("context"),
+                operation.isHighPriority()
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<EncodedLogEntry> find(HistoryQuery query) {
+        StringBuilder sql = new StringBuilder(LogEntrySql.SELECT_HISTORY);
+        List<Object> args = new ArrayList<>();
+        LogEntryFilterSql.append(sql, args, query.entityName(), query.entityId(), query.operation(),
+                query.from(), query.to());
+
+        if (query.after() != null) {
+            // 행 비교로 써야 (recorded_at, id) 인덱스 범위 조건이 된다
+            sql.append(" AND (recorded_at, id) < (?, ?)");
+            args.add(Timestamp.from(query.after().recordedAt()));
+            args.add(query.after().id());
+        }
+
+        sql.append(" ORDER BY recorded_at DESC, id DESC LIMIT ?");
+        args.add(query.limit());
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+}
@@ -0,0 +1,82 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql.IndexDefinition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이력 조회 인덱스를 만든다. 쓰기를 막지 않도록 CONCURRENTLY 로 만든다.
+ * 파티션 테이블은 CONCURRENTLY 로 인덱스를 만들 수 없으므로 부모에는 ON ONLY 로 빈 인덱스만 만들고,
+ * 파티션마다 CONCURRENTLY 로 만든 인덱스를 붙인다. 모든 파티션이 붙으면 부모 인덱스가 유효해지고,
+ * 이후 생기는 파티션에는 자동으로 붙는다. 이미 유효한 인덱스는 확인만 하고 넘어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogEntryIndexInitializer {
+    private static final String PARTITIONED_TABLE = "p";
+    private static final String INDEX_PREFIX = "idx_" + LogEntrySql.TABLE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityLoggingProperties properties;
+
+    public void init() {
+        if (!properties.getHistory().isCreateIndexes()) {
+            return;
+        }
+
+        String kind = jdbcTemplate.queryForObject(LogEntrySql.SELECT_TABLE_KIND, String.class, LogEntrySql.TABLE);
+        if (kind == null) {
+            log.warn("{} 테이블이 없어 이력 조회 인덱스를 만들지 않습니다", LogEntrySql.TABLE);
+            return;
+        }
+
+        for (IndexDefinition index : LogEntrySql.HISTORY_INDEXES) {
+            if (PARTITIONED_TABLE.equals(kind)) {
+                createOnPartitions(index);
+            } else {
+                createConcurrently(index.name(), LogEntrySql.TABLE, index);
+            }
+        }
+        log.info("이력 조회 인덱스 확인 완료 - {}개", LogEntrySql.HISTORY_INDEXES.size());
+    }
+
+    private void createOnPartitions(IndexDefinition index) {
+        if (Boolean.TRUE.equals(isValid(index.name()))) {
+            return;
+        }
+
+        jdbcTemplate.execute(String.format(LogEntrySql.CREATE_INDEX_ON_PARENT,
+                index.name(), LogEntrySql.TABLE, index.columns()));
+        List<String> partitions = jdbcTemplate.queryForList(LogEntrySql.SELECT_PARTITIONS_WITHOUT_INDEX,
+                String.class, LogEntrySql.TABLE, index.name());
+        for (String partition : partitions) {
+            String partitionIndex = partition + index.name().substring(INDEX_PREFIX.length());
+            createConcurrently(partitionIndex, partition, index);
+            jdbcTemplate.execute(String.format(LogEntrySql.ATTACH_INDEX, index.name(), partitionIndex));
+            log.info("이력 조회 인덱스 생성 - {} ({})", partitionIndex, partition);
+        }
+    }
+
+    private void createConcurrently(String name, String table, IndexDefinition index) {
+        Boolean valid = isValid(name);
+        if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+        if (valid != null) {
+            // CONCURRENTLY 생성이 중간에 끊기면 쓸 수 없는 인덱스가 남고, IF NOT EXISTS 가 그 인덱스를 건너뛴다
+            jdbcTemplate.execute(String.format(LogEntrySql.DROP_INDEX_CONCURRENTLY, name));
+        }
+        jdbcTemplate.execute(String.format(LogEntrySql.CREATE_INDEX_CONCURRENTLY, name, table, index.columns()));
+    }
+
+    private Boolean isValid(String index) {
+        return jdbcTemplate.queryForObject(LogEntrySql.SELECT_INDEX_VALID, Boolean.class, index);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryReplayPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * WAL 재생 저장. unnest 배치 저장과 같은 배열 바인딩을 쓰되 이미 저장된 엔트리는 건너뛴다.
+ * 파티션 테이블의 PK 는 (id, recorded_at) 이라 recorded_at 까지 맞춰 찾아야 파티션 하나만 확인한다.
+ * 엔트리의 recorded_at 은 만들 때 마이크로초로 잘라 두므로 어느 경로로 저장됐든 WAL 에서 읽은 값과 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogEntryReplayRepository implements LogEntryReplayPort {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertMissing(List<EncodedLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> insert(connection, entries));
+        return inserted == null ? 0 : inserted;
+    }
+
+    private static int insert(Connection connection, List<EncodedLogEntry> entries) throws SQLException {
+        int size = entries.size();
+        String[] ids = new String[size];
+        String[] entityNames = new String[size];
+        String[] entityIds = new String[size];
+        String[] changes = new String[size];
+        String[] operations = new String[size];
+        String[] recordedAts = new String[size];
+        String[] contexts = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            EncodedLogEntry entry = entries.get(i);
+            ids[i] = entry.getId().toString();
+            entityNames[i] = entry.getEntityIdentifier().getEntityName();
+            entityIds[i] = entry.getEntityIdentifier().getEntityId();
+            changes[i] = entry.getChangesJson();
+            operations[i] = entry.getOperation().name();
+            recordedAts[i] = entry.getRecordedAt().toString();
+            contexts[i] = entry.getContextJson();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(LogEntrySql.INSERT_MISSING_UNNEST)) {
+            statement.setArray(1, connection.createArrayOf("text", ids));
+            statement.setArray(2, connection.createArrayOf("text", entityNames));
+            statement.setArray(3, connection.createArrayOf("text", entityIds));
+            statement.setArray(4, connection.createArrayOf("text", changes));
+            statement.setArray(5, connection.createArrayOf("text", operations));
+            statement.setArray(6, connection.createArrayOf("text", recordedAts));
+            statement.setArray(7, connection.createArrayOf("text", contexts));
+            return statement.executeUpdate();
+        }
+    }
+}
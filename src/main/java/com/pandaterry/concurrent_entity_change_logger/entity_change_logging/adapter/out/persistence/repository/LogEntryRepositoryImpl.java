@@ -1,9 +1,11 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.mapper.LogEntryMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryTableResolver;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryRepository;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
 import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,8 +18,6 @@ import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adap
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,9 +27,9 @@ public class LogEntryRepositoryImpl implements LogEntryRepository {
 
     private final LogEntryJpoCrudRepository crudRepository;
 
-    private final ObjectMapper objectMapper;
     private final JdbcTemplate jdbcTemplate;
     private final LogEntryMapper logEntryMapper;
+    private final LogEntryTableResolver tableResolver;
 
     @Transactional
     public List<LogEntry> saveAll(List<LogEntry> logEntries) {
@@ -43,42 +43,57 @@ public class LogEntryRepositoryImpl implements LogEntryRepository {
     }
 
 
+    // 커넥션을 잡기 전에 바인딩 인자를 미리 만들어 둔다
+    public PreparedBatch prepareBatch(List<EncodedLogEntry> toSave) {
+        List<Object[]> batchArgs = toSave.stream()
+                .map(this::convertToObjectArray)
+                .collect(Collectors.toList());
+        return new JdbcPreparedBatch(toSave, tableResolver.tableFor(toSave), batchArgs);
+    }
+
     @Transactional
-    public void saveBatch(List<LogEntry> toSave) {
-        if (toSave == null || toSave.isEmpty()) {
+    public void writeBatch(PreparedBatch prepared) {
+        if (!(prepared instanceof JdbcPreparedBatch jdbcBatch)) {
+            throw new IllegalArgumentException("Unsupported prepared batch: " + prepared.getClass().getName());
+        }
+
+        List<Object[]> batchArgs = jdbcBatch.batchArgs();
+        if (batchArgs.isEmpty()) {
             log.warn("저장할 로그 엔트리가 없습니다.");
             return;
         }
 
-        List<Object[]> batchArgs = toSave.stream()
-                .map(logEntryMapper::toEntity)
-                .map(this::convertToObjectArray)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        try {
+            int[] results = jdbcTemplate.batchUpdate(LogEntrySql.insertInto(jdbcBatch.table()), batchArgs);
+            log.info("배치 저장 완료: {} 건", results.length);
 
-        if (!batchArgs.isEmpty()) {
-            try {
-                int[] results = jdbcTemplate.batchUpdate(LogEntrySql.INSERT, batchArgs);
-                log.info("배치 저장 완료: {} 건", results.length);
+            // 실패한 건수 체크
+            long failedCount = java.util.Arrays.stream(results)
+                    .filter(result -> result == PreparedStatement.EXECUTE_FAILED)
+                    .count();
 
-                // 실패한 건수 체크
-                long failedCount = java.util.Arrays.stream(results)
-                        .filter(result -> result == PreparedStatement.EXECUTE_FAILED)
-                        .count();
+            if (failedCount > 0) {
+                log.warn("배치 처리 중 실패한 건수: {}", failedCount);
+            }
 
-                if (failedCount > 0) {
-                    log.warn("배치 처리 중 실패한 건수: {}", failedCount);
-                }
+        } catch (Exception e) {
+            log.error("배치 저장 실패", e);
+            throw new RuntimeException("로그 엔트리 배치 저장 실패", e);
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("배치 저장 실패", e);
-                throw new RuntimeException("로그 엔트리 배치 저장 실패", e);
-            }
+    @Transactional
+    public void saveBatch(List<EncodedLogEntry> toSave) {
+        if (toSave == null || toSave.isEmpty()) {
+            log.warn("저장할 로그 엔트리가 없습니다.");
+            return;
         }
+
+        writeBatch(prepareBatch(toSave));
     }
 
     @Transactional
-    public void saveBatchWithChunking(List<LogEntry> toSave, int chunkSize) {
+    public void saveBatchWithChunking(List<EncodedLogEntry> toSave, int chunkSize) {
         if (toSave == null || toSave.isEmpty()) {
             return;
         }
@@ -88,7 +103,7 @@ public class LogEntryRepositoryImpl implements LogEntryRepository {
 
         for (int i = 0; i < totalSize; i += chunkSize) {
             int endIndex = Math.min(i + chunkSize, totalSize);
-            List<LogEntry> chunk = toSave.subList(i, endIndex);
+            List<EncodedLogEntry> chunk = toSave.subList(i, endIndex);
 
             saveBatch(chunk);
             processedCount += chunk.size();
@@ -99,24 +114,16 @@ public class LogEntryRepositoryImpl implements LogEntryRepository {
         log.info("전체 배치 처리 완료: {} 건", processedCount);
     }
 
-    private Object[] convertToObjectArray(LogEntryJpo entry) {
-        try {
-            String changesJson = objectMapper.writeValueAsString(entry.getChanges());
-
-            String contextJson = objectMapper.writeValueAsString(entry.getContext());
-
-            return new Object[]{
-                    entry.getId(),
-                    entry.getEntityName(),
-                    entry.getEntityId(),
-                    changesJson,
-                    entry.getOperation().name(),
-                    Timestamp.from(entry.getRecordedAt()),
-                    contextJson
-            };
-        } catch (Exception e) {
-            log.error("LogEntry 변환 실패: {}", entry, e);
-            return null;
-        }
+    // changes/context 는 인코딩 단계에서 만든 JSON 을 그대로 바인딩한다
+    private Object[] convertToObjectArray(EncodedLogEntry entry) {
+        return new Object[]{
+                entry.getId().getValue(),
+                entry.getEntityIdentifier().getEntityName(),
+                entry.getEntityIdentifier().getEntityId(),
+                entry.getChangesJson(),
+                entry.getOperation().name(),
+                Timestamp.from(entry.getRecordedAt()),
+                entry.getContextJson()
+        };
     }
 }
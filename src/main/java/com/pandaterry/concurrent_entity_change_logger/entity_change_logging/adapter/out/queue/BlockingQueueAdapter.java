@@ -1,11 +1,9 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
 
 
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.mapper.LogEntryMapper;
 import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.entity.LogEntryJpo;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -22,9 +21,9 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class BlockingQueueAdapter implements QueuePort {
 
     private final EntityLoggingProperties loggingProperties;
-    private final LogEntryMapper logEntryMapper;
 
-    private BlockingQueue<LogEntryJpo> logQueue;
+    private BlockingQueue<EncodedLogEntry> logQueue;
+    private WaitStrategy waitStrategy;
     private volatile boolean shutdown = false;
 
     @Override
@@ -32,6 +31,7 @@ public class BlockingQueueAdapter implements QueuePort {
         this.logQueue = new LinkedBlockingQueue<>(
                 loggingProperties.getStrategy().getQueueSize()
         );
+        this.waitStrategy = WaitStrategy.of(loggingProperties.getStrategy().getWaitStrategy());
     }
 
     @Override
@@ -58,31 +58,41 @@ public class BlockingQueueAdapter implements QueuePort {
     }
 
     @Override
-    public boolean offer(LogEntry entry) {
+    public boolean offer(EncodedLogEntry entry) {
         if (shutdown) {
             log.debug("Shutdown 상태 - offer 거부");
             return false;
         }
 
-        try {
-            LogEntryJpo jpo = logEntryMapper.toEntity(entry);
-            return logQueue.offer(jpo);
-        } catch (Exception e) {
-            log.error("Offer 실패", e);
+        if (!logQueue.offer(entry)) {
             return false;
         }
+        waitStrategy.signalOffer(logQueue::size);
+        return true;
     }
 
     @Override
-    public int drainTo(List<LogEntry> batch, int maxElements) {
-        List<LogEntryJpo> jpoBatch = new java.util.ArrayList<>(maxElements);
-        int drained = logQueue.drainTo(jpoBatch, maxElements);
+    public boolean offer(EncodedLogEntry entry, long timeout, TimeUnit unit) throws InterruptedException {
+        if (shutdown) {
+            log.debug("Shutdown 상태 - offer 거부");
+            return false;
+        }
 
-        List<LogEntry> domainBatch = jpoBatch.stream()
-                .map(logEntryMapper::toDomain).toList();
-        batch.addAll(domainBatch);
+        if (!logQueue.offer(entry, timeout, unit)) {
+            return false;
+        }
+        waitStrategy.signalOffer(logQueue::size);
+        return true;
+    }
+
+    @Override
+    public void awaitBatch(int maxBatchSize, long lingerNanos) throws InterruptedException {
+        waitStrategy.awaitBatch(logQueue::size, maxBatchSize, lingerNanos);
+    }
 
-        return drained;
+    @Override
+    public int drainTo(List<EncodedLogEntry> batch, int maxElements) {
+        return logQueue.drainTo(batch, maxElements);
     }
 
     @Override
@@ -129,7 +139,7 @@ public class BlockingQueueAdapter implements QueuePort {
     }
 
     private void logRemainingData() {
-        List<LogEntryJpo> remaining = new ArrayList<>();
+        List<EncodedLogEntry> remaining = new ArrayList<>();
         logQueue.drainTo(remaining);
 
         log.warn("드롭되는 로그 엔트리 {}개:", remaining.size());
@@ -137,8 +147,8 @@ public class BlockingQueueAdapter implements QueuePort {
         // 처음 10개만 상세 로그
         remaining.stream()
                 .limit(10)
-                .forEach(jpo -> log.warn("드롭 엔트리 - Entity: {}, Operation: {}",
-                        jpo.getEntityName(), jpo.getOperation()));
+                .forEach(entry -> log.warn("드롭 엔트리 - Entity: {}, Operation: {}",
+                        entry.getEntityIdentifier().getEntityName(), entry.getOperation()));
 
         if (remaining.size() > 10) {
             log.warn("... 외 {}개 더 드롭됨", remaining.size() - 10);
@@ -0,0 +1,117 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 우선순위별로 레인을 나눈 QueuePort.
+ * DELETE 와 중요 필드 변경은 별도 용량의 high 레인에 들어가고 항상 먼저 꺼내지므로,
+ * 낮은 우선순위 변경이 몰려도 지연되거나 밀려나지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PriorityLaneQueueAdapter implements QueuePort {
+
+    private final EntityLoggingProperties loggingProperties;
+    private final MetricsPort metricsPort;
+
+    private RingBuffer<EncodedLogEntry> highLane;
+    private RingBuffer<EncodedLogEntry> normalLane;
+    private WaitStrategy waitStrategy;
+    private volatile boolean shutdown = false;
+
+    @Override
+    public void init() {
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        this.highLane = new RingBuffer<>(strategy.getHighPriorityQueueSize());
+        this.normalLane = new RingBuffer<>(strategy.getQueueSize());
+        this.waitStrategy = WaitStrategy.of(strategy.getWaitStrategy());
+
+        metricsPort.registerQueueLaneSizeGauge("high", highLane::size);
+        metricsPort.registerQueueLaneSizeGauge("normal", normalLane::size);
+
+        log.info("우선순위 레인 큐 초기화 - high: {}, normal: {}", highLane.capacity(), normalLane.capacity());
+    }
+
+    @Override
+    public boolean offer(EncodedLogEntry entry) {
+        if (shutdown) {
+            log.debug("Shutdown 상태 - offer 거부");
+            return false;
+        }
+
+        // high 레인이 가득 차면 버리지 않고 normal 레인으로 보낸다
+        if (entry.isHighPriority() && highLane.offer(entry)) {
+            waitStrategy.signalUrgent();
+            return true;
+        }
+        if (!normalLane.offer(entry)) {
+            return false;
+        }
+        waitStrategy.signalOffer(this::pendingForBatch);
+        return true;
+    }
+
+    @Override
+    public int drainTo(List<EncodedLogEntry> batch, int maxElements) {
+        int drained = highLane.drainTo(batch, maxElements);
+        if (drained < maxElements) {
+            drained += normalLane.drainTo(batch, maxElements - drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public EncodedLogEntry poll() {
+        // drop-oldest 정책이 high 레인 엔트리를 밀어내지 않도록 normal 레인부터 꺼낸다
+        List<EncodedLogEntry> polled = new ArrayList<>(1);
+        if (normalLane.drainTo(polled, 1) == 0) {
+            highLane.drainTo(polled, 1);
+        }
+        return polled.isEmpty() ? null : polled.get(0);
+    }
+
+    @Override
+    public void awaitBatch(int maxBatchSize, long lingerNanos) throws InterruptedException {
+        waitStrategy.awaitBatch(this::pendingForBatch, maxBatchSize, lingerNanos);
+    }
+
+    // high 레인 엔트리는 배치가 다 차거나 linger 가 끝나기를 기다리지 않도록 배치가 찬 것으로 본다
+    private int pendingForBatch() {
+        return highLane.isEmpty() ? normalLane.size() : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return highLane.remainingCapacity() + normalLane.remainingCapacity();
+    }
+
+    @Override
+    public int size() {
+        return highLane.size() + normalLane.size();
+    }
+
+    @Override
+    public void shutdown() {
+        if (shutdown) {
+            log.debug("이미 shutdown 상태입니다");
+            return;
+        }
+
+        shutdown = true;
+        List<EncodedLogEntry> remaining = new ArrayList<>();
+        drainTo(remaining, Integer.MAX_VALUE);
+
+        if (!remaining.isEmpty()) {
+            log.warn("우선순위 레인 큐 shutdown - 드롭되는 로그 엔트리 {}개", remaining.size());
+        }
+        log.info("우선순위 레인 큐 shutdown 완료");
+    }
+}
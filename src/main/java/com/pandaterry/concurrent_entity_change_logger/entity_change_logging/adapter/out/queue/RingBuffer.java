@@ -0,0 +1,124 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 미리 할당된 2의 거듭제곱 크기 배열 기반의 lock-free 링 버퍼.
+ * 슬롯마다 시퀀스를 두어 생산자는 CAS 한 번으로 슬롯을 점유하고,
+ * 소비자는 발행된 연속 구간을 CAS 한 번으로 일괄 점유한다.
+ */
+public final class RingBuffer<E> {
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public RingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive: " + requestedCapacity);
+        }
+        this.capacity = nextPowerOfTwo(requestedCapacity);
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "Ring buffer element cannot be null");
+
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.getAcquire(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 한 바퀴 전 슬롯이 아직 소비되지 않음 → 가득 참
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        if (maxElements <= 0) {
+            return 0;
+        }
+
+        while (true) {
+            long start = head.get();
+            int available = countPublished(start, maxElements);
+            if (available == 0) {
+                return 0;
+            }
+
+            if (head.compareAndSet(start, start + available)) {
+                for (int i = 0; i < available; i++) {
+                    long position = start + i;
+                    int index = (int) (position & mask);
+                    E element = (E) elements[index];
+                    elements[index] = null;
+                    sequences.setRelease(index, position + capacity);
+                    target.add(element);
+                }
+                return available;
+            }
+        }
+    }
+
+    private int countPublished(long start, int maxElements) {
+        int available = 0;
+        while (available < maxElements) {
+            long position = start + available;
+            if (sequences.getAcquire((int) (position & mask)) != position + 1) {
+                break;
+            }
+            available++;
+        }
+        return available;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        if (highest == value) {
+            return value;
+        }
+        if (highest >= (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity too large: " + value);
+        }
+        return highest << 1;
+    }
+}
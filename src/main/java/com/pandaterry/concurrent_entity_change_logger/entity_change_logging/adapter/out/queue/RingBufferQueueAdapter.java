@@ -0,0 +1,84 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link RingBuffer} 기반 QueuePort.
+ * offer 마다 노드를 할당하거나 락을 잡지 않으며, 도메인 객체를 그대로 보관해 매핑 비용도 없다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RingBufferQueueAdapter implements QueuePort {
+
+    private final EntityLoggingProperties loggingProperties;
+
+    private RingBuffer<EncodedLogEntry> ringBuffer;
+    private WaitStrategy waitStrategy;
+    private volatile boolean shutdown = false;
+
+    @Override
+    public void init() {
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        this.ringBuffer = new RingBuffer<>(strategy.getQueueSize());
+        this.waitStrategy = WaitStrategy.of(strategy.getWaitStrategy());
+
+        log.info("RingBuffer 초기화 - 용량: {}, 대기 전략: {}", ringBuffer.capacity(), strategy.getWaitStrategy());
+    }
+
+    @Override
+    public boolean offer(EncodedLogEntry entry) {
+        if (shutdown) {
+            log.debug("Shutdown 상태 - offer 거부");
+            return false;
+        }
+        if (!ringBuffer.offer(entry)) {
+            return false;
+        }
+        waitStrategy.signalOffer(ringBuffer::size);
+        return true;
+    }
+
+    @Override
+    public int drainTo(List<EncodedLogEntry> batch, int maxElements) {
+        return ringBuffer.drainTo(batch, maxElements);
+    }
+
+    @Override
+    public void awaitBatch(int maxBatchSize, long lingerNanos) throws InterruptedException {
+        waitStrategy.awaitBatch(ringBuffer::size, maxBatchSize, lingerNanos);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return ringBuffer.remainingCapacity();
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    @Override
+    public void shutdown() {
+        if (shutdown) {
+            log.debug("이미 shutdown 상태입니다");
+            return;
+        }
+
+        shutdown = true;
+        List<EncodedLogEntry> remaining = new ArrayList<>();
+        ringBuffer.drainTo(remaining, Integer.MAX_VALUE);
+
+        if (!remaining.isEmpty()) {
+            log.warn("RingBuffer shutdown - 드롭되는 로그 엔트리 {}개", remaining.size());
+        }
+        log.info("RingBuffer shutdown 완료");
+    }
+}
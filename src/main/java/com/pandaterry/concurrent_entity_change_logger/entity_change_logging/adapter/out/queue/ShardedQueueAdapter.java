@@ -0,0 +1,204 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * EntityIdentifier 해시로 엔트리를 N 개의 독립 샤드에 분배하는 QueuePort.
+ * 샤드마다 전용 워커 하나가 소비하므로 같은 엔티티의 변경은 순서대로 저장되고 워커 간 경합이 없다.
+ * 샤드는 처음 꺼내 간 스레드가 소비자로 고정되며, 그 스레드가 살아 있는 동안 다른 스레드는 꺼내 가지 못한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardedQueueAdapter implements QueuePort {
+
+    private final EntityLoggingProperties loggingProperties;
+    private final MetricsPort metricsPort;
+
+    private List<Shard> shards;
+    private WaitStrategy waitStrategy;
+    private volatile boolean shutdown = false;
+
+    @Override
+    public void init() {
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        int shardCount = strategy.getShardCount();
+        int shardCapacity = Math.max(1, strategy.getQueueSize() / shardCount);
+
+        List<Shard> created = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(shardCapacity, WaitStrategy.of(strategy.getWaitStrategy()));
+            metricsPort.registerShardQueueSizeGauge(i, shard::size);
+            created.add(shard);
+        }
+        this.shards = List.copyOf(created);
+        this.waitStrategy = WaitStrategy.of(strategy.getWaitStrategy());
+
+        log.info("샤드 큐 초기화 - 샤드: {}개, 샤드당 용량: {}", shardCount, created.get(0).ringBuffer.capacity());
+    }
+
+    @Override
+    public boolean offer(EncodedLogEntry entry) {
+        if (shutdown) {
+            log.debug("Shutdown 상태 - offer 거부");
+            return false;
+        }
+        Shard shard = shardOf(entry);
+        if (!shard.offer(entry)) {
+            return false;
+        }
+        // 샤드가 하나뿐이면 워커들이 어댑터 전체를 기다리므로 어댑터에도 신호를 보낸다.
+        // 전체 크기를 세면 offer 마다 샤드 수만큼 일하므로 엔트리가 들어간 샤드의 깊이만 넘긴다
+        waitStrategy.signalOffer(shard::size);
+        return true;
+    }
+
+    private Shard shardOf(EncodedLogEntry entry) {
+        return shards.get(shardIndexOf(entry));
+    }
+
+    @Override
+    public int shardIndexOf(EncodedLogEntry entry) {
+        int hash = entry.getEntityIdentifier().hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.size());
+    }
+
+    @Override
+    public int drainTo(List<EncodedLogEntry> batch, int maxElements) {
+        // 플러시/종료 경로용: 호출 스레드가 소비자이거나 소비자 워커가 끝난 샤드에서만 가져온다
+        int drained = 0;
+        for (Shard shard : shards) {
+            if (drained >= maxElements) {
+                break;
+            }
+            drained += shard.drainTo(batch, maxElements - drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public EncodedLogEntry evictOldestFor(EncodedLogEntry entry) {
+        // 가득 찬 것은 entry 가 들어갈 샤드이므로 그 샤드에서 밀어낸다
+        return shardOf(entry).evictOldest();
+    }
+
+    @Override
+    public void awaitBatch(int maxBatchSize, long lingerNanos) throws InterruptedException {
+        waitStrategy.awaitBatch(this::size, maxBatchSize, lingerNanos);
+    }
+
+    @Override
+    public List<QueuePort> shards() {
+        return List.copyOf(shards);
+    }
+
+    @Override
+    public boolean isSharded() {
+        return true;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return shards.stream().mapToInt(Shard::remainingCapacity).sum();
+    }
+
+    @Override
+    public int size() {
+        return shards.stream().mapToInt(Shard::size).sum();
+    }
+
+    @Override
+    public void shutdown() {
+        if (shutdown) {
+            log.debug("이미 shutdown 상태입니다");
+            return;
+        }
+
+        shutdown = true;
+        List<EncodedLogEntry> remaining = new ArrayList<>();
+        drainTo(remaining, Integer.MAX_VALUE);
+
+        if (!remaining.isEmpty()) {
+            log.warn("샤드 큐 shutdown - 드롭되는 로그 엔트리 {}개", remaining.size());
+        }
+        log.info("샤드 큐 shutdown 완료");
+    }
+
+    private static final class Shard implements QueuePort {
+        private final RingBuffer<EncodedLogEntry> ringBuffer;
+        private final WaitStrategy waitStrategy;
+        private final AtomicReference<Thread> consumer = new AtomicReference<>();
+
+        private Shard(int capacity, WaitStrategy waitStrategy) {
+            this.ringBuffer = new RingBuffer<>(capacity);
+            this.waitStrategy = waitStrategy;
+        }
+
+        @Override
+        public boolean offer(EncodedLogEntry entry) {
+            if (!ringBuffer.offer(entry)) {
+                return false;
+            }
+            waitStrategy.signalOffer(ringBuffer::size);
+            return true;
+        }
+
+        @Override
+        public int drainTo(List<EncodedLogEntry> batch, int maxElements) {
+            if (!claimConsumer()) {
+                return 0;
+            }
+            return ringBuffer.drainTo(batch, maxElements);
+        }
+
+        // 밀어낸 엔트리는 저장하지 않으므로 소비자가 아닌 생산자 스레드도 꺼낼 수 있다
+        private EncodedLogEntry evictOldest() {
+            List<EncodedLogEntry> evicted = new ArrayList<>(1);
+            return ringBuffer.drainTo(evicted, 1) > 0 ? evicted.get(0) : null;
+        }
+
+        // 두 스레드가 한 샤드를 나눠 저장하면 같은 엔티티의 변경 순서가 뒤바뀌므로 소비자는 항상 하나
+        private boolean claimConsumer() {
+            Thread current = Thread.currentThread();
+            Thread owner = consumer.get();
+            if (owner == current) {
+                return true;
+            }
+            if (owner != null && owner.isAlive()) {
+                return false;
+            }
+            return consumer.compareAndSet(owner, current);
+        }
+
+        @Override
+        public void awaitBatch(int maxBatchSize, long lingerNanos) throws InterruptedException {
+            waitStrategy.awaitBatch(ringBuffer::size, maxBatchSize, lingerNanos);
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return ringBuffer.remainingCapacity();
+        }
+
+        @Override
+        public int size() {
+            return ringBuffer.size();
+        }
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 소비자가 배치를 기다리는 방식.
+ * 큐가 비어 있으면 첫 엔트리가 들어올 때까지 대기하고, 이후 maxBatchSize 가 차거나 linger 시간이 지나면 돌아간다.
+ * 지연 시간과 CPU 사용량 사이의 트레이드오프를 배포 환경별로 선택한다.
+ */
+public interface WaitStrategy {
+    // 빈 큐에서 기다리는 최대 시간. 소비자가 주기적으로 종료 여부를 확인할 수 있게 한다
+    long MAX_IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    void awaitBatch(IntSupplier pendingSize, int maxBatchSize, long lingerNanos) throws InterruptedException;
+
+    // offer 성공 후 생산자가 호출. 대기 중인 소비자가 없으면 아무 일도 하지 않는다
+    default void signalOffer(IntSupplier pendingSize) {
+    }
+
+    // 배치를 기다리지 않고 바로 처리해야 하는 엔트리가 들어왔음을 알린다
+    default void signalUrgent() {
+    }
+
+    static WaitStrategy of(String name) {
+        return switch (name.toLowerCase()) {
+            case "busy-spin" -> new BusySpinWaitStrategy();
+            case "yield" -> new YieldingWaitStrategy();
+            case "block", "park" -> new BlockingWaitStrategy();
+            default -> throw new IllegalArgumentException("Unknown wait strategy: " + name);
+        };
+    }
+
+    /** 생산자 신호 없이 큐 크기를 직접 확인하며 기다리는 전략의 공통 루프 */
+    abstract class SpinningWaitStrategy implements WaitStrategy {
+        @Override
+        public void awaitBatch(IntSupplier pendingSize, int maxBatchSize, long lingerNanos) throws InterruptedException {
+            int attempt = 0;
+            long idleDeadline = System.nanoTime() + MAX_IDLE_NANOS;
+            while (pendingSize.getAsInt() == 0) {
+                if (System.nanoTime() - idleDeadline >= 0) {
+                    return;
+                }
+                idle(attempt++);
+            }
+
+            long lingerDeadline = System.nanoTime() + lingerNanos;
+            while (pendingSize.getAsInt() < maxBatchSize && System.nanoTime() - lingerDeadline < 0) {
+                idle(attempt++);
+            }
+        }
+
+        protected abstract void idle(int attempt) throws InterruptedException;
+
+        protected static void checkInterrupted() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /** 가장 낮은 지연, 대기 중에도 코어 하나를 점유 */
+    final class BusySpinWaitStrategy extends SpinningWaitStrategy {
+        @Override
+        protected void idle(int attempt) throws InterruptedException {
+            checkInterrupted();
+            Thread.onSpinWait();
+        }
+    }
+
+    /** 잠깐 스핀 후 다른 스레드에 CPU 를 양보 */
+    final class YieldingWaitStrategy extends SpinningWaitStrategy {
+        private static final int SPIN_TRIES = 100;
+
+        @Override
+        protected void idle(int attempt) throws InterruptedException {
+            checkInterrupted();
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * 소비자는 Condition 에서 잠들고 생산자가 깨운다. 유휴 시 CPU 를 쓰지 않는다.
+     * 생산자는 잠든 소비자가 있을 때만 락을 잡으므로 평상시 offer 경로에는 락이 없다.
+     */
+    final class BlockingWaitStrategy implements WaitStrategy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition batchReady = lock.newCondition();
+        private final AtomicInteger idleWaiters = new AtomicInteger();
+        private final AtomicInteger lingerWaiters = new AtomicInteger();
+        private volatile int batchThreshold = Integer.MAX_VALUE;
+
+        @Override
+        public void awaitBatch(IntSupplier pendingSize, int maxBatchSize, long lingerNanos) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                // 대기자 수를 먼저 올린 뒤 크기를 다시 확인해야 생산자 신호를 놓치지 않는다
+                idleWaiters.incrementAndGet();
+                try {
+                    long remaining = MAX_IDLE_NANOS;
+                    while (pendingSize.getAsInt() == 0 && remaining > 0) {
+                        remaining = notEmpty.awaitNanos(remaining);
+                    }
+                } finally {
+                    idleWaiters.decrementAndGet();
+                }
+
+                if (pendingSize.getAsInt() == 0 || lingerNanos <= 0) {
+                    return;
+                }
+
+                batchThreshold = maxBatchSize;
+                lingerWaiters.incrementAndGet();
+                try {
+                    long remaining = lingerNanos;
+                    while (pendingSize.getAsInt() < maxBatchSize && remaining > 0) {
+                        remaining = batchReady.awaitNanos(remaining);
+                    }
+                } finally {
+                    lingerWaiters.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalOffer(IntSupplier pendingSize) {
+            if (idleWaiters.get() > 0) {
+                signal(notEmpty);
+            }
+            if (lingerWaiters.get() > 0 && pendingSize.getAsInt() >= batchThreshold) {
+                signal(batchReady);
+            }
+        }
+
+        @Override
+        public void signalUrgent() {
+            if (idleWaiters.get() > 0 || lingerWaiters.get() > 0) {
+                lock.lock();
+                try {
+                    notEmpty.signalAll();
+                    batchReady.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void signal(Condition condition) {
+            lock.lock();
+            try {
+                condition.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
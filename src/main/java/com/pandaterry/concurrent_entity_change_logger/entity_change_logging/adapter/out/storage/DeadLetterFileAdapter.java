@@ -0,0 +1,250 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.JsonLogEntryEncoder;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 끝내 저장하지 못한 엔트리를 보관하는 로컬 세그먼트 파일.
+ * 한 줄에 {"failedAt", "reason", "entry"} 하나씩 NDJSON 으로 남겨 사람이 바로 열어볼 수 있게 한다.
+ * 재처리 시 현재 세그먼트를 봉인하고 새 세그먼트로 넘어가므로, 재처리 중 다시 실패한 엔트리는 새 세그먼트에 쌓인다.
+ * 세그먼트는 끝까지 처리한 뒤에만 지우고 대기 건수도 그때 줄인다. 중간에 실패하면 세그먼트가 그대로 남아
+ * 다음 재처리에서 처음부터 다시 읽으므로, handler 는 이미 저장한 엔트리를 다시 받아도 되도록 멱등해야 한다.
+ */
+@Slf4j
+public class DeadLetterFileAdapter implements DeadLetterPort {
+    private static final String DEAD_LETTER_DIRECTORY = "logs/dead-letter";
+    private static final String SEGMENT_PREFIX = "dead-letter-";
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+
+    private final JsonLogEntryEncoder encoder;
+    private final ObjectMapper objectMapper;
+    private final MetricsPort metricsPort;
+    private final Path directory;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    private long currentSegment;
+    private FileChannel channel;
+
+    public DeadLetterFileAdapter(JsonLogEntryEncoder encoder, ObjectMapper objectMapper, MetricsPort metricsPort) {
+        this.encoder = encoder;
+        this.objectMapper = objectMapper;
+        this.metricsPort = metricsPort;
+        this.directory = Paths.get(DEAD_LETTER_DIRECTORY);
+    }
+
+    @Override
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+
+        long lastSegment = -1;
+        for (long index : listSegmentIndexes()) {
+            Path path = segmentPath(index);
+            if (Files.size(path) == 0) {
+                Files.delete(path);
+                continue;
+            }
+            pendingCount.addAndGet(countLines(path));
+            lastSegment = index;
+        }
+
+        writeLock.lock();
+        try {
+            this.currentSegment = lastSegment + 1;
+            this.channel = openSegment(currentSegment);
+        } finally {
+            writeLock.unlock();
+        }
+
+        metricsPort.registerDeadLetterSizeGauge(pendingCount::get);
+        if (pendingCount.get() > 0) {
+            log.warn("재처리 대기 중인 데드레터 {}건", pendingCount.get());
+        }
+    }
+
+    @Override
+    public void write(EncodedLogEntry entry, String reason) throws IOException {
+        ByteBuffer record = ByteBuffer.wrap(toRecord(entry, reason));
+
+        writeLock.lock();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            // 드물게 쓰이고 잃으면 안 되는 기록이므로 바로 디스크에 내린다
+            channel.force(false);
+            pendingCount.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public int replay(Consumer<List<EncodedLogEntry>> handler, int batchSize) throws IOException {
+        if (!replayLock.tryLock()) {
+            throw new IllegalStateException("데드레터 재처리가 이미 진행 중입니다");
+        }
+
+        try {
+            long sealedSegment = rotate();
+            int replayed = 0;
+
+            for (long index : listSegmentIndexes()) {
+                if (index > sealedSegment) {
+                    break;
+                }
+                Path path = segmentPath(index);
+                SegmentReplay segment = replaySegment(path, handler, batchSize);
+                Files.deleteIfExists(path);
+                pendingCount.addAndGet(-segment.records());
+                replayed += segment.replayed();
+            }
+            return replayed;
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private SegmentReplay replaySegment(Path path, Consumer<List<EncodedLogEntry>> handler, int batchSize)
+            throws IOException {
+        int replayed = 0;
+        int records = 0;
+        List<EncodedLogEntry> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                EncodedLogEntry entry = fromRecord(line, path);
+                records++;
+                if (entry == null) {
+                    continue;
+                }
+
+                batch.add(entry);
+                if (batch.size() == batchSize) {
+                    handler.accept(batch);
+                    replayed += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            handler.accept(batch);
+            replayed += batch.size();
+        }
+        return new SegmentReplay(replayed, records);
+    }
+
+    // 현재 세그먼트를 봉인하고 새 세그먼트로 넘어간다. 봉인한 세그먼트 번호를 돌려준다
+    private long rotate() throws IOException {
+        writeLock.lock();
+        try {
+            long sealed = currentSegment;
+            channel.close();
+            currentSegment++;
+            channel = openSegment(currentSegment);
+            return sealed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private byte[] toRecord(EncodedLogEntry entry, String reason) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(("{\"failedAt\":\"" + Instant.now() + "\",\"reason\":").getBytes(StandardCharsets.UTF_8));
+        output.write(objectMapper.writeValueAsBytes(reason));
+        output.write(",\"entry\":".getBytes(StandardCharsets.UTF_8));
+        output.write(encoder.toJson(entry));
+        output.write("}\n".getBytes(StandardCharsets.UTF_8));
+        return output.toByteArray();
+    }
+
+    private EncodedLogEntry fromRecord(String line, Path path) {
+        try {
+            JsonNode record = objectMapper.readTree(line);
+            return encoder.fromJson(objectMapper.writeValueAsBytes(record.get("entry")));
+        } catch (Exception e) {
+            log.error("손상된 데드레터 레코드 건너뜀 - {}", path, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            log.error("Failed to close dead letter segment", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private FileChannel openSegment(long index) throws IOException {
+        return FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private long countLines(Path path) throws IOException {
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank()).count();
+        }
+    }
+
+    private List<Long> listSegmentIndexes() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(
+                            SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    // records 는 손상되어 건너뛴 줄까지 포함한 세그먼트의 레코드 수
+    private record SegmentReplay(int replayed, int records) {
+    }
+}
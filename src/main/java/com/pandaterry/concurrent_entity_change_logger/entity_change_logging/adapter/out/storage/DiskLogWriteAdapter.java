@@ -1,166 +1,203 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.entity.LogEntryJpo;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.mapper.LogEntryMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.JsonLogEntryEncoder;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.WalLogEntryCodec;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.FsyncPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.GroupCommitWalWriter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.MappedWalAppender;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.SegmentedWalAppender;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalAppender;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalPayload;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalReader;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogStoragePort;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.Checkpoint;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
-
-import java.io.*;
-import java.nio.channels.Channels;
-import java.nio.channels.FileChannel;
-import java.nio.channels.FileLock;
-import java.nio.channels.OverlappingFileLockException;
-import java.nio.file.*;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicLong;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ObjLongConsumer;
 
 @Slf4j
-@Component
 public class DiskLogWriteAdapter implements LogStoragePort {
-    private static final int BUFFER_SIZE = 8192;
-    private static final String LOG_FILE_PATH = "logs/entity-changes.log";
+    private static final String WAL_DIRECTORY = "logs/wal";
+    private static final String LEGACY_LOG_FILE_PATH = "logs/entity-changes.log";
     private static final String CHECKPOINT_FILE = "checkpoint.json";
-    private static final String BACKUP_SUFFIX = ".backup";
+    private static final String CHECKPOINT_TEMP_FILE = "checkpoint.json.tmp";
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
 
-    private final LogEntryMapper logEntryMapper;
+    private final WalLogEntryCodec codec;
     private final ObjectMapper objectMapper;
-    private final Path logFilePath;
-    private final AtomicLong filePosition;
-    private RandomAccessFile logFile;
-    private BufferedOutputStream bufferedOutput;
-    private FileChannel channel;
-    private FileLock lock;
-
-    public DiskLogWriteAdapter(LogEntryMapper logEntryMapper, ObjectMapper objectMapper) {
+    private final EntityLoggingProperties.Wal settings;
+    private final MetricsPort metricsPort;
+    private final PersistedWalCursor persistedCursor;
+    private final Path walDirectory;
+    private WalAppender appender;
+    private GroupCommitWalWriter writer;
+    private long lastCheckpointNanos;
+    // 마지막으로 저장한 체크포인트 (writer 스레드 전용)
+    private long checkpointedPosition = -1;
+    private long checkpointedPersistedPosition = -1;
+    // 지난 실행의 재생 구간 (replayFrom, replayTo]
+    private long replayFrom;
+    private long replayTo;
+
+    public DiskLogWriteAdapter(JsonLogEntryEncoder encoder, ObjectMapper objectMapper,
+                               EntityLoggingProperties.Wal settings, MetricsPort metricsPort,
+                               PersistedWalCursor persistedCursor) {
         this.objectMapper = objectMapper;
-        this.logEntryMapper = logEntryMapper;
-        this.logFilePath = Paths.get(LOG_FILE_PATH);
-        this.filePosition = new AtomicLong(0);
+        this.codec = new WalLogEntryCodec(encoder, objectMapper, settings.getRecordFormat());
+        this.settings = settings;
+        this.metricsPort = metricsPort;
+        this.persistedCursor = persistedCursor;
+        this.walDirectory = Paths.get(WAL_DIRECTORY);
     }
 
     @Override
     public void init() throws IOException {
-        Files.createDirectories(logFilePath.getParent());
-
-        // 파일 잠금 획득
-        this.logFile = new RandomAccessFile(logFilePath.toFile(), "rw");
-        this.channel = logFile.getChannel();
-
-        try {
-            this.lock = channel.tryLock(0L, Long.MAX_VALUE, false);
-        } catch (OverlappingFileLockException e) {
-            throw new RuntimeException("JVM 에서 이미 락이 걸려있어서 파일 락을 획득할 수 없습니다. " + e);
-        }
-        if (lock == null) {
-            throw new IOException("다른 프로세스가 락을 갖고 있어서 락을 획득할 수 없습니다.");
+        if (Files.exists(Paths.get(LEGACY_LOG_FILE_PATH))) {
+            log.info("이전 형식의 {} 는 더 이상 쓰지 않습니다. 새 WAL 은 {} 에 기록됩니다", LEGACY_LOG_FILE_PATH, walDirectory);
         }
 
-        // 버퍼링 설정
-        this.bufferedOutput = new BufferedOutputStream(
-                Channels.newOutputStream(channel), BUFFER_SIZE);
-
-        // 체크포인트 로드
-        loadCheckpoint();
+        this.appender = switch (settings.getAppender().toLowerCase()) {
+            case "mmap" -> new MappedWalAppender(walDirectory, (int) settings.getSegmentSize());
+            case "channel" -> new SegmentedWalAppender(walDirectory, settings.getSegmentSize());
+            default -> throw new IllegalArgumentException("Unknown WAL appender: " + settings.getAppender());
+        };
+        this.replayTo = appender.position();
+        this.replayFrom = Math.min(loadPersistedPosition(), replayTo);
+        persistedCursor.begin(replayFrom, replayTo);
+
+        this.writer = new GroupCommitWalWriter(
+                appender,
+                FsyncPolicy.from(settings.getFsyncPolicy()),
+                settings.getGroupMaxDelay(),
+                settings.getGroupMaxBytes(),
+                settings.getMaxPendingBytes(),
+                settings.getFsyncInterval(),
+                metricsPort,
+                this::checkpointIfDue
+        );
+        writer.start();
+        log.info("WAL 시작 - {}, 위치: {}, 방식: {}, 형식: {}, fsync: {}", walDirectory, appender.position(),
+                settings.getAppender(), settings.getRecordFormat(), settings.getFsyncPolicy());
     }
 
     @Override
-    public synchronized void write(LogEntry entry) throws IOException {
-        try {
-
-            LogEntryJpo jpo = logEntryMapper.toEntity(entry);
-            String json = objectMapper.writeValueAsString(jpo) + "\n";
-            byte[] data = json.getBytes();
-
-            // 버퍼에 쓰기
-            bufferedOutput.write(data);
-            bufferedOutput.flush();
-
-            // 위치 업데이트
-            filePosition.addAndGet(data.length);
-
-            // 체크포인트 저장
-            saveCheckpoint();
-        } catch (IOException e) {
-            // 파일 손상 감지 및 복구
-            if (isFileCorrupted()) {
-                recoverFromBackup();
+    public CompletableFuture<Long> write(EncodedLogEntry entry) {
+        // 직렬화는 요청 스레드에서, 이름 사전 치환과 파일 쓰기는 writer 스레드에서 한다
+        WalPayload payload = codec.encode(entry);
+        AtomicBoolean appended = new AtomicBoolean();
+        persistedCursor.submitted();
+        CompletableFuture<Long> future = writer.append(payload, position -> {
+            appended.set(true);
+            persistedCursor.written(entry.getId(), position);
+        });
+        future.whenComplete((position, e) -> {
+            // 파일에 쓰이기 전에 실패하면 위치를 알릴 일이 없다
+            if (e != null && !appended.get()) {
+                persistedCursor.abandoned();
             }
-            throw e;
+        });
+        return future;
+    }
+
+    @Override
+    public long replay(ObjLongConsumer<EncodedLogEntry> handler) throws IOException {
+        if (replayFrom >= replayTo) {
+            return 0;
         }
+        long[] replayed = {0};
+        // 기동 후 새로 쓰인 레코드는 재생 대상이 아니다
+        WalReader.read(walDirectory, replayFrom, codec, (sequence, position, entry) -> {
+            if (position <= replayTo) {
+                handler.accept(entry, position);
+                replayed[0]++;
+            }
+        });
+        return replayed[0];
     }
 
-    private boolean isFileCorrupted() {
+    private long loadPersistedPosition() {
+        File file = new File(CHECKPOINT_FILE);
+        if (!file.exists()) {
+            return 0;
+        }
         try {
-            // 파일 크기와 체크포인트 위치 비교
-            long fileSize = logFile.length();
-            return fileSize < filePosition.get();
+            return objectMapper.readValue(file, Checkpoint.class).getPersistedPosition();
         } catch (IOException e) {
-            return true;
+            log.warn("체크포인트를 읽지 못해 WAL 처음부터 재생합니다", e);
+            return 0;
         }
     }
 
-    private void recoverFromBackup() throws IOException {
-        Path backupPath = logFilePath.resolveSibling(logFilePath.getFileName() + BACKUP_SUFFIX);
-
-        // 백업 파일이 있으면 복구
-        if (Files.exists(backupPath)) {
-            // 현재 파일 백업
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-            Path corruptedBackup = logFilePath.resolveSibling("corrupted-" + timestamp + ".log");
-            Files.move(logFilePath, corruptedBackup);
-
-            // 백업에서 복구
-            Files.copy(backupPath, logFilePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // 리소스 재초기화
-            close();
-            init();
-        } else {
-            throw new IOException("No backup file available for recovery");
+    // writer 스레드에서만 호출된다. 체크포인트는 위치 기록용이라 그룹마다가 아니라 주기적으로만 쓴다.
+    // 쓰기가 멈춰도 writer 가 유휴 주기마다 부르므로 나중에 정산된 커서도 체크포인트에 반영된다
+    private void checkpointIfDue(long position) {
+        long now = System.nanoTime();
+        if (now - lastCheckpointNanos < CHECKPOINT_INTERVAL_NANOS) {
+            return;
+        }
+        lastCheckpointNanos = now;
+        if (position == checkpointedPosition && persistedCursor.position() == checkpointedPersistedPosition) {
+            return;
         }
+        saveCheckpoint(position);
     }
 
-    private void saveCheckpoint() throws IOException {
-        Checkpoint checkpoint = new Checkpoint(
-                filePosition.get(),
-                LocalDateTime.now());
-        objectMapper.writeValue(new File(CHECKPOINT_FILE), checkpoint);
-
-        // 백업 파일 생성
-        Path backupPath = logFilePath.resolveSibling(logFilePath.getFileName() + BACKUP_SUFFIX);
-        Files.copy(logFilePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
-    }
+    private void saveCheckpoint(long position) {
+        long persistedPosition = persistedCursor.position();
+        try {
+            // 재생 커서가 들어 있으므로 쓰다 만 파일이 남지 않게 바꿔치기한다
+            Path temp = Paths.get(CHECKPOINT_TEMP_FILE);
+            objectMapper.writeValue(temp.toFile(), Checkpoint.current(position, persistedPosition));
+            Files.move(temp, Paths.get(CHECKPOINT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("체크포인트 저장 실패 - 위치: {}", position, e);
+            return;
+        }
+        checkpointedPosition = position;
+        checkpointedPersistedPosition = persistedPosition;
 
-    private void loadCheckpoint() throws IOException {
-        File checkpointFile = new File(CHECKPOINT_FILE);
-        if (checkpointFile.exists()) {
-            Checkpoint checkpoint = objectMapper.readValue(checkpointFile, Checkpoint.class);
-            filePosition.set(checkpoint.getPosition());
+        try {
+            // 기록한 커서보다 앞에서 끝나는 세그먼트는 다시 읽을 일이 없다.
+            // 체크포인트가 디스크에 닿기 전에 죽어도 예전 커서로 남은 세그먼트부터 다시 재생할 뿐이고 재생은 중복을 건너뛴다
+            appender.deleteSegmentsBefore(persistedPosition);
+        } catch (IOException e) {
+            log.warn("WAL 세그먼트 정리 실패 - 커서: {}", persistedPosition, e);
         }
     }
 
     @Override
     public void close() {
         try {
-            if (bufferedOutput != null) {
-                bufferedOutput.close();
-            }
-            if (lock != null) {
-                lock.release();
+            if (writer != null) {
+                writer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
             }
-            if (channel != null) {
-                channel.close();
-            }
-            if (logFile != null) {
-                logFile.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            if (appender != null) {
+                saveCheckpoint(appender.position());
+                appender.close();
             }
         } catch (IOException e) {
             log.error("Failed to close resources", e);
         }
     }
-}
\ No newline at end of file
+}
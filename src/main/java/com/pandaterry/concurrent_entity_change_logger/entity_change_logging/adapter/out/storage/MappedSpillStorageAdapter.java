@@ -0,0 +1,415 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.JsonLogEntryEncoder;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillRead;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 맵 세그먼트 파일 기반 오버플로 저장소.
+ * 레코드는 [길이(int)][엔트리 JSON] 형식으로 이어 쓰며, 페이지 캐시에 바로 쓰므로 메모리에 가까운 속도로 버스트를 흡수한다.
+ * 큐 샤드마다 logs/spill/lane-N 레인을 따로 두어 같은 엔티티의 엔트리는 한 레인에서 순서대로 꺼내진다.
+ * 커서 파일에는 저장이 확인된 위치만 남기므로, 꺼냈지만 저장하지 못한 레코드는 재기동 시 다시 꺼내진다.
+ */
+@Slf4j
+public class MappedSpillStorageAdapter implements SpillStoragePort {
+    private static final String SPILL_DIRECTORY = "logs/spill";
+    private static final String LANE_PREFIX = "lane-";
+    private static final String SEGMENT_PREFIX = "spill-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CURSOR_FILE = "cursor";
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int CURSOR_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final JsonLogEntryEncoder encoder;
+    private final MetricsPort metricsPort;
+    private final int segmentSize;
+    private final int laneCount;
+    private final Path directory;
+
+    // 레인 번호 -> 레인. 설정된 레인과, 이전 실행의 레인 수가 더 많았을 때 남은 레인(번호가 띄엄띄엄일 수 있다).
+    // init 이후에는 바뀌지 않는다
+    private volatile Map<Integer, Lane> lanes = Map.of();
+
+    public MappedSpillStorageAdapter(JsonLogEntryEncoder encoder, MetricsPort metricsPort,
+                                     int segmentSize, int laneCount) {
+        this(encoder, metricsPort, segmentSize, laneCount, Paths.get(SPILL_DIRECTORY));
+    }
+
+    MappedSpillStorageAdapter(JsonLogEntryEncoder encoder, MetricsPort metricsPort,
+                              int segmentSize, int laneCount, Path directory) {
+        this.encoder = encoder;
+        this.metricsPort = metricsPort;
+        this.segmentSize = segmentSize;
+        this.laneCount = laneCount;
+        this.directory = directory;
+    }
+
+    @Override
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+
+        TreeMap<Integer, Lane> opened = new TreeMap<>();
+        for (int index = 0; index < laneCount; index++) {
+            opened.put(index, new Lane(index));
+        }
+        for (int index : listLaneIndexes()) {
+            opened.putIfAbsent(index, new Lane(index));
+        }
+        for (Lane lane : opened.values()) {
+            lane.open();
+        }
+        this.lanes = Collections.unmodifiableSortedMap(opened);
+
+        metricsPort.registerSpillSizeGauge(this::size);
+        if (size() > 0) {
+            log.info("이전 실행에서 남은 스필 엔트리 {}개를 이어서 처리합니다", size());
+        }
+    }
+
+    @Override
+    public void spill(int lane, EncodedLogEntry entry) throws IOException {
+        lanes.get(lane).append(encoder.toJson(entry));
+    }
+
+    @Override
+    public SpillRead drainTo(int lane, List<EncodedLogEntry> batch, int maxElements) {
+        // 레인 수가 줄었으면 남은 레인은 같은 나머지의 레인 워커가 이어서 꺼낸다
+        for (Lane source : lanesOf(lane)) {
+            SpillRead read = source.drainTo(batch, maxElements);
+            if (!read.isEmpty()) {
+                return read;
+            }
+        }
+        return SpillRead.NONE;
+    }
+
+    @Override
+    public void acknowledge(SpillRead read) {
+        if (!read.isEmpty()) {
+            lanes.get(read.lane()).acknowledge(read);
+        }
+    }
+
+    private List<Lane> lanesOf(int lane) {
+        List<Lane> matched = new ArrayList<>(1);
+        for (Lane candidate : lanes.values()) {
+            if (candidate.index % laneCount == lane) {
+                matched.add(candidate);
+            }
+        }
+        return matched;
+    }
+
+    @Override
+    public long size() {
+        return lanes.values().stream().mapToLong(lane -> lane.pendingCount.get()).sum();
+    }
+
+    @Override
+    public long size(int lane) {
+        return lanesOf(lane).stream().mapToLong(source -> source.pendingCount.get()).sum();
+    }
+
+    @Override
+    public int laneCount() {
+        return laneCount;
+    }
+
+    @Override
+    public void close() {
+        lanes.values().forEach(Lane::close);
+        if (size() > 0) {
+            log.warn("스필 세그먼트에 남은 엔트리 {}개 - 다음 기동 시 이어서 처리", size());
+        }
+    }
+
+    private List<Integer> listLaneIndexes() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isDirectory)
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(LANE_PREFIX))
+                    .map(name -> Integer.parseInt(name.substring(LANE_PREFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // 위치는 (세그먼트 번호 << 32 | 세그먼트 내 오프셋) 으로 표현해 비교를 단순하게 한다
+    private static long position(long segment, int offset) {
+        return (segment << 32) | offset;
+    }
+
+    private static long segmentOf(long position) {
+        return position >>> 32;
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    private static int recordLengthAt(MappedByteBuffer segment, int position) {
+        if (position + LENGTH_BYTES > segment.capacity()) {
+            return 0;
+        }
+        int length = segment.getInt(position);
+        return length > 0 && position + LENGTH_BYTES + length <= segment.capacity() ? length : 0;
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 기존 파일은 생성 당시 크기를 유지해 세그먼트 크기 설정이 바뀌어도 읽을 수 있게 한다
+            long mappedSize = channel.size() > 0 ? channel.size() : size;
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        }
+    }
+
+    private final class Lane {
+        private final int index;
+        private final Path laneDirectory;
+        // 파일 I/O 를 하는 동안 가상 스레드 캐리어를 고정하지 않도록 synchronized 대신 사용
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicLong pendingCount = new AtomicLong();
+        private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+        // 꺼냈지만 아직 저장이 확인되지 않은 구간 (시작 위치 -> 끝 위치)
+        private final TreeMap<Long, Long> inFlight = new TreeMap<>();
+
+        private MappedByteBuffer cursor;
+        private long writeSegment;
+        private int writePosition;
+        private long readPosition;
+        private long committedPosition;
+
+        private Lane(int index) {
+            this.index = index;
+            this.laneDirectory = directory.resolve(LANE_PREFIX + index);
+        }
+
+        private void open() throws IOException {
+            lock.lock();
+            try {
+                Files.createDirectories(laneDirectory);
+                this.cursor = map(laneDirectory.resolve(CURSOR_FILE), CURSOR_BYTES);
+                long readSegment = cursor.getLong(0);
+                int readOffset = cursor.getInt(Long.BYTES);
+
+                for (long segmentIndex : listSegmentIndexes()) {
+                    if (segmentIndex < readSegment) {
+                        // 이미 저장이 확인된 세그먼트
+                        deleteSegment(segmentIndex);
+                    } else {
+                        segments.put(segmentIndex, map(segmentPath(segmentIndex), segmentSize));
+                    }
+                }
+
+                if (segments.isEmpty()) {
+                    readSegment = 0;
+                    readOffset = 0;
+                } else if (segments.firstKey() != readSegment) {
+                    readSegment = segments.firstKey();
+                    readOffset = 0;
+                }
+                this.writeSegment = segments.isEmpty() ? readSegment : segments.lastKey();
+                this.readPosition = position(readSegment, readOffset);
+                this.committedPosition = readPosition;
+                this.writePosition = resumeSegments();
+                saveCursor();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 읽기 위치부터 마지막 세그먼트 끝까지 레코드 수를 세고, 마지막 세그먼트의 쓰기 위치를 반환한다
+        private int resumeSegments() {
+            int position = 0;
+            for (Map.Entry<Long, MappedByteBuffer> segment : segments.entrySet()) {
+                position = segment.getKey() == segmentOf(readPosition) ? offsetOf(readPosition) : 0;
+                MappedByteBuffer buffer = segment.getValue();
+                int length;
+                while ((length = recordLengthAt(buffer, position)) > 0) {
+                    position += LENGTH_BYTES + length;
+                    pendingCount.incrementAndGet();
+                }
+            }
+            return position;
+        }
+
+        private void append(byte[] payload) throws IOException {
+            lock.lock();
+            try {
+                int recordLength = LENGTH_BYTES + payload.length;
+                if (recordLength > segmentSize) {
+                    throw new IOException("스필 레코드가 세그먼트 크기보다 큽니다: " + recordLength + " > " + segmentSize);
+                }
+
+                MappedByteBuffer segment = writableSegment(recordLength);
+                segment.put(writePosition + LENGTH_BYTES, payload);
+                // 길이를 마지막에 기록해 쓰다 만 레코드는 읽히지 않게 한다
+                segment.putInt(writePosition, payload.length);
+                writePosition += recordLength;
+                pendingCount.incrementAndGet();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private MappedByteBuffer writableSegment(int recordLength) throws IOException {
+            MappedByteBuffer segment = segments.get(writeSegment);
+            if (segment != null && writePosition + recordLength <= segment.capacity()) {
+                return segment;
+            }
+
+            if (segment != null) {
+                writeSegment++;
+                writePosition = 0;
+            }
+            MappedByteBuffer created = map(segmentPath(writeSegment), segmentSize);
+            segments.put(writeSegment, created);
+            return created;
+        }
+
+        private SpillRead drainTo(List<EncodedLogEntry> batch, int maxElements) {
+            lock.lock();
+            try {
+                long from = readPosition;
+                int drained = 0;
+                int consumed = 0;
+
+                while (drained < maxElements) {
+                    long segmentIndex = segmentOf(readPosition);
+                    MappedByteBuffer segment = segments.get(segmentIndex);
+                    if (segment == null) {
+                        break;
+                    }
+
+                    int offset = offsetOf(readPosition);
+                    int length = recordLengthAt(segment, offset);
+                    if (length == 0) {
+                        if (segmentIndex >= writeSegment) {
+                            break;
+                        }
+                        // 쓰기가 다음 세그먼트로 넘어갔으므로 이어서 읽는다. 파일은 저장이 확인된 뒤 지운다
+                        readPosition = position(segmentIndex + 1, 0);
+                        continue;
+                    }
+
+                    byte[] payload = new byte[length];
+                    segment.get(offset + LENGTH_BYTES, payload);
+                    readPosition = position(segmentIndex, offset + LENGTH_BYTES + length);
+                    consumed++;
+
+                    try {
+                        batch.add(encoder.fromJson(payload));
+                        drained++;
+                    } catch (IOException e) {
+                        log.error("손상된 스필 레코드를 건너뜁니다 - 레인: {}, 세그먼트: {}, 위치: {}",
+                                index, segmentIndex, offset, e);
+                    }
+                }
+
+                if (readPosition == from) {
+                    return SpillRead.NONE;
+                }
+                pendingCount.addAndGet(-consumed);
+                SpillRead read = new SpillRead(index, from, readPosition);
+                inFlight.put(from, readPosition);
+                if (drained == 0) {
+                    // 건너뛴 레코드뿐이면 넘겨줄 것이 없으므로 바로 확인 처리한다
+                    acknowledge(read);
+                    return SpillRead.NONE;
+                }
+                return read;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 저장이 확인된 구간이 앞에서부터 이어질 때만 커서를 옮기고, 그 앞의 세그먼트는 지운다
+        private void acknowledge(SpillRead read) {
+            lock.lock();
+            try {
+                if (cursor == null || inFlight.remove(read.from()) == null) {
+                    return;
+                }
+
+                long committed = inFlight.isEmpty() ? readPosition : inFlight.firstKey();
+                if (committed <= committedPosition) {
+                    return;
+                }
+                committedPosition = committed;
+                saveCursor();
+
+                long committedSegment = segmentOf(committed);
+                while (!segments.isEmpty() && segments.firstKey() < committedSegment) {
+                    deleteSegment(segments.pollFirstEntry().getKey());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void saveCursor() {
+            cursor.putLong(0, segmentOf(committedPosition));
+            cursor.putInt(Long.BYTES, offsetOf(committedPosition));
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                if (cursor == null) {
+                    return;
+                }
+
+                segments.values().forEach(MappedByteBuffer::force);
+                saveCursor();
+                cursor.force();
+                segments.clear();
+                cursor = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<Long> listSegmentIndexes() throws IOException {
+            try (Stream<Path> files = Files.list(laneDirectory)) {
+                return files.map(path -> path.getFileName().toString())
+                        .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                        .map(name -> Long.parseLong(name.substring(
+                                SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                        .sorted()
+                        .toList();
+            }
+        }
+
+        private Path segmentPath(long segmentIndex) {
+            return laneDirectory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+        }
+
+        private void deleteSegment(long segmentIndex) {
+            try {
+                Files.deleteIfExists(segmentPath(segmentIndex));
+            } catch (IOException e) {
+                log.warn("스필 세그먼트 삭제 실패 - {}", segmentPath(segmentIndex), e);
+            }
+        }
+    }
+}
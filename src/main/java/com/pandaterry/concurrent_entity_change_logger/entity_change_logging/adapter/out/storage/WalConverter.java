@@ -0,0 +1,88 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.JsonLogEntryEncoder;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.WalLogEntryCodec;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.SegmentedWalAppender;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalReader;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * WAL 세그먼트와 JSON 줄 파일을 상호 변환하는 도구. 바이너리 WAL 을 눈으로 확인하거나 다시 만들 때 쓴다.
+ * <pre>
+ * ./gradlew walConvert -Pargs="to-json logs/wal wal.ndjson"
+ * ./gradlew walConvert -Pargs="from-json wal.ndjson logs/wal-new [binary|json]"
+ * </pre>
+ */
+public final class WalConverter {
+    private static final long SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private WalConverter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            usage();
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonLogEntryEncoder encoder = new JsonLogEntryEncoder(objectMapper);
+        switch (args[0]) {
+            case "to-json" -> {
+                long count = toJson(new WalLogEntryCodec(encoder, objectMapper, "json"), encoder,
+                        Paths.get(args[1]), Paths.get(args[2]));
+                System.out.println(count + " records -> " + args[2]);
+            }
+            case "from-json" -> {
+                String format = args.length > 3 ? args[3] : "binary";
+                long count = fromJson(new WalLogEntryCodec(encoder, objectMapper, format), encoder,
+                        Paths.get(args[1]), Paths.get(args[2]));
+                System.out.println(count + " records -> " + args[2] + " (" + format + ")");
+            }
+            default -> usage();
+        }
+    }
+
+    // 형식은 레코드마다 구분하므로 JSON/바이너리가 섞인 WAL 도 읽는다
+    static long toJson(WalLogEntryCodec codec, JsonLogEntryEncoder encoder, Path walDirectory, Path output)
+            throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), 64 * 1024)) {
+            return WalReader.read(walDirectory, 0, codec, (sequence, position, entry) -> {
+                out.write(encoder.toJson(entry));
+                out.write('\n');
+            });
+        }
+    }
+
+    static long fromJson(WalLogEntryCodec codec, JsonLogEntryEncoder encoder, Path input, Path walDirectory)
+            throws IOException {
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             SegmentedWalAppender appender = new SegmentedWalAppender(walDirectory, SEGMENT_SIZE)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                appender.append(codec.encode(encoder.fromJson(line.getBytes(StandardCharsets.UTF_8))));
+                count++;
+            }
+            appender.flush();
+            appender.force();
+        }
+        return count;
+    }
+
+    private static void usage() {
+        System.err.println("usage: to-json <walDir> <out.ndjson> | from-json <in.ndjson> <walDir> [binary|json]");
+    }
+}
@@ -0,0 +1,21 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import java.util.Locale;
+
+/**
+ * WAL 레코드가 언제 "기록 완료"로 통지되는지 정한다.
+ */
+public enum FsyncPolicy {
+    // 레코드마다 fsync. 가장 안전하고 가장 느리다
+    RECORD,
+    // 모인 레코드를 한 번에 쓰고 fsync 한 번으로 함께 완료
+    GROUP,
+    // 주기적으로 fsync, 완료 통지는 다음 fsync 이후
+    INTERVAL,
+    // write 까지만 하고 fsync 는 OS 에 맡긴다 (프로세스 장애는 견디지만 OS 장애에는 유실)
+    OS;
+
+    public static FsyncPolicy from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
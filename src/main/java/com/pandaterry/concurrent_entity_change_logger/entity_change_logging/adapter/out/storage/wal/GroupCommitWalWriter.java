@@ -0,0 +1,309 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 그룹 커밋 WAL writer.
+ * 요청 스레드는 레코드를 공유 버퍼에 넣고 바로 Future 를 받는다. 전용 writer 스레드 하나가 그동안 모인 레코드를
+ * 한 번에 쓰고 {@link FsyncPolicy} 에 따라 fsync 한 뒤 Future 를 WAL 위치로 완료한다.
+ * 쌓인 바이트가 maxPendingBytes 를 넘으면 요청 스레드는 writer 가 따라올 때까지 기다린다.
+ * onCommitted 는 그룹을 쓸 때마다, 그리고 쓰기가 없어도 idleTick 마다 writer 스레드에서 현재 끝 위치로 호출된다.
+ */
+@Slf4j
+public class GroupCommitWalWriter {
+    private static final long IDLE_TICK_MILLIS = 1_000;
+
+    private final WalAppender appender;
+    private final FsyncPolicy policy;
+    private final long groupMaxDelayNanos;
+    private final long groupMaxBytes;
+    private final long maxPendingBytes;
+    private final long fsyncIntervalNanos;
+    private final MetricsPort metricsPort;
+    private final LongConsumer onCommitted;
+    private final long idleTickNanos;
+
+    // 락 = 가상 스레드 캐리어를 고정하지 않도록 synchronized 대신 사용
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private List<PendingRecord> pending = new ArrayList<>();
+    private long pendingBytes;
+    private boolean running;
+
+    // writer 스레드 전용 - INTERVAL 정책에서 다음 fsync 를 기다리는 레코드
+    private final List<PendingRecord> unsynced = new ArrayList<>();
+    private long lastForceNanos;
+    private Thread writerThread;
+
+    public GroupCommitWalWriter(WalAppender appender, FsyncPolicy policy, long groupMaxDelayMillis,
+                                long groupMaxBytes, long maxPendingBytes, long fsyncIntervalMillis,
+                                MetricsPort metricsPort, LongConsumer onCommitted) {
+        this(appender, policy, groupMaxDelayMillis, groupMaxBytes, maxPendingBytes, fsyncIntervalMillis,
+                metricsPort, onCommitted, IDLE_TICK_MILLIS);
+    }
+
+    GroupCommitWalWriter(WalAppender appender, FsyncPolicy policy, long groupMaxDelayMillis,
+                         long groupMaxBytes, long maxPendingBytes, long fsyncIntervalMillis,
+                         MetricsPort metricsPort, LongConsumer onCommitted, long idleTickMillis) {
+        this.appender = appender;
+        this.policy = policy;
+        this.groupMaxDelayNanos = TimeUnit.MILLISECONDS.toNanos(groupMaxDelayMillis);
+        this.groupMaxBytes = groupMaxBytes;
+        this.maxPendingBytes = maxPendingBytes;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        this.metricsPort = metricsPort;
+        this.onCommitted = onCommitted;
+        this.idleTickNanos = TimeUnit.MILLISECONDS.toNanos(idleTickMillis);
+    }
+
+    public void start() {
+        lock.lock();
+        try {
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+        lastForceNanos = System.nanoTime();
+        writerThread = new Thread(this::run, "entitylog-wal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public CompletableFuture<Long> append(byte[] record) {
+        return append(WalPayload.of(record));
+    }
+
+    public CompletableFuture<Long> append(WalPayload payload) {
+        return append(payload, null);
+    }
+
+    /**
+     * @param onAppended 레코드가 파일에 쓰인 직후 끝 위치로 writer 스레드에서 호출된다. 호출 순서는 WAL 위치 순서와 같다
+     */
+    public CompletableFuture<Long> append(WalPayload payload, LongConsumer onAppended) {
+        PendingRecord pendingRecord = new PendingRecord(payload, new CompletableFuture<>(), onAppended);
+
+        lock.lock();
+        try {
+            while (running && pendingBytes >= maxPendingBytes) {
+                notFull.await();
+            }
+            if (!running) {
+                return CompletableFuture.failedFuture(new IllegalStateException("WAL writer is not running"));
+            }
+
+            pending.add(pendingRecord);
+            pendingBytes += payload.maxEncodedSize();
+            if (pending.size() == 1 || pendingBytes >= groupMaxBytes) {
+                notEmpty.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            lock.unlock();
+        }
+        return pendingRecord.future();
+    }
+
+    /**
+     * 더 이상 레코드를 받지 않고, 이미 받은 레코드를 모두 쓰고 fsync 한 뒤 writer 스레드를 끝낸다.
+     */
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (writerThread != null) {
+            writerThread.join(timeoutMillis);
+            if (writerThread.isAlive()) {
+                log.warn("WAL writer 가 {}ms 안에 끝나지 않았습니다", timeoutMillis);
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingRecord> group = new ArrayList<>();
+        while (true) {
+            boolean stopping;
+            lock.lock();
+            try {
+                awaitGroup();
+                stopping = !running;
+
+                // 이중 버퍼: 모인 목록을 가져오고 비운 목록을 돌려준다
+                List<PendingRecord> collected = pending;
+                pending = group;
+                group = collected;
+                pendingBytes = 0;
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("WAL writer 가 중단되었습니다");
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            if (!group.isEmpty()) {
+                commit(group);
+                group.clear();
+            } else if (!stopping) {
+                tick();
+            }
+            if (policy == FsyncPolicy.INTERVAL && (stopping || isForceDue())) {
+                forceUnsynced();
+            }
+            if (stopping) {
+                return;
+            }
+        }
+
+        // 비정상 종료 - 기다리는 호출자를 모두 풀어준다
+        IllegalStateException failure = new IllegalStateException("WAL writer stopped");
+        lock.lock();
+        try {
+            running = false;
+            fail(pending, failure);
+            pending.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        fail(unsynced, failure);
+        unsynced.clear();
+    }
+
+    private void awaitGroup() throws InterruptedException {
+        while (running && pending.isEmpty()) {
+            if (policy == FsyncPolicy.INTERVAL && !unsynced.isEmpty()) {
+                long remaining = lastForceNanos + fsyncIntervalNanos - System.nanoTime();
+                if (remaining <= 0 || notEmpty.awaitNanos(remaining) <= 0) {
+                    return;
+                }
+            } else if (notEmpty.awaitNanos(idleTickNanos) <= 0) {
+                // 쓰기가 없어도 체크포인트가 멈추지 않게 빈 그룹으로 돌아간다
+                return;
+            }
+        }
+
+        if (policy == FsyncPolicy.GROUP && groupMaxDelayNanos > 0 && !pending.isEmpty()) {
+            // 첫 레코드 이후 최대 groupMaxDelay 동안 같은 fsync 에 태울 레코드를 더 모은다
+            long deadline = System.nanoTime() + groupMaxDelayNanos;
+            long remaining;
+            while (running && pendingBytes < groupMaxBytes && (remaining = deadline - System.nanoTime()) > 0) {
+                notEmpty.awaitNanos(remaining);
+            }
+        }
+    }
+
+    private void commit(List<PendingRecord> group) {
+        try {
+            if (policy == FsyncPolicy.RECORD) {
+                for (PendingRecord record : group) {
+                    long position = appender.append(record.payload());
+                    record.appended(position);
+                    appender.flush();
+                    force();
+                    record.future().complete(position);
+                }
+            } else {
+                long[] positions = new long[group.size()];
+                for (int i = 0; i < group.size(); i++) {
+                    positions[i] = appender.append(group.get(i).payload());
+                    group.get(i).appended(positions[i]);
+                }
+                appender.flush();
+
+                if (policy == FsyncPolicy.GROUP) {
+                    force();
+                }
+                if (policy == FsyncPolicy.INTERVAL) {
+                    for (int i = 0; i < group.size(); i++) {
+                        unsynced.add(group.get(i).withPosition(positions[i]));
+                    }
+                } else {
+                    for (int i = 0; i < group.size(); i++) {
+                        group.get(i).future().complete(positions[i]);
+                    }
+                }
+            }
+            metricsPort.recordWalGroupSize(group.size());
+            onCommitted.accept(appender.position());
+        } catch (IOException | RuntimeException e) {
+            log.error("WAL 쓰기 실패 - {}건", group.size(), e);
+            fail(group, e);
+        }
+    }
+
+    private void tick() {
+        try {
+            onCommitted.accept(appender.position());
+        } catch (RuntimeException e) {
+            log.warn("WAL 유휴 처리 실패", e);
+        }
+    }
+
+    private boolean isForceDue() {
+        return !unsynced.isEmpty() && System.nanoTime() - lastForceNanos >= fsyncIntervalNanos;
+    }
+
+    private void forceUnsynced() {
+        if (unsynced.isEmpty()) {
+            return;
+        }
+        try {
+            force();
+            unsynced.forEach(record -> record.future().complete(record.position()));
+        } catch (IOException | RuntimeException e) {
+            log.error("WAL fsync 실패 - {}건", unsynced.size(), e);
+            fail(unsynced, e);
+        }
+        unsynced.clear();
+    }
+
+    private void force() throws IOException {
+        long startTime = System.nanoTime();
+        appender.force();
+        lastForceNanos = System.nanoTime();
+        metricsPort.recordWalFsyncLatency(lastForceNanos - startTime);
+    }
+
+    private static void fail(List<PendingRecord> records, Throwable cause) {
+        records.forEach(record -> record.future().completeExceptionally(cause));
+    }
+
+    private record PendingRecord(WalPayload payload, CompletableFuture<Long> future, LongConsumer onAppended,
+                                 long position) {
+        PendingRecord(WalPayload payload, CompletableFuture<Long> future, LongConsumer onAppended) {
+            this(payload, future, onAppended, -1);
+        }
+
+        void appended(long position) {
+            if (onAppended != null) {
+                onAppended.accept(position);
+            }
+        }
+
+        // fsync 를 기다리는 동안 원본 바이트는 더 필요 없다
+        PendingRecord withPosition(long newPosition) {
+            return new PendingRecord(null, future, null, newPosition);
+        }
+    }
+}
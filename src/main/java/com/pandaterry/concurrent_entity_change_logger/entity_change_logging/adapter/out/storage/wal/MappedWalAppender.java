@@ -0,0 +1,315 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 맵 WAL. 세그먼트 파일을 미리 0 으로 채워 할당하고 매핑해 두어, 레코드 추가는 매핑된 버퍼로의 복사뿐이다.
+ * fsync 는 마지막 force 이후에 쓴 구간만 {@link MappedByteBuffer#force(int, int)} 로 내린다.
+ * 다음 세그먼트는 백그라운드에서 미리 할당/매핑해 두었다가 전환할 때 헤더만 쓰고 이름을 바꾼다.
+ * 이름 변경은 디렉터리를 fsync 해야 남으므로, 그 전에 죽어 예비 파일 이름으로 남은 세그먼트는 기동 시 헤더로 되살린다.
+ * 파일 형식은 {@link SegmentedWalAppender} 와 같으며, 봉인할 때 남은 공간을 잘라 두 방식의 세그먼트가 섞여도 읽을 수 있다.
+ * 봉인된 세그먼트는 재생 커서가 넘어서면 지운다.
+ */
+@Slf4j
+public class MappedWalAppender implements WalAppender {
+    private static final String SPARE_FILE = "wal-next.tmp";
+    private static final int ZERO_CHUNK_SIZE = 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final WalDirectoryLock lock;
+    private final CRC32C crc = new CRC32C();
+    private final ExecutorService premapExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "entitylog-wal-premap");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private MappedSegment segment;
+    private CompletableFuture<MappedSegment> spare;
+    private long segmentBase;
+    private int writeOffset;
+    private int forcedOffset;
+    private long lastSequence;
+    private WalDictionary dictionary = new WalDictionary();
+
+    public MappedWalAppender(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.lock = new WalDirectoryLock(directory);
+
+        recoverSpare();
+        recover();
+        prepareSpare();
+    }
+
+    // 예비 파일에 헤더가 있으면 이름 변경이 디스크에 남기 전에 죽은 활성 세그먼트다. 헤더의 위치로 이름을 되돌린다
+    private void recoverSpare() throws IOException {
+        Path spare = directory.resolve(SPARE_FILE);
+        if (!Files.exists(spare)) {
+            return;
+        }
+
+        long base;
+        try (FileChannel channel = FileChannel.open(spare, StandardOpenOption.READ)) {
+            base = WalSegment.readBaseOffset(channel);
+        }
+        Path target = base < 0 ? null : WalSegment.path(directory, base);
+        if (target == null || Files.exists(target)) {
+            if (target != null) {
+                log.warn("같은 위치의 세그먼트가 있어 예비 WAL 파일을 버립니다 - {}", target.getFileName());
+            }
+            Files.delete(spare);
+            return;
+        }
+
+        log.warn("이름 변경 전에 멈춘 WAL 세그먼트를 되살립니다 - {} -> {}", SPARE_FILE, target.getFileName());
+        Files.move(spare, target, StandardCopyOption.ATOMIC_MOVE);
+        WalSegment.forceDirectory(directory);
+    }
+
+    private void recover() throws IOException {
+        List<Path> segments = WalSegment.list(directory);
+        if (segments.isEmpty()) {
+            activate(createSegment(WalSegment.path(directory, 0), segmentSize), 0, 1);
+            return;
+        }
+
+        Path tail = segments.get(segments.size() - 1);
+        long base = WalSegment.baseOffsetOf(tail);
+        FileChannel channel = FileChannel.open(tail, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long firstSequence = WalSegment.readFirstSequence(channel, base);
+        if (firstSequence < 0) {
+            channel.close();
+            long previousLast = segments.size() > 1 ? WalSegment.lastSequence(segments.get(segments.size() - 2)) : 0;
+            log.warn("WAL 세그먼트 헤더가 손상되어 다시 만듭니다 - {}", tail);
+            Files.delete(tail);
+            activate(createSegment(tail, segmentSize), base, previousLast + 1);
+            return;
+        }
+
+        WalSegment.ScanResult result = WalSegment.scan(channel, firstSequence, null);
+        if (result.records() > 0) {
+            // 이어 쓰려면 기존 레코드로 사전을 다시 만들어야 하므로 봉인하고 새 세그먼트에서 시작한다
+            long nextBase = base + result.validEnd();
+            seal(new MappedSegment(tail, channel, null), (int) result.validEnd());
+            activate(createSegment(WalSegment.path(directory, nextBase), segmentSize), nextBase, result.lastSequence() + 1);
+            log.info("WAL 복구 완료 - 세그먼트 {}개, 마지막 순번 {}, 위치 {}", segments.size(), lastSequence, position());
+            return;
+        }
+
+        long fileSize = channel.size();
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, fileSize));
+        int validEnd = (int) result.validEnd();
+
+        // 찢어진 프레임과 그 뒤에 남은 바이트를 지워야 이후 짧은 레코드 뒤에서 옛 프레임이 되살아나지 않는다
+        int cleared = clearFrom(mapped, validEnd, (int) Math.min(fileSize, mapped.capacity()));
+        if (cleared > 0) {
+            log.warn("WAL 끝의 불완전한 레코드를 지웁니다 - {}, {} 바이트", tail.getFileName(), cleared);
+            mapped.force();
+        }
+
+        this.segment = new MappedSegment(tail, channel, mapped);
+        this.segmentBase = base;
+        this.writeOffset = validEnd;
+        this.forcedOffset = validEnd;
+        this.lastSequence = result.lastSequence();
+        log.info("WAL 복구 완료 - 세그먼트 {}개, 마지막 순번 {}, 위치 {}", segments.size(), lastSequence, position());
+    }
+
+    @Override
+    public long append(WalPayload payload) throws IOException {
+        int maxFrameSize = WalSegment.FRAME_HEADER_SIZE + payload.maxEncodedSize();
+        if (writeOffset + maxFrameSize > segment.buffer().capacity()) {
+            roll(maxFrameSize);
+        }
+
+        byte[] record = payload.encode(dictionary);
+        int frameSize = WalSegment.FRAME_HEADER_SIZE + record.length;
+        long sequence = lastSequence + 1;
+        int checksum = WalSegment.checksum(crc, sequence, ByteBuffer.wrap(record));
+
+        MappedByteBuffer buffer = segment.buffer();
+        buffer.putInt(writeOffset, record.length)
+                .putInt(writeOffset + 4, checksum)
+                .putLong(writeOffset + 8, sequence);
+        buffer.put(writeOffset + WalSegment.FRAME_HEADER_SIZE, record);
+
+        writeOffset += frameSize;
+        lastSequence = sequence;
+        return position();
+    }
+
+    // 매핑된 페이지에 쓴 순간 페이지 캐시에 있으므로 OS 로 넘길 것이 없다
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void force() {
+        if (writeOffset > forcedOffset) {
+            segment.buffer().force(forcedOffset, writeOffset - forcedOffset);
+            forcedOffset = writeOffset;
+        }
+    }
+
+    @Override
+    public long position() {
+        return segmentBase + writeOffset;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void deleteSegmentsBefore(long position) throws IOException {
+        int deleted = WalSegment.deleteBefore(directory, position, segmentBase);
+        if (deleted > 0) {
+            log.debug("재생이 필요 없는 WAL 세그먼트 {}개 삭제 - 커서: {}", deleted, position);
+        }
+    }
+
+    private void roll(int frameSize) throws IOException {
+        force();
+        boolean empty = writeOffset == WalSegment.HEADER_SIZE;
+        long nextBase = empty ? segmentBase : position();
+        if (empty) {
+            // 빈 세그먼트에도 들어가지 않는 레코드 - 같은 위치에 더 큰 세그먼트를 다시 만든다
+            closeQuietly(segment.channel());
+            Files.delete(segment.path());
+        } else {
+            seal(segment, writeOffset);
+        }
+
+        long firstSequence = lastSequence + 1;
+        Path path = WalSegment.path(directory, nextBase);
+
+        if (WalSegment.HEADER_SIZE + frameSize > segmentSize) {
+            // 세그먼트보다 큰 레코드는 전용 세그먼트에 담는다
+            activate(createSegment(path, WalSegment.HEADER_SIZE + frameSize), nextBase, firstSequence);
+            return;
+        }
+
+        MappedSegment next;
+        try {
+            next = spare.join();
+            Files.move(next.path(), path, StandardCopyOption.ATOMIC_MOVE);
+            next = new MappedSegment(path, next.channel(), next.buffer());
+        } catch (CompletionException e) {
+            log.warn("미리 준비한 WAL 세그먼트를 쓸 수 없어 직접 만듭니다", e.getCause());
+            next = createSegment(path, segmentSize);
+        }
+        activate(next, nextBase, firstSequence);
+        prepareSpare();
+        log.debug("WAL 세그먼트 전환 - {}", path.getFileName());
+    }
+
+    private void activate(MappedSegment next, long base, long firstSequence) throws IOException {
+        ByteBuffer header = WalSegment.header(base, firstSequence);
+        next.buffer().put(0, header, 0, header.remaining());
+        // 헤더와 디렉터리 항목(생성/이름 변경)이 디스크에 있어야 이후 프레임을 믿을 수 있다
+        next.buffer().force(0, WalSegment.HEADER_SIZE);
+        WalSegment.forceDirectory(directory);
+
+        this.segment = next;
+        this.segmentBase = base;
+        this.writeOffset = WalSegment.HEADER_SIZE;
+        this.forcedOffset = WalSegment.HEADER_SIZE;
+        this.lastSequence = firstSequence - 1;
+        this.dictionary = new WalDictionary();
+    }
+
+    private void prepareSpare() {
+        Path path = directory.resolve(SPARE_FILE);
+        this.spare = CompletableFuture.supplyAsync(() -> {
+            try {
+                return createSegment(path, segmentSize);
+            } catch (IOException e) {
+                throw new IllegalStateException("다음 WAL 세그먼트를 준비하지 못했습니다: " + path, e);
+            }
+        }, premapExecutor);
+    }
+
+    // 파일을 실제로 0 으로 채워 블록을 할당한 뒤 매핑한다. 쓰기 중 파일 확장과 블록 할당 지연을 없앤다
+    private static MappedSegment createSegment(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer zeros = ByteBuffer.allocateDirect(Math.min(size, ZERO_CHUNK_SIZE));
+        long position = 0;
+        while (position < size) {
+            zeros.clear().limit((int) Math.min(zeros.capacity(), size - position));
+            position += channel.write(zeros, position);
+        }
+        return new MappedSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    // 봉인된 세그먼트는 쓴 데까지만 남긴다. 매핑이 살아 있어 잘라내지 못하는 OS 에서도 0 패딩은 읽기에 영향이 없다
+    private static void seal(MappedSegment sealed, int length) {
+        try {
+            sealed.channel().truncate(length);
+            sealed.channel().force(true);
+        } catch (IOException e) {
+            log.warn("봉인한 WAL 세그먼트를 잘라내지 못했습니다 - {}", sealed.path().getFileName(), e);
+        } finally {
+            closeQuietly(sealed.channel());
+        }
+    }
+
+    private static int clearFrom(MappedByteBuffer buffer, int from, int to) {
+        int cleared = 0;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) != 0) {
+                buffer.put(i, (byte) 0);
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("WAL 세그먼트 채널을 닫지 못했습니다", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+            segment.channel().close();
+
+            premapExecutor.shutdown();
+            spare.handle((next, e) -> next).thenAccept(next -> {
+                if (next != null) {
+                    closeQuietly(next.channel());
+                }
+            }).join();
+            Files.deleteIfExists(directory.resolve(SPARE_FILE));
+        } finally {
+            lock.close();
+        }
+    }
+
+    private record MappedSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+    }
+}
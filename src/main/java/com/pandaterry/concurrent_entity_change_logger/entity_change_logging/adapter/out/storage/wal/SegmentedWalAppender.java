@@ -0,0 +1,192 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 고정 크기 세그먼트로 나뉜 WAL. 레코드는 {@link WalSegment} 프레임(길이, CRC32C, 순번)으로 감싸 쓴다.
+ * 시작할 때 마지막 세그먼트만 검사해 찢어지거나 깨진 첫 프레임부터 잘라내므로 복구 시간은 세그먼트 크기로 제한된다.
+ * 세그먼트가 차면 fsync 후 봉인하고 다음 세그먼트로 넘어간다. 봉인된 세그먼트는 재생 커서가 넘어서면 지운다.
+ */
+@Slf4j
+public class SegmentedWalAppender implements WalAppender {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final WalDirectoryLock lock;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel segment;
+    private long segmentBase;
+    private long segmentOffset;
+    private long lastSequence;
+    private WalDictionary dictionary = new WalDictionary();
+
+    public SegmentedWalAppender(Path directory, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        this.lock = new WalDirectoryLock(directory);
+
+        recover();
+    }
+
+    private void recover() throws IOException {
+        List<Path> segments = WalSegment.list(directory);
+        if (segments.isEmpty()) {
+            openNewSegment(0, 1);
+            return;
+        }
+
+        Path tail = segments.get(segments.size() - 1);
+        long base = WalSegment.baseOffsetOf(tail);
+        FileChannel channel = FileChannel.open(tail, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long firstSequence = WalSegment.readFirstSequence(channel, base);
+        if (firstSequence < 0) {
+            // 세그먼트를 만들다 멈춘 경우 - 앞 세그먼트 끝 순번으로 헤더를 다시 쓴다
+            channel.close();
+            long previousLast = segments.size() > 1 ? WalSegment.lastSequence(segments.get(segments.size() - 2)) : 0;
+            log.warn("WAL 세그먼트 헤더가 손상되어 다시 만듭니다 - {}", tail);
+            Files.delete(tail);
+            openNewSegment(base, previousLast + 1);
+            return;
+        }
+
+        WalSegment.ScanResult result = WalSegment.scan(channel, firstSequence, null);
+        if (result.validEnd() < channel.size()) {
+            log.warn("WAL 끝의 불완전한 레코드를 잘라냅니다 - {}, {} -> {} 바이트",
+                    tail.getFileName(), channel.size(), result.validEnd());
+            channel.truncate(result.validEnd());
+            channel.force(true);
+        }
+
+        if (result.records() > 0) {
+            // 이어 쓰려면 기존 레코드로 사전을 다시 만들어야 하므로 봉인하고 새 세그먼트에서 시작한다
+            channel.close();
+            openNewSegment(base + result.validEnd(), result.lastSequence() + 1);
+        } else {
+            this.segment = channel;
+            this.segmentBase = base;
+            this.segmentOffset = result.validEnd();
+            this.lastSequence = result.lastSequence();
+        }
+        log.info("WAL 복구 완료 - 세그먼트 {}개, 마지막 순번 {}, 위치 {}", segments.size(), lastSequence, position());
+    }
+
+    private void openNewSegment(long base, long firstSequence) throws IOException {
+        FileChannel channel = FileChannel.open(WalSegment.path(directory, base),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writeFully(channel, WalSegment.header(base, firstSequence), 0);
+        // 헤더와 디렉터리 항목이 디스크에 있어야 이후 프레임을 믿을 수 있다
+        channel.force(true);
+        WalSegment.forceDirectory(directory);
+
+        this.segment = channel;
+        this.segmentBase = base;
+        this.segmentOffset = WalSegment.HEADER_SIZE;
+        this.lastSequence = firstSequence - 1;
+        this.dictionary = new WalDictionary();
+    }
+
+    @Override
+    public long append(WalPayload payload) throws IOException {
+        int maxFrameSize = WalSegment.FRAME_HEADER_SIZE + payload.maxEncodedSize();
+        if (segmentOffset + buffer.position() + maxFrameSize > segmentSize
+                && segmentOffset + buffer.position() > WalSegment.HEADER_SIZE) {
+            roll();
+        }
+
+        byte[] record = payload.encode(dictionary);
+        int frameSize = WalSegment.FRAME_HEADER_SIZE + record.length;
+        long sequence = lastSequence + 1;
+        int checksum = WalSegment.checksum(crc, sequence, ByteBuffer.wrap(record));
+
+        if (frameSize > buffer.remaining()) {
+            flush();
+        }
+        if (frameSize > buffer.capacity()) {
+            ByteBuffer frame = ByteBuffer.allocate(frameSize)
+                    .putInt(record.length).putInt(checksum).putLong(sequence).put(record)
+                    .flip();
+            writeFully(segment, frame, segmentOffset);
+            segmentOffset += frameSize;
+        } else {
+            buffer.putInt(record.length).putInt(checksum).putLong(sequence).put(record);
+        }
+
+        lastSequence = sequence;
+        return position();
+    }
+
+    // 현재 세그먼트를 fsync 해 봉인하고, 이어지는 위치에서 새 세그먼트를 연다
+    private void roll() throws IOException {
+        flush();
+        segment.force(true);
+        segment.close();
+
+        long nextBase = segmentBase + segmentOffset;
+        openNewSegment(nextBase, lastSequence + 1);
+        log.debug("WAL 세그먼트 전환 - {}", WalSegment.path(directory, nextBase).getFileName());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        int length = buffer.remaining();
+        writeFully(segment, buffer, segmentOffset);
+        segmentOffset += length;
+        buffer.clear();
+    }
+
+    @Override
+    public void force() throws IOException {
+        segment.force(false);
+    }
+
+    @Override
+    public long position() {
+        return segmentBase + segmentOffset + buffer.position();
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void deleteSegmentsBefore(long position) throws IOException {
+        int deleted = WalSegment.deleteBefore(directory, position, segmentBase);
+        if (deleted > 0) {
+            log.debug("재생이 필요 없는 WAL 세그먼트 {}개 삭제 - 커서: {}", deleted, position);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        long offset = position;
+        while (source.hasRemaining()) {
+            offset += channel.write(source, offset);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            segment.force(true);
+            segment.close();
+        } finally {
+            lock.close();
+        }
+    }
+}
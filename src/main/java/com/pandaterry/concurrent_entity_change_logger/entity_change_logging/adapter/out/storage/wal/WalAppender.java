@@ -0,0 +1,36 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * WAL 파일에 레코드를 이어 쓰는 저수준 쓰기 도구. {@link GroupCommitWalWriter} 의 writer 스레드 하나만 호출한다.
+ */
+public interface WalAppender extends Closeable {
+    /**
+     * 레코드를 덧붙인다. 내부 버퍼에만 쓰일 수 있으며 {@link #flush()} 후에 OS 로 넘어간다.
+     * 세그먼트를 넘기면 새 세그먼트와 새 {@link WalDictionary} 로 시작한다.
+     *
+     * @return 레코드 끝의 WAL 위치
+     */
+    long append(WalPayload payload) throws IOException;
+
+    default long append(byte[] record) throws IOException {
+        return append(WalPayload.of(record));
+    }
+
+    // 버퍼에 남은 내용을 OS 로 넘긴다
+    void flush() throws IOException;
+
+    // 넘긴 내용을 디스크에 고정한다
+    void force() throws IOException;
+
+    long position();
+
+    /**
+     * 모든 레코드가 position 이하에서 끝나는 봉인된 세그먼트를 지운다. 쓰고 있는 세그먼트는 남긴다.
+     * position 은 디스크에 기록한 재생 커서여야 한다.
+     */
+    default void deleteSegmentsBefore(long position) throws IOException {
+    }
+}
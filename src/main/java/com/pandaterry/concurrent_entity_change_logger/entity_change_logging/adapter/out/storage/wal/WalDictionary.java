@@ -0,0 +1,39 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세그먼트 단위 이름 사전. 세그먼트에서 처음 나온 이름은 레코드 안에 정의되고 이후에는 번호로만 참조된다.
+ * 쓸 때와 읽을 때 모두 세그먼트 첫 레코드부터 같은 순서로 채워지므로 번호가 일치한다.
+ */
+public final class WalDictionary {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    // 없으면 -1
+    public int idOf(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public int define(String name) {
+        int id = names.size();
+        names.add(name);
+        ids.put(name, id);
+        return id;
+    }
+
+    public String nameOf(int id) {
+        if (id < 0 || id >= names.size()) {
+            throw new IllegalArgumentException("Unknown WAL dictionary id: " + id);
+        }
+        return names.get(id);
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
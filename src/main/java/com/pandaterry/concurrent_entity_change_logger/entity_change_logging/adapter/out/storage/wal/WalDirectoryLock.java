@@ -0,0 +1,45 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * WAL 디렉터리에 writer 가 하나만 붙도록 잠근다.
+ */
+final class WalDirectoryLock implements Closeable {
+    private static final String LOCK_FILE = ".lock";
+
+    private final FileChannel channel;
+    private final FileLock lock;
+
+    WalDirectoryLock(Path directory) throws IOException {
+        this.channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            channel.close();
+            throw new IllegalStateException("JVM 에서 이미 락이 걸려있어서 WAL 락을 획득할 수 없습니다. " + directory, e);
+        }
+        if (acquired == null) {
+            channel.close();
+            throw new IOException("다른 프로세스가 락을 갖고 있어서 WAL 락을 획득할 수 없습니다. " + directory);
+        }
+        this.lock = acquired;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            lock.release();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+/**
+ * WAL 에 쓸 레코드. 세그먼트 사전을 쓰는 형식은 어느 세그먼트에 들어갈지 정해진 뒤 writer 스레드에서 바이트로 완성된다.
+ */
+public interface WalPayload {
+    // 세그먼트 전환 판단과 대기 바이트 계산에 쓰는 최대 크기
+    int maxEncodedSize();
+
+    byte[] encode(WalDictionary dictionary);
+
+    static WalPayload of(byte[] bytes) {
+        return new WalPayload() {
+            @Override
+            public int maxEncodedSize() {
+                return bytes.length;
+            }
+
+            @Override
+            public byte[] encode(WalDictionary dictionary) {
+                return bytes;
+            }
+        };
+    }
+}
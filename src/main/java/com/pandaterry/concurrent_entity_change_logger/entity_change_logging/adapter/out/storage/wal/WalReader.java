@@ -0,0 +1,80 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * WAL 세그먼트를 위치 순서대로 읽는다. 세그먼트 사전을 맞추기 위해 시작 위치가 든 세그먼트는 처음부터 훑되,
+ * 시작 위치 이전 레코드는 사전만 채우고 넘긴다.
+ */
+public final class WalReader {
+
+    private WalReader() {
+    }
+
+    public interface RecordDecoder<T> {
+        T decode(ByteBuffer payload, WalDictionary dictionary) throws IOException;
+
+        // 레코드를 만들지 않고 사전 정의만 반영한다
+        void absorb(ByteBuffer payload, WalDictionary dictionary) throws IOException;
+    }
+
+    public interface RecordHandler<T> {
+        /**
+         * @param position 레코드 끝의 WAL 위치
+         */
+        void handle(long sequence, long position, T record) throws IOException;
+    }
+
+    /**
+     * fromPosition 이후에 끝나는 레코드를 모두 handler 로 넘긴다.
+     *
+     * @return 넘긴 레코드 수
+     */
+    public static <T> long read(Path directory, long fromPosition, RecordDecoder<T> decoder,
+                                RecordHandler<T> handler) throws IOException {
+        List<Path> segments = WalSegment.list(directory);
+        long handled = 0;
+
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            long base = WalSegment.baseOffsetOf(segment);
+            boolean hasNext = i + 1 < segments.size();
+            if (hasNext && WalSegment.baseOffsetOf(segments.get(i + 1)) <= fromPosition) {
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long firstSequence = WalSegment.readFirstSequence(channel, base);
+                if (firstSequence < 0) {
+                    throw new IOException("WAL 세그먼트 헤더가 손상되었습니다: " + segment);
+                }
+
+                WalDictionary dictionary = new WalDictionary();
+                long[] count = {0};
+                WalSegment.scan(channel, firstSequence, record -> {
+                    long position = base + record.endOffset();
+                    try {
+                        if (position <= fromPosition) {
+                            decoder.absorb(record.payload(), dictionary);
+                        } else {
+                            handler.handle(record.sequence(), position, decoder.decode(record.payload(), dictionary));
+                            count[0]++;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                handled += count[0];
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return handled;
+    }
+}
@@ -0,0 +1,211 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * WAL 세그먼트 파일 형식.
+ * <pre>
+ * 세그먼트 헤더 (24B): magic(4) version(2) reserved(2) baseOffset(8) firstSequence(8)
+ * 레코드 프레임     : length(4) crc32c(4) sequence(8) payload(length)
+ * </pre>
+ * 파일 이름은 세그먼트 첫 바이트의 WAL 위치(baseOffset)이며, WAL 위치는 세그먼트를 넘어 이어진다.
+ * crc32c 는 sequence 와 payload 를 함께 덮는다. 마지막 세그먼트만 쓰기 중이고 나머지는 봉인되어 바뀌지 않는다.
+ */
+public final class WalSegment {
+    public static final int MAGIC = 0x57414C53; // "WALS"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int FRAME_HEADER_SIZE = 16;
+
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".seg";
+
+    private WalSegment() {
+    }
+
+    public static Path path(Path directory, long baseOffset) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, baseOffset, SUFFIX));
+    }
+
+    // baseOffset 오름차순
+    public static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(WalSegment::isSegment)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 다음 세그먼트가 position 이하에서 시작하는, 즉 모든 레코드가 position 이하에서 끝나는 세그먼트를 앞에서부터 지운다.
+     * activeBase 에서 시작하는 쓰기 중인 세그먼트와 그 뒤는 건드리지 않는다. {@link WalReader} 는 이 세그먼트들을 건너뛰므로
+     * 지워도 position 부터의 재생 결과는 같다.
+     *
+     * @return 지운 세그먼트 수
+     */
+    public static int deleteBefore(Path directory, long position, long activeBase) throws IOException {
+        List<Path> segments = list(directory);
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            Path segment = segments.get(i);
+            if (baseOffsetOf(segment) >= activeBase || baseOffsetOf(segments.get(i + 1)) > position) {
+                break;
+            }
+            Files.delete(segment);
+            deleted++;
+        }
+        if (deleted > 0) {
+            forceDirectory(directory);
+        }
+        return deleted;
+    }
+
+    // 파일 생성/이름 변경/삭제는 디렉터리를 fsync 해야 디스크에 남는다
+    public static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    public static long baseOffsetOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    public static ByteBuffer header(long baseOffset, long firstSequence) {
+        return ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putLong(baseOffset)
+                .putLong(firstSequence)
+                .flip();
+    }
+
+    /**
+     * 헤더의 firstSequence. 헤더가 없거나 깨졌으면 -1.
+     */
+    public static long readFirstSequence(FileChannel channel, long baseOffset) throws IOException {
+        ByteBuffer header = readHeader(channel);
+        if (header == null) {
+            return -1;
+        }
+        return header.getLong() == baseOffset ? header.getLong() : -1;
+    }
+
+    /**
+     * 헤더에 적힌 baseOffset. 이름을 잃은 세그먼트를 되살릴 때 쓴다. 헤더가 없거나 깨졌으면 -1.
+     */
+    public static long readBaseOffset(FileChannel channel) throws IOException {
+        ByteBuffer header = readHeader(channel);
+        return header == null ? -1 : header.getLong();
+    }
+
+    // magic/version 을 확인하고 baseOffset 앞에 위치시킨 헤더
+    private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return null;
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+            return null;
+        }
+        header.getShort();
+        return header;
+    }
+
+    // 봉인된 세그먼트의 마지막 레코드 순번
+    public static long lastSequence(Path sealed) throws IOException {
+        try (FileChannel channel = FileChannel.open(sealed, StandardOpenOption.READ)) {
+            long firstSequence = readFirstSequence(channel, baseOffsetOf(sealed));
+            if (firstSequence < 0) {
+                throw new IOException("봉인된 WAL 세그먼트 헤더가 손상되었습니다: " + sealed);
+            }
+            return scan(channel, firstSequence, null).lastSequence();
+        }
+    }
+
+    public static int checksum(CRC32C crc, long sequence, ByteBuffer payload) {
+        crc.reset();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (sequence >>> shift));
+        }
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 헤더 다음부터 프레임을 검증하며 읽는다. 길이가 파일을 넘거나, 순번이 이어지지 않거나, CRC 가 맞지 않는
+     * 첫 프레임에서 멈추고 그 앞까지를 유효 구간으로 돌려준다.
+     *
+     * @param visitor 유효한 레코드마다 호출 (null 이면 검증만)
+     */
+    public static ScanResult scan(FileChannel channel, long firstSequence, Consumer<WalRecord> visitor) throws IOException {
+        long size = channel.size();
+        if (size <= HEADER_SIZE) {
+            return new ScanResult(HEADER_SIZE, firstSequence - 1, 0);
+        }
+
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        CRC32C crc = new CRC32C();
+        long expected = firstSequence;
+        int offset = HEADER_SIZE;
+        int records = 0;
+
+        while (size - offset >= FRAME_HEADER_SIZE) {
+            int length = mapped.getInt(offset);
+            int storedCrc = mapped.getInt(offset + 4);
+            long sequence = mapped.getLong(offset + 8);
+            if (length <= 0 || length > size - offset - FRAME_HEADER_SIZE || sequence != expected) {
+                break;
+            }
+
+            ByteBuffer payload = mapped.slice(offset + FRAME_HEADER_SIZE, length);
+            if (checksum(crc, sequence, payload.duplicate()) != storedCrc) {
+                break;
+            }
+
+            if (visitor != null) {
+                visitor.accept(new WalRecord(sequence, offset + FRAME_HEADER_SIZE + length, payload));
+            }
+            offset += FRAME_HEADER_SIZE + length;
+            expected++;
+            records++;
+        }
+        return new ScanResult(offset, expected - 1, records);
+    }
+
+    /**
+     * @param endOffset 세그먼트 안에서 이 레코드가 끝나는 위치
+     */
+    public record WalRecord(long sequence, long endOffset, ByteBuffer payload) {
+    }
+
+    /**
+     * @param validEnd     마지막 유효 프레임이 끝나는 파일 위치
+     * @param lastSequence 마지막 유효 레코드 순번 (레코드가 없으면 firstSequence - 1)
+     */
+    public record ScanResult(long validEnd, long lastSequence, int records) {
+    }
+}
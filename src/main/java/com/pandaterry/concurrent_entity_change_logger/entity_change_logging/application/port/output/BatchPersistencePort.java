@@ -1,9 +1,19 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
 
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 
 import java.util.List;
 
 public interface BatchPersistencePort {
-    void saveBatch(List<LogEntry> batch);
-}
\ No newline at end of file
+    // 커넥션 없이 할 수 있는 준비 작업 (바인딩 인자 생성 등)
+    PreparedBatch prepare(List<EncodedLogEntry> batch);
+
+    void write(PreparedBatch batch);
+
+    // 같은 배치를 잠시 후 다시 쓰면 성공할 수 있는 오류인지 (연결 끊김, 교착 등)
+    boolean isRetryable(Exception e);
+
+    default void saveBatch(List<EncodedLogEntry> batch) {
+        write(prepare(batch));
+    }
+}
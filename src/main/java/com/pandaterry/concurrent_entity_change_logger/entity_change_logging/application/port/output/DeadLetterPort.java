@@ -0,0 +1,21 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface DeadLetterPort {
+    void init() throws IOException;
+
+    void write(EncodedLogEntry entry, String reason) throws IOException;
+
+    long size();
+
+    // 지금까지 쌓인 엔트리를 batchSize 단위로 handler 에 넘기고 지운다. 재처리 중 새로 들어온 엔트리는 다음 재처리 대상이다.
+    // handler 가 실패하면 아직 지우지 못한 엔트리가 다음 재처리에 다시 넘어가므로 handler 는 멱등해야 한다
+    int replay(Consumer<List<EncodedLogEntry>> handler, int batchSize) throws IOException;
+
+    void close();
+}
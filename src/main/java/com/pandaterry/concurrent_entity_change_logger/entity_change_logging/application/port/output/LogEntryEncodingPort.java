@@ -0,0 +1,8 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+
+public interface LogEntryEncodingPort {
+    EncodedLogEntry encode(LogEntry entry);
+}
@@ -0,0 +1,15 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ExportQuery;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface LogEntryExportPort {
+    /**
+     * 조건에 맞는 로그를 한 줄에 하나씩 NDJSON 으로 out 에 쓴다. 결과 전체를 메모리에 올리지 않는다.
+     *
+     * @return 내보낸 행 수
+     */
+    long export(ExportQuery query, OutputStream out) throws IOException;
+}
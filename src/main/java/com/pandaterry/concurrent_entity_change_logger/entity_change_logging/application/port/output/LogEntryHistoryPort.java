@@ -0,0 +1,11 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryQuery;
+
+import java.util.List;
+
+public interface LogEntryHistoryPort {
+    // 조건에 맞는 행을 최신순으로 최대 query.limit() 개 돌려준다
+    List<EncodedLogEntry> find(HistoryQuery query);
+}
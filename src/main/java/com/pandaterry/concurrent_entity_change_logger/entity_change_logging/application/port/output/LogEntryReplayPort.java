@@ -0,0 +1,13 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.util.List;
+
+/**
+ * WAL 재생용 저장. 이미 저장된 엔트리와 겹쳐도 되도록 LogEntryId 가 없는 행만 넣는다.
+ */
+public interface LogEntryReplayPort {
+    // 새로 넣은 행 수를 돌려준다
+    int insertMissing(List<EncodedLogEntry> entries);
+}
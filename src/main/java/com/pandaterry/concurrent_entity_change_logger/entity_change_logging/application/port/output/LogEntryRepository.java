@@ -1,5 +1,6 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
 
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
 
 import java.util.List;
@@ -9,7 +10,11 @@ public interface LogEntryRepository {
 
     List<LogEntry> findAll();
 
-    void saveBatch(List<LogEntry> toSave);
+    PreparedBatch prepareBatch(List<EncodedLogEntry> toSave);
 
-    void saveBatchWithChunking(List<LogEntry> toSave, int chunkSize);
-}
\ No newline at end of file
+    void writeBatch(PreparedBatch prepared);
+
+    void saveBatch(List<EncodedLogEntry> toSave);
+
+    void saveBatchWithChunking(List<EncodedLogEntry> toSave, int chunkSize);
+}
@@ -1,11 +1,25 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
 
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ObjLongConsumer;
 
 public interface LogStoragePort {
-    void write(LogEntry entry) throws IOException;
+    /**
+     * 레코드를 WAL 에 넣는다. 반환된 Future 는 설정된 fsync 정책 기준으로 기록이 끝나면 레코드 끝의 WAL 위치로 완료된다.
+     */
+    CompletableFuture<Long> write(EncodedLogEntry entry);
+
+    /**
+     * 지난 실행에서 WAL 에 쓰였지만 DB 저장이 확인되지 않은 레코드를 WAL 순서대로 레코드 끝 위치와 함께 넘긴다.
+     * {@link #init()} 이후 한 번 호출한다.
+     *
+     * @return 넘긴 레코드 수
+     */
+    long replay(ObjLongConsumer<EncodedLogEntry> handler) throws IOException;
+
     void init() throws IOException;
     void close();
-}
\ No newline at end of file
+}
@@ -1,23 +1,72 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
 
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
 public interface MetricsPort {
     void recordOfferLatency(long durationNanos);
 
     void incrementDroppedCount();
 
+    void incrementOverflowCount(String policy, String outcome);
+
     void gaugeQueueSize(int currentSize);
 
+    void registerShardQueueSizeGauge(int shard, IntSupplier sizeSupplier);
+
+    void registerQueueLaneSizeGauge(String lane, IntSupplier sizeSupplier);
+
+    void registerSpillSizeGauge(LongSupplier sizeSupplier);
+
     void recordBatchLatency(long durationNanos);
 
     void recordBatchSize(int size);
 
+    void registerBatchTargetSizeGauge(int worker, IntSupplier sizeSupplier);
+
+    // 단계(prepare/write)가 실제 일을 한 시간. 레인 수로 나눈 증가율이 단계 사용률이다
+    void recordStageBusy(String stage, long durationNanos);
+
+    // 단계가 핸드오프에서 막혀 기다린 시간
+    void recordStageWait(String stage, long durationNanos);
+
+    void registerHandoffSizeGauge(int lane, IntSupplier sizeSupplier);
+
+    // 저장 문장 하나가 넣은 행 수 (path: 저장 방식)
+    void recordStatementRows(String path, int rows);
+
+    void recordChunkLatency(String path, long durationNanos);
+
     void incrementProcessedCount(int count);
 
     void incrementSaveErrorCount();
 
+    void incrementRetryCount();
+
+    void incrementBisectCount();
+
+    void incrementDeadLetterCount(int count);
+
+    void registerDeadLetterSizeGauge(LongSupplier sizeSupplier);
+
     void recordFlushLatency(long durationNanos);
 
     void incrementShutdownFlushedCount(int count);
 
+    void recordCaptureLatency(long durationNanos);
+
+    void incrementCaptureOverflowCount();
+
+    // WAL writer 가 한 번에 쓴 레코드 수
+    void recordWalGroupSize(int records);
+
+    void recordWalFsyncLatency(long durationNanos);
+
+    // 기동 시 WAL 재생으로 다시 저장한 레코드 수. 증가율이 재생 속도다
+    void incrementWalReplayedCount(int count);
+
+    // DB 저장이 확인되지 않은 WAL 바이트 (재기동 시 재생할 구간)
+    void registerWalReplayBacklogGauge(LongSupplier bytesSupplier);
+
     void shutdown();
 }
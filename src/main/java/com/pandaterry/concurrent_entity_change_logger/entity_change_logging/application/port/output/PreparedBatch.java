@@ -0,0 +1,17 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.util.List;
+
+/**
+ * 저장 직전까지 준비된 배치.
+ * 구현체는 영속성 어댑터가 정하며, 같은 어댑터의 write 에만 넘겨야 한다.
+ */
+public interface PreparedBatch {
+    List<EncodedLogEntry> entries();
+
+    default int size() {
+        return entries().size();
+    }
+}
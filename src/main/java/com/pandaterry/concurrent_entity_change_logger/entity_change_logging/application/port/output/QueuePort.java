@@ -1,13 +1,58 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
 
 
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public interface QueuePort {
-    boolean offer(LogEntry entry);
-    int drainTo(List<LogEntry> batch, int maxElements);
+    boolean offer(EncodedLogEntry entry);
+    int drainTo(List<EncodedLogEntry> batch, int maxElements);
+
+    // 자리가 날 때까지 최대 timeout 만큼 대기하며 offer 를 재시도한다
+    default boolean offer(EncodedLogEntry entry, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(entry)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    // 가장 오래된 엔트리 하나를 꺼낸다. 비어 있으면 null
+    default EncodedLogEntry poll() {
+        List<EncodedLogEntry> polled = new ArrayList<>(1);
+        return drainTo(polled, 1) > 0 ? polled.get(0) : null;
+    }
+
+    // entry 가 들어갈 자리에서 가장 오래된 엔트리 하나를 밀어낸다. 비어 있으면 null
+    default EncodedLogEntry evictOldestFor(EncodedLogEntry entry) {
+        return poll();
+    }
+
+    // 엔트리가 들어올 때까지 대기한 뒤 maxBatchSize 가 차거나 linger 시간이 지나면 돌아온다.
+    // 빈 큐에서는 주기적으로 돌아오므로 호출자는 drain 결과가 0일 수 있음을 고려해야 한다
+    void awaitBatch(int maxBatchSize, long lingerNanos) throws InterruptedException;
+
+    // 전용 워커를 하나씩 붙일 수 있는 독립 샤드 목록. 샤딩하지 않는 큐는 자기 자신 하나만 반환한다
+    default List<QueuePort> shards() {
+        return List.of(this);
+    }
+
+    // entry 가 들어가는 샤드의 번호 (shards() 의 인덱스). 스필 레인도 같은 번호를 쓴다
+    default int shardIndexOf(EncodedLogEntry entry) {
+        return 0;
+    }
+
+    // 샤드 단위로 엔티티별 순서를 지키는 큐인지 여부. true 면 샤드 수와 상관없이 샤드마다 워커 하나만 붙인다
+    default boolean isSharded() {
+        return false;
+    }
+
     int remainingCapacity();
     int size();
     void init();
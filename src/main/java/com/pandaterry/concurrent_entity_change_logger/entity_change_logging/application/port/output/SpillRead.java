@@ -0,0 +1,13 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+/**
+ * 스필 레인 하나에서 한 번에 꺼낸 레코드 구간.
+ * 꺼낸 엔트리의 저장이 끝난 뒤 {@link SpillStoragePort#acknowledge(SpillRead)} 로 넘겨야 읽기 커서가 이 구간을 지난다.
+ */
+public record SpillRead(int lane, long from, long to) {
+    public static final SpillRead NONE = new SpillRead(-1, 0, 0);
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+}
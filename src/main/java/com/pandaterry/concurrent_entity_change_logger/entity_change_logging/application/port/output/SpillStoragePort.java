@@ -0,0 +1,29 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 큐 샤드별 레인으로 나뉜 오버플로 저장소.
+ * 같은 레인의 엔트리는 넣은 순서대로 꺼내지고, 꺼낸 구간은 acknowledge 전까지 다음 기동 때 다시 꺼내진다.
+ */
+public interface SpillStoragePort {
+    void spill(int lane, EncodedLogEntry entry) throws IOException;
+
+    SpillRead drainTo(int lane, List<EncodedLogEntry> batch, int maxElements);
+
+    // 꺼낸 엔트리를 저장(또는 데드레터 격리)한 뒤 호출한다
+    void acknowledge(SpillRead read);
+
+    long size();
+
+    long size(int lane);
+
+    int laneCount();
+
+    void init() throws IOException;
+
+    void close();
+}
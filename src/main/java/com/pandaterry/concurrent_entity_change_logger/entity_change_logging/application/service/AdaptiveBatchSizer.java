@@ -0,0 +1,59 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+/**
+ * 저장 지연 시간, 큐 적재량, 실패 여부로 워커의 배치 크기를 조절하는 AIMD 컨트롤러.
+ * 목표 지연 안에서 배치가 꽉 차고 큐가 밀려 있으면 조금씩 늘리고,
+ * 목표 지연을 넘기면 줄이며, 저장에 실패하면 절반으로 줄인다.
+ * 워커(파이프라인이면 레인)마다 하나씩 사용한다. 크기 조정은 한 스레드에서만 호출해야 하며,
+ * 다른 스레드는 currentSize 만 읽는다.
+ */
+public final class AdaptiveBatchSizer {
+    private static final double LATENCY_DECREASE_FACTOR = 0.75;
+    private static final double FAILURE_DECREASE_FACTOR = 0.5;
+
+    private final int minSize;
+    private final int maxSize;
+    private final int additiveStep;
+    private final long targetLatencyNanos;
+    private volatile int currentSize;
+
+    private AdaptiveBatchSizer(int minSize, int maxSize, int initialSize, long targetLatencyNanos) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.additiveStep = Math.max(1, minSize);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.currentSize = clamp(initialSize);
+    }
+
+    public static AdaptiveBatchSizer adaptive(int minSize, int maxSize, int initialSize, long targetLatencyNanos) {
+        if (minSize <= 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("Invalid batch size bounds: " + minSize + ".." + maxSize);
+        }
+        return new AdaptiveBatchSizer(minSize, maxSize, initialSize, targetLatencyNanos);
+    }
+
+    public static AdaptiveBatchSizer fixed(int size) {
+        return new AdaptiveBatchSizer(size, size, size, Long.MAX_VALUE);
+    }
+
+    public int currentSize() {
+        return currentSize;
+    }
+
+    public void onSuccess(int savedCount, long latencyNanos, int queueDepth) {
+        if (latencyNanos > targetLatencyNanos) {
+            currentSize = clamp((int) (currentSize * LATENCY_DECREASE_FACTOR));
+        } else if (savedCount >= currentSize && queueDepth >= currentSize) {
+            // 배치가 꽉 찼고 다음 배치도 이미 쌓여 있을 때만 늘린다
+            currentSize = clamp(currentSize + additiveStep);
+        }
+    }
+
+    public void onFailure() {
+        currentSize = clamp((int) (currentSize * FAILURE_DECREASE_FACTOR));
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+}
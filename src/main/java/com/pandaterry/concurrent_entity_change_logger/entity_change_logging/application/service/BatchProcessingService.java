@@ -2,57 +2,176 @@ package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.app
 
 
 import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.concurrent.WorkerExecutorFactory;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillRead;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.BatchRetryService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BatchProcessingService {
+    private static final String WORKER_NAME = "entitylog-batch";
 
     private final QueuePort queuePort;
+    private final SpillStoragePort spillStoragePort;
     private final BatchPersistencePort batchPersistencePort;
+    private final BatchRetryService batchRetryService;
     private final MetricsPort metricsPort;
     private final EntityLoggingProperties loggingProperties;
+    private final WorkerExecutorFactory workerExecutorFactory;
+    private final PersistedWalCursor persistedWalCursor;
+
+    private static final String STAGE_PREPARE = "prepare";
+    private static final String STAGE_WRITE = "write";
+    private static final long HANDOFF_POLL_MILLIS = 100;
 
     private ExecutorService logProcessorPool;
+    private volatile boolean running = false;
 
     public void init() {
-        this.logProcessorPool = Executors.newFixedThreadPool(
-                loggingProperties.getStrategy().getThreadPoolSize()
-        );
+        this.running = true;
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        List<QueuePort> shards = queuePort.shards();
+
+        // 샤드 큐는 샤드 수가 1이어도 샤드마다 전용 워커 하나: 같은 엔티티의 변경은 한 워커가 순서대로 저장한다
+        List<QueuePort> sources = queuePort.isSharded()
+                ? shards
+                : Collections.nCopies(strategy.getThreadPoolSize(), queuePort);
+        boolean pipelined = strategy.isPipelineEnabled();
+        this.logProcessorPool = workerExecutorFactory.newWorkerPool(
+                WORKER_NAME, pipelined ? sources.size() * 2 : sources.size());
 
-        for (int i = 0; i < loggingProperties.getStrategy().getThreadPoolSize(); i++) {
-            logProcessorPool.submit(this::processLogs);
+        for (int i = 0; i < sources.size(); i++) {
+            QueuePort source = sources.get(i);
+            // 샤드 워커는 자기 샤드와 같은 번호의 스필 레인만 꺼낸다
+            int spillLane = queuePort.isSharded() ? i : 0;
+            AdaptiveBatchSizer batchSizer = newBatchSizer();
+            metricsPort.registerBatchTargetSizeGauge(i, batchSizer::currentSize);
+
+            if (pipelined) {
+                // 레인마다 준비 워커와 저장 워커를 한 쌍으로 두어 샤드 내 저장 순서를 지킨다
+                PipelineLane lane = new PipelineLane(strategy.getPipelineHandoffSize());
+                metricsPort.registerHandoffSizeGauge(i, lane.handoff::size);
+                logProcessorPool.submit(() -> prepareBatches(source, spillLane, batchSizer, lane));
+                logProcessorPool.submit(() -> writeBatches(source, batchSizer, lane));
+            } else {
+                logProcessorPool.submit(() -> processLogs(source, spillLane, batchSizer));
+            }
         }
 
         Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
     }
 
-    private void processLogs() {
-        int batchSize = loggingProperties.getJpaBatchSize();
+    private AdaptiveBatchSizer newBatchSizer() {
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        if (!strategy.isAdaptiveBatch()) {
+            return AdaptiveBatchSizer.fixed(loggingProperties.getJpaBatchSize());
+        }
+        return AdaptiveBatchSizer.adaptive(
+                strategy.getBatchMinSize(),
+                strategy.getBatchMaxSize(),
+                loggingProperties.getJpaBatchSize(),
+                TimeUnit.MILLISECONDS.toNanos(strategy.getBatchTargetLatency())
+        );
+    }
+
+    private void processLogs(QueuePort source, int spillLane, AdaptiveBatchSizer batchSizer) {
+        try {
+            // 배치가 차거나 linger 가 지나면 저장한다. 종료는 running 플래그로 알린다
+            while (running) {
+                DrainedBatch batch = nextBatch(source, spillLane, batchSizer.currentSize());
+                if (batch.entries().isEmpty()) {
+                    continue;
+                }
+
+                long startNanos = System.nanoTime();
+                if (saveBatch(batch.entries(), batch.spillRead())) {
+                    batchSizer.onSuccess(batch.entries().size(), System.nanoTime() - startNanos, source.size());
+                } else {
+                    batchSizer.onFailure();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 준비 단계: 큐에서 배치를 모아 바인딩 인자를 만들고 핸드오프에 넘긴다
+    private void prepareBatches(QueuePort source, int spillLane, AdaptiveBatchSizer batchSizer, PipelineLane lane) {
+        try {
+            while (running) {
+                DrainedBatch batch = nextBatch(source, spillLane, batchSizer.currentSize());
+                if (batch.entries().isEmpty()) {
+                    continue;
+                }
+
+                long busyStart = System.nanoTime();
+                PendingWrite pending;
+                try {
+                    pending = PendingWrite.prepared(batchPersistencePort.prepare(batch.entries()), batch.spillRead());
+                } catch (Exception e) {
+                    // 준비에 실패한 배치도 저장 단계로 넘겨 레인의 쓰기 순서를 지킨다.
+                    // 저장 단계가 분할 저장해 문제 레코드만 데드레터로 보낸다
+                    log.error("배치 준비 실패 - 건수: {}", batch.entries().size(), e);
+                    pending = PendingWrite.unprepared(batch.entries(), batch.spillRead());
+                    batchSizer.onFailure();
+                }
+                metricsPort.recordStageBusy(STAGE_PREPARE, System.nanoTime() - busyStart);
+
+                // 저장 단계가 밀리면 여기서 막히고, 그 배압이 큐와 오버플로 정책으로 전달된다
+                long waitStart = System.nanoTime();
+                lane.handoff.put(pending);
+                metricsPort.recordStageWait(STAGE_PREPARE, System.nanoTime() - waitStart);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lane.preparerDone = true;
+        }
+    }
 
+    // 저장 단계: 준비된 배치를 받아 바로 DB 에 쓴다. 준비 워커가 끝나고 핸드오프가 빌 때까지 돈다
+    private void writeBatches(QueuePort source, AdaptiveBatchSizer batchSizer, PipelineLane lane) {
         try {
-            while (!Thread.currentThread().isInterrupted()) {
-                while (queuePort.size() < batchSize) {
-                    Thread.sleep(50);
+            while (!(lane.preparerDone && lane.handoff.isEmpty())) {
+                long waitStart = System.nanoTime();
+                PendingWrite pending = lane.handoff.poll(HANDOFF_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                metricsPort.recordStageWait(STAGE_WRITE, System.nanoTime() - waitStart);
+                if (pending == null) {
+                    continue;
                 }
 
-                List<LogEntry> batch = new ArrayList<>(batchSize);
-                int drained = queuePort.drainTo(batch, batchSize);
+                long busyStart = System.nanoTime();
+                boolean saved = pending.prepared() != null
+                        ? writeBatch(pending.prepared(), pending.spillRead())
+                        : saveBatch(pending.entries(), pending.spillRead());
+                long busyNanos = System.nanoTime() - busyStart;
+                metricsPort.recordStageBusy(STAGE_WRITE, busyNanos);
 
-                if (drained > 0) {
-                    saveBatch(batch);
+                if (saved) {
+                    batchSizer.onSuccess(pending.entries().size(), busyNanos, source.size());
+                } else {
+                    batchSizer.onFailure();
                 }
             }
         } catch (InterruptedException e) {
@@ -60,33 +179,63 @@ public class BatchProcessingService {
         }
     }
 
-    private void saveBatch(List<LogEntry> toSave) {
-        int success = 0;
-        int batchCount = loggingProperties.getJpaBatchSize();
+    private DrainedBatch nextBatch(QueuePort source, int spillLane, int batchSize) throws InterruptedException {
+        if (spillStoragePort.size(spillLane) == 0) {
+            long lingerNanos = TimeUnit.MILLISECONDS.toNanos(loggingProperties.getStrategy().getLinger());
+            source.awaitBatch(batchSize, lingerNanos);
+        }
+
+        List<EncodedLogEntry> batch = new ArrayList<>(batchSize);
+        int drained = source.drainTo(batch, batchSize);
+        SpillRead spillRead = SpillRead.NONE;
+        if (drained < batchSize) {
+            // 큐를 따라잡았으면 스필 레인으로 밀려난 엔트리를 이어서 처리한다. 큐에 남은 것이 더 오래된 엔트리다
+            spillRead = spillStoragePort.drainTo(spillLane, batch, batchSize - drained);
+        }
+        return new DrainedBatch(batch, spillRead);
+    }
+
+    private boolean saveBatch(List<EncodedLogEntry> toSave, SpillRead spillRead) {
+        return persist(toSave, spillRead, () -> batchRetryService.save(toSave));
+    }
+
+    private boolean writeBatch(PreparedBatch prepared, SpillRead spillRead) {
+        return persist(prepared.entries(), spillRead, () -> batchRetryService.write(prepared));
+    }
+
+    // 실패한 엔트리는 재시도/분할 후에도 안 되면 데드레터로 넘어간다. 전부 저장했을 때만 true
+    private boolean persist(List<EncodedLogEntry> entries, SpillRead spillRead, IntSupplier action) {
+        int size = entries.size();
+        int saved = 0;
         long startNanos = System.nanoTime();
 
         try {
-            batchPersistencePort.saveBatch(toSave);
-            success++;
+            saved = action.getAsInt();
+            // 저장했거나 데드레터로 넘긴 엔트리만 WAL 재생 대상에서 빼고 스필 커서를 넘긴다.
+            // 예상하지 못한 오류로 끝나면 둘 다 그대로 두어 다음 기동 때 다시 처리한다
+            persistedWalCursor.settled(entries);
+            spillStoragePort.acknowledge(spillRead);
         } catch (Exception e) {
+            log.error("배치 저장 중 예상하지 못한 오류 - 건수: {}", size, e);
             metricsPort.incrementSaveErrorCount();
         }
 
         long tookNanos = System.nanoTime() - startNanos;
-        metricsPort.recordBatchSize(batchCount);
+        metricsPort.recordBatchSize(size);
         metricsPort.recordBatchLatency(tookNanos);
-        metricsPort.incrementProcessedCount(success);
+        metricsPort.incrementProcessedCount(saved);
         metricsPort.gaugeQueueSize(queuePort.size());
+        return saved == size;
     }
 
     public int flush() {
         int batchSize = loggingProperties.getJpaBatchSize();
-        List<LogEntry> batch = new ArrayList<>(batchSize);
+        List<EncodedLogEntry> batch = new ArrayList<>(batchSize);
         int drained = queuePort.drainTo(batch, batchSize);
 
         if (drained > 0) {
             long start = System.nanoTime();
-            saveBatch(batch);
+            saveBatch(batch, SpillRead.NONE);
             long took = System.nanoTime() - start;
             metricsPort.recordFlushLatency(took);
         }
@@ -116,7 +265,34 @@ public class BatchProcessingService {
         return totalFlushed;
     }
 
+    // 종료 시 플러시하지 못한 큐 엔트리를 스필 세그먼트에 보관해 다음 기동 때 이어서 처리한다
+    public int spillRemaining() {
+        int batchSize = loggingProperties.getJpaBatchSize();
+        int spilled = 0;
+
+        List<EncodedLogEntry> batch = new ArrayList<>(batchSize);
+        while (queuePort.drainTo(batch, batchSize) > 0) {
+            for (EncodedLogEntry entry : batch) {
+                try {
+                    // WAL 정산은 하지 않는다. 다음 기동 때 WAL 재생과 스필 재생이 모두 중복 없이 다시 넣는다
+                    spillStoragePort.spill(queuePort.shardIndexOf(entry), entry);
+                    spilled++;
+                } catch (IOException e) {
+                    log.error("종료 시 스필 실패 - Entity: {}", entry.getEntityIdentifier(), e);
+                    metricsPort.incrementDroppedCount();
+                }
+            }
+            batch.clear();
+        }
+
+        if (spilled > 0) {
+            log.info("미처리 엔트리 {}건을 스필 세그먼트에 보관", spilled);
+        }
+        return spilled;
+    }
+
     public void shutdown() {
+        running = false;
         logProcessorPool.shutdown();
         try {
             if (!logProcessorPool.awaitTermination(10, TimeUnit.SECONDS)) {
@@ -129,4 +305,27 @@ public class BatchProcessingService {
         int flushed = flush();
         metricsPort.incrementShutdownFlushedCount(flushed);
     }
+
+    private record DrainedBatch(List<EncodedLogEntry> entries, SpillRead spillRead) {
+    }
+
+    // prepared 가 null 이면 준비에 실패한 배치로, 저장 단계에서 인코딩 없이 분할 저장한다
+    private record PendingWrite(List<EncodedLogEntry> entries, PreparedBatch prepared, SpillRead spillRead) {
+        static PendingWrite prepared(PreparedBatch prepared, SpillRead spillRead) {
+            return new PendingWrite(prepared.entries(), prepared, spillRead);
+        }
+
+        static PendingWrite unprepared(List<EncodedLogEntry> entries, SpillRead spillRead) {
+            return new PendingWrite(entries, null, spillRead);
+        }
+    }
+
+    private static final class PipelineLane {
+        private final BlockingQueue<PendingWrite> handoff;
+        private volatile boolean preparerDone = false;
+
+        private PipelineLane(int capacity) {
+            this.handoff = new ArrayBlockingQueue<>(capacity);
+        }
+    }
 }
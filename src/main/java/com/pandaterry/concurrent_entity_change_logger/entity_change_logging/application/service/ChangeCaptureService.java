@@ -0,0 +1,149 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeCapture;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.concurrent.WorkerExecutorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 리스너가 넘긴 변경 스냅샷을 처리한다.
+ * deferred 모드에서는 스냅샷을 버퍼에 넘기기만 하고, 변경 내역 계산/직렬화/저장은 캡처 워커가 수행한다.
+ * 버퍼는 워커마다 하나인 레인으로 나뉘고 EntityIdentifier 해시로 레인을 고르므로, 같은 엔티티의 스냅샷은
+ * 한 워커가 들어온 순서대로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeCaptureService {
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final String WORKER_NAME = "entitylog-capture";
+
+    private final LoggingService loggingService;
+    private final MetricsPort metricsPort;
+    private final EntityLoggingProperties loggingProperties;
+    private final WorkerExecutorFactory workerExecutorFactory;
+
+    private List<BlockingQueue<ChangeCapture>> lanes;
+    private ExecutorService captureWorkerPool;
+    private volatile boolean running = false;
+
+    public void init() {
+        if (!loggingProperties.isDeferredCapture()) {
+            return;
+        }
+
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        int workers = strategy.getCaptureThreadPoolSize();
+        int laneCapacity = Math.max(1, strategy.getCaptureBufferSize() / workers);
+
+        List<BlockingQueue<ChangeCapture>> created = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            created.add(new ArrayBlockingQueue<>(laneCapacity));
+        }
+        this.lanes = List.copyOf(created);
+        this.captureWorkerPool = workerExecutorFactory.newWorkerPool(WORKER_NAME, workers);
+        this.running = true;
+
+        for (BlockingQueue<ChangeCapture> lane : lanes) {
+            captureWorkerPool.submit(() -> processCaptures(lane));
+        }
+        log.info("변경 캡처 워커 시작 - {}개, 레인당 버퍼: {}", workers, laneCapacity);
+    }
+
+    public void capture(ChangeCapture capture) {
+        long startNanos = System.nanoTime();
+
+        if (!running) {
+            loggingService.logCapture(capture);
+        } else {
+            BlockingQueue<ChangeCapture> lane = laneOf(capture);
+            if (!enqueue(lane, capture)) {
+                // 종료 중이라 레인에 넣지 못한 스냅샷은 유실 대신 호출 스레드에서 처리
+                loggingService.logCapture(capture);
+            } else if (!running && lane.remove(capture)) {
+                // 종료 드레인과 엇갈려 레인에 남을 수 있는 스냅샷은 되찾아 호출 스레드에서 처리
+                loggingService.logCapture(capture);
+            }
+        }
+
+        metricsPort.recordCaptureLatency(System.nanoTime() - startNanos);
+    }
+
+    private BlockingQueue<ChangeCapture> laneOf(ChangeCapture capture) {
+        int hash = capture.getEntityIdentifier().hashCode();
+        return lanes.get(Math.floorMod(hash ^ (hash >>> 16), lanes.size()));
+    }
+
+    private boolean enqueue(BlockingQueue<ChangeCapture> lane, ChangeCapture capture) {
+        if (lane.offer(capture)) {
+            return true;
+        }
+        // 호출 스레드에서 바로 처리하면 레인에 남은 같은 엔티티의 앞선 스냅샷을 앞지르므로 자리가 날 때까지 기다린다
+        metricsPort.incrementCaptureOverflowCount();
+        try {
+            while (running) {
+                if (lane.offer(capture, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void processCaptures(BlockingQueue<ChangeCapture> lane) {
+        // 파일 채널이 인터럽트로 닫히지 않도록 인터럽트 대신 running 플래그로 종료한다
+        while (running) {
+            try {
+                ChangeCapture capture = lane.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (capture != null) {
+                    processSafely(capture);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void processSafely(ChangeCapture capture) {
+        try {
+            loggingService.logCapture(capture);
+        } catch (Exception e) {
+            log.error("변경 캡처 처리 실패 - {} {}", capture.getEntityIdentifier(), capture.getOperation(), e);
+        }
+    }
+
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        captureWorkerPool.shutdown();
+        try {
+            if (!captureWorkerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("변경 캡처 워커 종료 대기 타임아웃");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 레인마다 들어온 순서대로 처리한다
+        List<ChangeCapture> remaining = new ArrayList<>();
+        lanes.forEach(lane -> lane.drainTo(remaining));
+        remaining.forEach(this::processSafely);
+        log.info("변경 캡처 워커 종료 - 잔여 {}건 처리", remaining.size());
+    }
+}
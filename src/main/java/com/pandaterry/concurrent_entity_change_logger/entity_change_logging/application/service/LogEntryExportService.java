@@ -0,0 +1,37 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryExportPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ExportQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogEntryExportService {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final LogEntryExportPort logEntryExportPort;
+
+    public long export(ExportQuery query, OutputStream out, boolean gzip) throws IOException {
+        long startTime = System.nanoTime();
+        long rows;
+        if (gzip) {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            rows = logEntryExportPort.export(query, gzipOut);
+            gzipOut.finish();
+        } else {
+            rows = logEntryExportPort.export(query, out);
+        }
+        out.flush();
+
+        log.info("변경 이력 내보내기 완료 - {}건, {}ms, 조건: {}",
+                rows, (System.nanoTime() - startTime) / 1_000_000, query);
+        return rows;
+    }
+}
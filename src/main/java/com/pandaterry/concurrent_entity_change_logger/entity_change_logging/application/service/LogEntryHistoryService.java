@@ -0,0 +1,41 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryHistoryPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.HistoryPage;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryQuery;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class LogEntryHistoryService {
+    private final LogEntryHistoryPort logEntryHistoryPort;
+    private final EntityLoggingProperties loggingProperties;
+
+    public HistoryPage find(HistoryQuery query) {
+        int pageSize = pageSize(query.limit());
+
+        // 한 행 더 읽어 다음 페이지가 있는지 판단한다
+        List<EncodedLogEntry> rows = logEntryHistoryPort.find(query.withLimit(pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new HistoryPage(rows, null);
+        }
+
+        List<EncodedLogEntry> page = rows.subList(0, pageSize);
+        EncodedLogEntry last = page.get(pageSize - 1);
+        return new HistoryPage(page, new HistoryCursor(last.getRecordedAt(), last.getId().getValue()));
+    }
+
+    private int pageSize(int requested) {
+        EntityLoggingProperties.History history = loggingProperties.getHistory();
+        if (requested <= 0) {
+            return history.getDefaultPageSize();
+        }
+        return Math.min(requested, history.getMaxPageSize());
+    }
+}
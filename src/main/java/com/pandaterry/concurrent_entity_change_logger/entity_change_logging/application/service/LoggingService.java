@@ -1,28 +1,40 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
 
 import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryEncodingPort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogStoragePort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.OfferOutcome;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.OverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.LogEntry;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker.EntityChangeTracker;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeCapture;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeSet;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoggingService {
     private final LogStoragePort logStoragePort;
     private final QueuePort queuePort;
+    private final OverflowPolicy overflowPolicy;
     private final MetricsPort metricsPort;
+    private final LogEntryEncodingPort logEntryEncodingPort;
     private final EntityChangeTracker changeTracker;
     private final EntityLoggingProperties loggingProperties;
+    private final PersistedWalCursor persistedWalCursor;
 
     public void logChange(Object oldEntity, Object newEntity, Operation operation) {
         if (!loggingProperties.shouldLogChanges(oldEntity != null ? oldEntity : newEntity)) {
@@ -30,14 +42,43 @@ public class LoggingService {
         }
 
         LogEntry entry = createLogEntry(oldEntity, newEntity, operation);
+        dispatch(entry);
+    }
+
+    public void logCapture(ChangeCapture capture) {
+        ChangeSet changeSet = changeTracker.trackStateChanges(
+                capture.getEntityClass(), capture.getState(), capture.getOperation());
+
+        LogEntry entry = LogEntry.create(
+                capture.getId(),
+                capture.getEntityIdentifier(),
+                changeSet,
+                capture.getOperation(),
+                capture.getCapturedAt(),
+                capture.toSubmissionContext()
+        );
+        dispatch(entry);
+    }
 
-        try {
-            logStoragePort.write(entry);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private void dispatch(LogEntry entry) {
+        // 인코딩은 여기서 한 번만 하고 WAL, 큐, 배치 저장이 같은 레코드를 공유한다
+        EncodedLogEntry encoded = logEntryEncodingPort.encode(entry);
+        CompletableFuture<Long> durable = logStoragePort.write(encoded);
+        if (loggingProperties.getWal().isAwaitDurable()) {
+            // 같은 시점에 들어온 다른 요청과 fsync 를 나눠 쓰고, 정책상 기록이 끝날 때까지 기다린다
+            try {
+                durable.join();
+            } catch (CompletionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        } else {
+            durable.exceptionally(e -> {
+                log.error("WAL 기록 실패 - {}", encoded.getId(), e);
+                return null;
+            });
         }
 
-        offerToQueue(entry);
+        offerToQueue(encoded);
     }
 
     private LogEntry createLogEntry(Object oldEntity, Object newEntity, Operation operation) {
@@ -51,19 +92,21 @@ public class LoggingService {
         return LogEntry.create(entityIdentifier, changeSet, operation);
     }
 
-    private void offerToQueue(LogEntry entry) {
+    private void offerToQueue(EncodedLogEntry entry) {
         long startNanos = System.nanoTime();
-        long tookNanos = System.nanoTime() - startNanos;
+        OfferOutcome outcome = overflowPolicy.offer(entry);
+        metricsPort.recordOfferLatency(System.nanoTime() - startNanos);
 
-        if (queuePort.remainingCapacity() == 0) {
-            return;
+        if (outcome != OfferOutcome.ENQUEUED) {
+            metricsPort.incrementOverflowCount(overflowPolicy.name(), outcome.tagValue());
         }
-
-        boolean offered = queuePort.offer(entry);
-        metricsPort.recordOfferLatency(tookNanos);
-
-        if (!offered) {
+        if (outcome == OfferOutcome.PERSISTED || outcome == OfferOutcome.DEAD_LETTERED) {
+            // 큐를 거치지 않고 DB 나 데드레터에 바로 넘어간 엔트리. 스필된 엔트리는 스필에서 꺼내 저장한 뒤에 정산한다
+            persistedWalCursor.settled(entry);
+        }
+        if (outcome.isLossy()) {
             metricsPort.incrementDroppedCount();
+            persistedWalCursor.discarded(entry);
         }
 
         metricsPort.gaugeQueueSize(queuePort.size());
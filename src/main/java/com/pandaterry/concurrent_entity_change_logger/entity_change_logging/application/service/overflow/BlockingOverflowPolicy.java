@@ -0,0 +1,37 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큐에 자리가 날 때까지 최대 timeout 만큼 호출 스레드를 대기시키고, 그래도 가득 차 있으면 버린다.
+ */
+@RequiredArgsConstructor
+public class BlockingOverflowPolicy implements OverflowPolicy {
+    private final QueuePort queuePort;
+    private final long timeoutMillis;
+
+    @Override
+    public String name() {
+        return "block";
+    }
+
+    @Override
+    public OfferOutcome offer(EncodedLogEntry entry) {
+        if (queuePort.offer(entry)) {
+            return OfferOutcome.ENQUEUED;
+        }
+
+        try {
+            return queuePort.offer(entry, timeoutMillis, TimeUnit.MILLISECONDS)
+                    ? OfferOutcome.ENQUEUED
+                    : OfferOutcome.DROPPED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return OfferOutcome.DROPPED;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.BatchRetryService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 큐가 가득 차면 호출 스레드에서 바로 DB 에 저장한다.
+ * 저장 실패는 배치 워커와 같이 {@link BatchRetryService} 가 백오프로 재시도하고, 끝내 실패하면 데드레터에 남긴다.
+ * 과부하 시 호출 스레드가 DB 쓰기 지연(재시도 대기 포함)만큼 느려져 생산 속도를 자연스럽게 늦춘다.
+ */
+@RequiredArgsConstructor
+public class CallerRunsOverflowPolicy implements OverflowPolicy {
+    private final QueuePort queuePort;
+    private final BatchRetryService batchRetryService;
+
+    @Override
+    public String name() {
+        return "caller-runs";
+    }
+
+    @Override
+    public OfferOutcome offer(EncodedLogEntry entry) {
+        if (queuePort.offer(entry)) {
+            return OfferOutcome.ENQUEUED;
+        }
+
+        return batchRetryService.save(List.of(entry)) > 0
+                ? OfferOutcome.PERSISTED
+                : OfferOutcome.DEAD_LETTERED;
+    }
+}
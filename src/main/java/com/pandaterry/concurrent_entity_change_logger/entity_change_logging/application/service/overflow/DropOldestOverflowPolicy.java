@@ -0,0 +1,50 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 큐가 가득 차면 가장 오래된 엔트리를 하나 밀어내고 새 엔트리를 넣는다.
+ * 최신 변경을 우선 보존하며, 밀려난 엔트리는 유실로 보고 WAL 재생 커서에서도 정산한다.
+ * 샤드 큐에서는 새 엔트리가 들어갈 샤드에서만 밀어내고, 밀려난 엔트리는 한 건씩 드롭으로 집계한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DropOldestOverflowPolicy implements OverflowPolicy {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final QueuePort queuePort;
+    private final MetricsPort metricsPort;
+    private final PersistedWalCursor persistedWalCursor;
+
+    @Override
+    public String name() {
+        return "drop-oldest";
+    }
+
+    @Override
+    public OfferOutcome offer(EncodedLogEntry entry) {
+        if (queuePort.offer(entry)) {
+            return OfferOutcome.ENQUEUED;
+        }
+
+        // 다른 생산자가 빈 자리를 먼저 가져갈 수 있으므로 몇 번만 재시도한다
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            EncodedLogEntry evicted = queuePort.evictOldestFor(entry);
+            if (evicted != null) {
+                metricsPort.incrementDroppedCount();
+                persistedWalCursor.discarded(evicted);
+                log.debug("오래된 엔트리 제거 - Entity: {}, Operation: {}",
+                        evicted.getEntityIdentifier(), evicted.getOperation());
+            }
+            if (queuePort.offer(entry)) {
+                return OfferOutcome.DROPPED_OLDEST;
+            }
+        }
+        return OfferOutcome.DROPPED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐가 가득 차면 새 엔트리를 버린다. 요청 스레드 지연이 가장 작다.
+ */
+@RequiredArgsConstructor
+public class DropOverflowPolicy implements OverflowPolicy {
+    private final QueuePort queuePort;
+
+    @Override
+    public String name() {
+        return "drop";
+    }
+
+    @Override
+    public OfferOutcome offer(EncodedLogEntry entry) {
+        return queuePort.offer(entry) ? OfferOutcome.ENQUEUED : OfferOutcome.DROPPED;
+    }
+}
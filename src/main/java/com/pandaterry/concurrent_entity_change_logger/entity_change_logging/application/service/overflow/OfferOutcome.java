@@ -0,0 +1,26 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+public enum OfferOutcome {
+    ENQUEUED(false),
+    DROPPED(true),
+    DROPPED_OLDEST(false),
+    PERSISTED(false),
+    DEAD_LETTERED(false),
+    SPILLED(false);
+
+    private final boolean lossy;
+
+    OfferOutcome(boolean lossy) {
+        this.lossy = lossy;
+    }
+
+    // 제출한 엔트리 자체가 큐에 들어가지 못하고 버려졌는지 여부.
+    // drop-oldest 로 밀려난 엔트리는 정책이 밀어낼 때마다 따로 집계하고 정산한다
+    public boolean isLossy() {
+        return lossy;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
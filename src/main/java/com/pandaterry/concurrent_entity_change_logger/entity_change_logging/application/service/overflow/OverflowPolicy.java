@@ -0,0 +1,13 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+
+/**
+ * 큐에 엔트리를 넣고, 큐가 가득 찼을 때의 처리 방식을 결정한다.
+ * 정책마다 지연 시간과 유실 사이의 트레이드오프가 다르므로 배포 환경별로 선택한다.
+ */
+public interface OverflowPolicy {
+    String name();
+
+    OfferOutcome offer(EncodedLogEntry entry);
+}
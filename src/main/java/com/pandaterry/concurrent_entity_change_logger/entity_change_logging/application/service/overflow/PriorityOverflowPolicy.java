@@ -0,0 +1,50 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐 사용률에 따라 우선순위가 낮은 엔트리부터 받지 않는다.
+ * LOW 는 lowWatermark, NORMAL 은 normalWatermark 를 넘으면 버리고, HIGH 는 큐가 가득 찰 때까지 받는다.
+ */
+@RequiredArgsConstructor
+public class PriorityOverflowPolicy implements OverflowPolicy {
+    private final QueuePort queuePort;
+    private final double lowWatermark;
+    private final double normalWatermark;
+
+    @Override
+    public String name() {
+        return "priority";
+    }
+
+    @Override
+    public OfferOutcome offer(EncodedLogEntry entry) {
+        if (fillRatio() >= admissionLimit(priorityOf(entry))) {
+            return OfferOutcome.DROPPED;
+        }
+        return queuePort.offer(entry) ? OfferOutcome.ENQUEUED : OfferOutcome.DROPPED;
+    }
+
+    private Operation.Priority priorityOf(EncodedLogEntry entry) {
+        return entry.isHighPriority()
+                ? Operation.Priority.HIGH
+                : entry.getOperation().getPriority();
+    }
+
+    private double admissionLimit(Operation.Priority priority) {
+        return switch (priority) {
+            case LOW -> lowWatermark;
+            case NORMAL -> normalWatermark;
+            case HIGH -> 1.0;
+        };
+    }
+
+    private double fillRatio() {
+        int size = queuePort.size();
+        int capacity = size + queuePort.remainingCapacity();
+        return capacity == 0 ? 1.0 : (double) size / capacity;
+    }
+}
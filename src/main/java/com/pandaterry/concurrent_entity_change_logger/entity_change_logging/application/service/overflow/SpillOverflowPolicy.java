@@ -0,0 +1,43 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * 큐가 가득 차면 엔트리를 스필 세그먼트에 기록해 둔다.
+ * 배치 워커가 큐를 따라잡으면 스필된 엔트리를 다시 가져가 저장한다.
+ * 엔트리는 큐 샤드와 같은 번호의 스필 레인에 들어가고, 레인에 엔트리가 남아 있는 동안에는 새 엔트리도 뒤에 이어 붙여
+ * 같은 엔티티의 변경이 큐와 스필 사이에서 순서가 뒤바뀌지 않게 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SpillOverflowPolicy implements OverflowPolicy {
+    private final QueuePort queuePort;
+    private final SpillStoragePort spillStoragePort;
+
+    @Override
+    public String name() {
+        return "spill";
+    }
+
+    @Override
+    public OfferOutcome offer(EncodedLogEntry entry) {
+        int lane = queuePort.shardIndexOf(entry);
+        if (spillStoragePort.size(lane) == 0 && queuePort.offer(entry)) {
+            return OfferOutcome.ENQUEUED;
+        }
+
+        try {
+            spillStoragePort.spill(lane, entry);
+            return OfferOutcome.SPILLED;
+        } catch (IOException e) {
+            log.error("스필 기록 실패 - Entity: {}", entry.getEntityIdentifier(), e);
+            return OfferOutcome.DROPPED;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DB 저장이 확인된 WAL 위치(재생 커서).
+ * 이 위치 이하에서 끝나는 레코드는 모두 DB 에 저장됐거나 스필/데드레터로 넘어가 다시 재생할 필요가 없다.
+ *
+ * <p>WAL writer 스레드가 레코드마다 끝 위치를 알리고, 배치 저장이 끝나면 해당 엔트리를 정산한다.
+ * 배치는 워커마다 순서 없이 끝나므로 아직 정산되지 않은 가장 앞 레코드 바로 앞까지만 커서가 나아간다.
+ * 오버플로 정책이 버리거나 밀어낸 엔트리는 유실로 보고 곧바로 정산한다. 남겨 두면 커서를 영영 붙잡아
+ * 추적 한도를 채우고, 커서가 멈추면 WAL 세그먼트도 지워지지 않는다.
+ *
+ * <p>추적 한도를 넘으면 커서를 멈추고 새 엔트리는 건수로만 센다. 추적 중인 엔트리가 모두 정산되고
+ * 건수도 0 으로 돌아오면(쓰기 중인 엔트리가 없어 먼저 도착한 정산과 헷갈릴 일이 없을 때) 다시 추적한다.
+ */
+@Slf4j
+@Component
+public class PersistedWalCursor {
+    // WAL 위치보다 정산이 먼저 도착한 엔트리 (await-durable=false 일 때만 생긴다)
+    private static final int MAX_EARLY_SETTLED = 10_000;
+
+    private final int maxTrackedEntries;
+    private final Map<LogEntryId, Long> pending = new HashMap<>();
+    private final TreeMap<Long, LogEntryId> pendingByPosition = new TreeMap<>();
+    private final Map<LogEntryId, Boolean> earlySettled = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LogEntryId, Boolean> eldest) {
+            return size() > MAX_EARLY_SETTLED;
+        }
+    };
+
+    private long highestWritten;
+    private long holdPosition = Long.MAX_VALUE;
+    private long frozenPosition = -1;
+    // WAL 에 쓰기를 요청했지만 아직 위치를 받지 못한 엔트리 수. 정산이 위치보다 먼저 올 수 있는 건 이 엔트리들뿐이다
+    private long writing;
+    // 멈춘 뒤 추적하지 않고 센 미정산 엔트리 수. 먼저 도착한 정산 때문에 잠시 음수가 될 수 있다
+    private long untracked;
+
+    public PersistedWalCursor(EntityLoggingProperties loggingProperties) {
+        this.maxTrackedEntries = loggingProperties.getRecovery().getMaxTrackedEntries();
+    }
+
+    /**
+     * 기동 시 체크포인트의 커서와 WAL 끝으로 초기화한다. 재생이 끝날 때까지 커서는 persistedPosition 에 머문다.
+     */
+    public synchronized void begin(long persistedPosition, long walEnd) {
+        pending.clear();
+        pendingByPosition.clear();
+        earlySettled.clear();
+        this.highestWritten = walEnd;
+        this.holdPosition = persistedPosition;
+        this.frozenPosition = -1;
+        this.writing = 0;
+        this.untracked = 0;
+    }
+
+    // 재생 중에는 읽어서 등록을 마친 위치까지만 커서가 나아갈 수 있다
+    public synchronized void hold(long position) {
+        this.holdPosition = position;
+    }
+
+    public synchronized void release() {
+        this.holdPosition = Long.MAX_VALUE;
+    }
+
+    public synchronized void submitted() {
+        writing++;
+    }
+
+    // submitted 로 알린 엔트리가 WAL 에 쓰였다
+    public synchronized void written(LogEntryId id, long position) {
+        writing--;
+        appended(id, position);
+    }
+
+    // submitted 로 알린 엔트리가 WAL 에 쓰이지 못했다. 정산은 따로 올 수 있으므로 멈춘 동안에는 쓰인 것처럼 센다
+    public synchronized void abandoned() {
+        writing--;
+        if (frozenPosition >= 0) {
+            untracked++;
+        }
+        resumeIfDrained();
+    }
+
+    public synchronized void appended(LogEntryId id, long position) {
+        highestWritten = Math.max(highestWritten, position);
+        if (earlySettled.remove(id) != null) {
+            resumeIfDrained();
+            return;
+        }
+        if (frozenPosition < 0 && pending.size() >= maxTrackedEntries) {
+            freeze();
+        }
+        if (frozenPosition >= 0) {
+            untracked++;
+            return;
+        }
+        pending.put(id, position);
+        pendingByPosition.put(position, id);
+    }
+
+    public void settled(EncodedLogEntry entry) {
+        settled(List.of(entry));
+    }
+
+    // 오버플로 정책이 버린 엔트리. 유실 건수는 드롭 메트릭으로 따로 집계한다
+    public void discarded(EncodedLogEntry entry) {
+        settled(List.of(entry));
+    }
+
+    public synchronized void settled(Collection<EncodedLogEntry> entries) {
+        for (EncodedLogEntry entry : entries) {
+            Long position = pending.remove(entry.getId());
+            if (position != null) {
+                pendingByPosition.remove(position);
+            } else if (frozenPosition >= 0) {
+                untracked--;
+            } else {
+                earlySettled.put(entry.getId(), Boolean.TRUE);
+            }
+        }
+        resumeIfDrained();
+    }
+
+    public synchronized long position() {
+        if (frozenPosition >= 0) {
+            return frozenPosition;
+        }
+        // 레코드 끝 위치 - 1 부터 읽으면 그 레코드부터 재생된다
+        long position = pendingByPosition.isEmpty() ? highestWritten : pendingByPosition.firstKey() - 1;
+        return Math.min(position, holdPosition);
+    }
+
+    // 지금 프로세스가 죽으면 다시 재생해야 하는 WAL 바이트
+    public synchronized long backlogBytes() {
+        return Math.max(0, highestWritten - position());
+    }
+
+    // 추적 한도를 넘으면 커서를 멈추고 새 엔트리는 건수로만 센다. 이미 추적 중인 엔트리는 정산될 때까지 남겨 둔다
+    private void freeze() {
+        frozenPosition = position();
+        untracked = 0;
+        log.warn("정산되지 않은 WAL 레코드가 {}건을 넘어 재생 커서를 {} 에서 멈춥니다. 밀린 엔트리가 모두 정산되면 다시 추적합니다",
+                maxTrackedEntries, frozenPosition);
+    }
+
+    // 쓰기 중인 엔트리가 없으면 먼저 도착한 정산도 없으므로 건수가 0 이면 WAL 끝까지 모두 정산된 것이다
+    private void resumeIfDrained() {
+        if (frozenPosition < 0 || writing != 0 || untracked != 0 || !pending.isEmpty()) {
+            return;
+        }
+        frozenPosition = -1;
+        earlySettled.clear();
+        log.info("밀린 WAL 레코드가 모두 정산되어 재생 커서를 {} 부터 다시 추적합니다", highestWritten);
+    }
+}
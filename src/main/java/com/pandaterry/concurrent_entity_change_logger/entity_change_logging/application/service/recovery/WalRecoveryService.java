@@ -0,0 +1,156 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryReplayPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillRead;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.concurrent.WorkerExecutorFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기동 시 WAL 재생.
+ * 지난 실행에서 WAL 에 쓰였지만 DB 저장이 확인되지 않은 구간을 읽어 병렬 배치로 다시 넣는다.
+ * 이미 저장된 엔트리는 id 로 걸러지므로 재생 구간이 실제 유실 구간보다 넓어도 문제없다.
+ * 재생한 엔트리도 {@link PersistedWalCursor} 로 정산하므로 실패한 배치가 있으면 커서가 그 앞에 남아 다음 기동 때 다시 재생된다.
+ * 지난 실행의 스필 레인에 남은 엔트리도 이어서 같은 방식으로 넣는다. 꺼낸 뒤 저장 확인 전에 멈췄을 수 있어 일반 저장 경로로 보내면 중복 키로 실패한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalRecoveryService {
+    private static final String WORKER_NAME = "entitylog-replay";
+
+    private final LogStoragePort logStoragePort;
+    private final LogEntryReplayPort logEntryReplayPort;
+    private final SpillStoragePort spillStoragePort;
+    private final PersistedWalCursor persistedCursor;
+    private final MetricsPort metricsPort;
+    private final EntityLoggingProperties loggingProperties;
+    private final WorkerExecutorFactory workerExecutorFactory;
+
+    public long recover() throws IOException, InterruptedException {
+        metricsPort.registerWalReplayBacklogGauge(persistedCursor::backlogBytes);
+
+        EntityLoggingProperties.Recovery settings = loggingProperties.getRecovery();
+        if (!settings.isEnabled()) {
+            log.info("WAL 재생이 꺼져 있습니다");
+            persistedCursor.release();
+            return 0;
+        }
+
+        ExecutorService replayPool = workerExecutorFactory.newWorkerPool(WORKER_NAME, settings.getParallelism());
+        ReplayRun run = new ReplayRun(replayPool, settings.getBatchSize(), settings.getParallelism());
+
+        long startNanos = System.nanoTime();
+        long replayed;
+        try {
+            replayed = logStoragePort.replay(run::add);
+            run.submitCurrent();
+        } finally {
+            replayPool.shutdown();
+            while (!replayPool.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("WAL 재생 대기 중 - 남은 구간: {} 바이트", persistedCursor.backlogBytes());
+            }
+            persistedCursor.release();
+        }
+
+        long spillRecovered = recoverSpill(settings.getBatchSize());
+        if (spillRecovered > 0) {
+            log.info("스필 재생 완료 - {}건", spillRecovered);
+        }
+
+        if (replayed > 0) {
+            long tookMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            log.info("WAL 재생 완료 - 읽은 레코드: {}, 새로 저장: {}, 실패 배치: {}, 소요: {}ms ({}건/초)",
+                    replayed, run.inserted.get(), run.failedBatches.get(), tookMillis,
+                    replayed * 1000 / Math.max(1, tookMillis));
+        }
+        return replayed;
+    }
+
+    private long recoverSpill(int batchSize) {
+        long recovered = 0;
+        List<EncodedLogEntry> batch = new ArrayList<>(batchSize);
+        for (int lane = 0; lane < spillStoragePort.laneCount(); lane++) {
+            SpillRead read;
+            while (!(read = spillStoragePort.drainTo(lane, batch, batchSize)).isEmpty()) {
+                try {
+                    logEntryReplayPort.insertMissing(batch);
+                } catch (Exception e) {
+                    // 확인하지 않은 구간은 다음 기동 때 다시 꺼내지고, 나머지는 배치 워커가 이어서 처리한다
+                    log.error("스필 재생 배치 저장 실패 - 레인: {}, 건수: {}", lane, batch.size(), e);
+                    return recovered;
+                }
+                spillStoragePort.acknowledge(read);
+                recovered += batch.size();
+                batch.clear();
+            }
+        }
+        return recovered;
+    }
+
+    // 한 번의 재생. WAL 읽기는 호출 스레드 하나가 순서대로 하고 저장만 병렬로 한다
+    private final class ReplayRun {
+        private final ExecutorService replayPool;
+        private final int batchSize;
+        // 읽기가 저장보다 빠르면 여기서 막혀 메모리에 올라오는 배치 수가 병렬도를 넘지 않는다
+        private final Semaphore inFlight;
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicInteger failedBatches = new AtomicInteger();
+        private List<EncodedLogEntry> current;
+
+        private ReplayRun(ExecutorService replayPool, int batchSize, int parallelism) {
+            this.replayPool = replayPool;
+            this.batchSize = batchSize;
+            this.inFlight = new Semaphore(parallelism);
+            this.current = new ArrayList<>(batchSize);
+        }
+
+        void add(EncodedLogEntry entry, long position) {
+            persistedCursor.appended(entry.getId(), position);
+            persistedCursor.hold(position);
+
+            current.add(entry);
+            if (current.size() >= batchSize) {
+                submitCurrent();
+            }
+        }
+
+        void submitCurrent() {
+            if (current.isEmpty()) {
+                return;
+            }
+            List<EncodedLogEntry> entries = current;
+            current = new ArrayList<>(batchSize);
+
+            inFlight.acquireUninterruptibly();
+            replayPool.execute(() -> {
+                try {
+                    inserted.addAndGet(logEntryReplayPort.insertMissing(entries));
+                    persistedCursor.settled(entries);
+                    metricsPort.incrementWalReplayedCount(entries.size());
+                } catch (Exception e) {
+                    // 정산하지 않은 엔트리가 커서를 붙잡아 다음 기동 때 다시 재생된다
+                    failedBatches.incrementAndGet();
+                    log.error("WAL 재생 배치 저장 실패 - 건수: {}", entries.size(), e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+}
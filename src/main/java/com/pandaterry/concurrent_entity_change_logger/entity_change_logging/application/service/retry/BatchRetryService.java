@@ -0,0 +1,161 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryReplayPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배치 저장 실패 처리.
+ * 일시적인 오류는 지수 백오프로 재시도하고, 그 밖의 오류는 배치를 반씩 나눠 다시 저장해 문제 레코드만 골라낸다.
+ * 끝내 저장하지 못한 레코드는 데드레터 저장소에 남겨 나중에 재처리한다.
+ * 데드레터 재처리는 이미 저장된 id 를 건너뛰는 경로로 넣으므로, 중간에 끊긴 재처리를 다시 돌려도 중복 저장되지 않는다.
+ */
+@Slf4j
+@Service
+public class BatchRetryService {
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final BatchPersistencePort batchPersistencePort;
+    private final DeadLetterPort deadLetterPort;
+    private final LogEntryReplayPort logEntryReplayPort;
+    private final MetricsPort metricsPort;
+    private final EntityLoggingProperties loggingProperties;
+    private final RetryBackoff backoff;
+    private final int maxAttempts;
+
+    public BatchRetryService(BatchPersistencePort batchPersistencePort, DeadLetterPort deadLetterPort,
+                             LogEntryReplayPort logEntryReplayPort, MetricsPort metricsPort,
+                             EntityLoggingProperties loggingProperties) {
+        EntityLoggingProperties.Strategy strategy = loggingProperties.getStrategy();
+        this.batchPersistencePort = batchPersistencePort;
+        this.deadLetterPort = deadLetterPort;
+        this.logEntryReplayPort = logEntryReplayPort;
+        this.metricsPort = metricsPort;
+        this.loggingProperties = loggingProperties;
+        this.backoff = new RetryBackoff(
+                TimeUnit.MILLISECONDS.toNanos(strategy.getRetryInitialBackoff()),
+                TimeUnit.MILLISECONDS.toNanos(strategy.getRetryMaxBackoff()));
+        this.maxAttempts = strategy.getRetryMaxAttempts();
+    }
+
+    // 저장한 건수를 돌려준다. 나머지는 데드레터로 넘어갔다
+    public int save(List<EncodedLogEntry> batch) {
+        return write(batch, null, false);
+    }
+
+    public int write(PreparedBatch prepared) {
+        return write(prepared.entries(), prepared, false);
+    }
+
+    // 이미 저장된 id 는 건너뛰고 넣는다. 건너뛴 엔트리도 저장된 것으로 센다
+    public int saveMissing(List<EncodedLogEntry> batch) {
+        return write(batch, null, true);
+    }
+
+    private int write(List<EncodedLogEntry> batch, PreparedBatch prepared, boolean skipExisting) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (skipExisting) {
+                    logEntryReplayPort.insertMissing(batch);
+                } else {
+                    batchPersistencePort.write(prepared != null ? prepared : batchPersistencePort.prepare(batch));
+                }
+                return batch.size();
+            } catch (Exception e) {
+                metricsPort.incrementSaveErrorCount();
+
+                if (!batchPersistencePort.isRetryable(e)) {
+                    return bisect(batch, skipExisting, e);
+                }
+                if (attempt >= maxAttempts) {
+                    // DB 자체가 불안정한 상황이므로 쪼개지 않고 통째로 보관한다
+                    log.warn("재시도 한도 초과 - 건수: {}, 시도: {}", batch.size(), attempt, e);
+                    return deadLetter(batch, e);
+                }
+
+                metricsPort.incrementRetryCount();
+                if (!sleep(backoff.delayNanos(attempt))) {
+                    return deadLetter(batch, e);
+                }
+            }
+        }
+    }
+
+    private int bisect(List<EncodedLogEntry> batch, boolean skipExisting, Exception cause) {
+        if (batch.size() == 1) {
+            log.warn("저장할 수 없는 엔트리 격리 - Entity: {}, id: {}",
+                    batch.get(0).getEntityIdentifier(), batch.get(0).getId(), cause);
+            return deadLetter(batch, cause);
+        }
+
+        metricsPort.incrementBisectCount();
+        int mid = batch.size() >>> 1;
+        return write(batch.subList(0, mid), null, skipExisting)
+                + write(batch.subList(mid, batch.size()), null, skipExisting);
+    }
+
+    private int deadLetter(List<EncodedLogEntry> batch, Exception cause) {
+        String reason = describe(cause);
+        int written = 0;
+        for (EncodedLogEntry entry : batch) {
+            try {
+                deadLetterPort.write(entry, reason);
+                written++;
+            } catch (IOException e) {
+                log.error("데드레터 기록 실패 - Entity: {}", entry.getEntityIdentifier(), e);
+                metricsPort.incrementDroppedCount();
+            }
+        }
+        metricsPort.incrementDeadLetterCount(written);
+        return 0;
+    }
+
+    public DeadLetterReplayResult replayDeadLetters() throws IOException {
+        AtomicInteger saved = new AtomicInteger();
+        int replayed = deadLetterPort.replay(
+                batch -> saved.addAndGet(saveMissing(batch)),
+                loggingProperties.getJpaBatchSize());
+
+        log.info("데드레터 재처리 완료 - 대상: {} 건, 저장: {} 건", replayed, saved.get());
+        return new DeadLetterReplayResult(replayed, saved.get(), deadLetterPort.size());
+    }
+
+    public long pendingDeadLetters() {
+        return deadLetterPort.size();
+    }
+
+    private boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중: 더 기다리지 않고 데드레터로 보관한다
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String describe(Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String reason = root.getClass().getSimpleName() + ": " + root.getMessage();
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+}
@@ -0,0 +1,4 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry;
+
+public record DeadLetterReplayResult(int replayed, int saved, long remaining) {
+}
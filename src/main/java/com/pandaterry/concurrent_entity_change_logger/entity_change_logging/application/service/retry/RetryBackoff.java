@@ -0,0 +1,28 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프 + 지터.
+ * n 번째 재시도 대기 시간은 min(max, initial * 2^(n-1)) 의 절반에 나머지 절반만큼의 무작위 값을 더한다.
+ * 여러 워커가 같은 장애를 만나도 재시도가 한 시점에 몰리지 않는다.
+ */
+public final class RetryBackoff {
+    private final long initialNanos;
+    private final long maxNanos;
+
+    public RetryBackoff(long initialNanos, long maxNanos) {
+        if (initialNanos <= 0 || maxNanos < initialNanos) {
+            throw new IllegalArgumentException("Invalid backoff bounds: " + initialNanos + ".." + maxNanos);
+        }
+        this.initialNanos = initialNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long delayNanos(int attempt) {
+        int shift = Math.max(0, Math.min(attempt - 1, 62));
+        long ceiling = initialNanos > (maxNanos >> shift) ? maxNanos : initialNanos << shift;
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+}
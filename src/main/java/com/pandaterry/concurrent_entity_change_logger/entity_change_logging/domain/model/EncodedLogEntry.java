@@ -0,0 +1,50 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 큐 이후 파이프라인이 다루는 불변 레코드.
+ * 변경 내역과 컨텍스트를 한 번만 JSON 으로 인코딩해 두고, WAL 과 JDBC 배치 저장이 그대로 사용한다.
+ */
+@Getter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class EncodedLogEntry {
+    @EqualsAndHashCode.Include
+    private final LogEntryId id;
+    private final EntityIdentifier entityIdentifier;
+    private final Operation operation;
+    private final Instant recordedAt;
+    private final String changesJson;
+    private final String contextJson;
+    private final boolean highPriority;
+
+    private EncodedLogEntry(LogEntryId id, EntityIdentifier entityIdentifier, Operation operation,
+                            Instant recordedAt, String changesJson, String contextJson, boolean highPriority) {
+        this.id = Objects.requireNonNull(id, "LogEntry ID cannot be null");
+        this.entityIdentifier = Objects.requireNonNull(entityIdentifier, "Entity identifier cannot be null");
+        this.operation = Objects.requireNonNull(operation, "Operation cannot be null");
+        this.recordedAt = Objects.requireNonNull(recordedAt, "Recorded time cannot be null");
+        this.changesJson = Objects.requireNonNull(changesJson, "Changes JSON cannot be null");
+        this.contextJson = Objects.requireNonNull(contextJson, "Context JSON cannot be null");
+        this.highPriority = highPriority;
+    }
+
+    public static EncodedLogEntry of(LogEntryId id, EntityIdentifier entityIdentifier, Operation operation,
+                                     Instant recordedAt, String changesJson, String contextJson,
+                                     boolean highPriority) {
+        return new EncodedLogEntry(id, entityIdentifier, operation, recordedAt,
+                changesJson, contextJson, highPriority);
+    }
+
+    @Override
+    public String toString() {
+        return "EncodedLogEntry{id=" + id + ", entity=" + entityIdentifier + ", operation=" + operation + "}";
+    }
+}
@@ -0,0 +1,15 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryCursor;
+
+import java.util.List;
+
+/**
+ * 변경 이력 한 페이지. next 가 null 이면 마지막 페이지다.
+ */
+public record HistoryPage(List<EncodedLogEntry> entries, HistoryCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
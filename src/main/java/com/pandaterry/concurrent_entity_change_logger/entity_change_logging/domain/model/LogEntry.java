@@ -10,6 +10,7 @@ import lombok.Getter;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.Objects;
 
@@ -45,7 +46,9 @@ public class LogEntry {
                 entityIdentifier,
                 changeSet,
                 operation,
-                Instant.now(),
+                // DB 컬럼(timestamp(6))과 WAL 이진 형식은 마이크로초까지만 담는다. 미리 잘라 두어야
+                // 어느 저장 경로로 들어가든 (id, recorded_at) 키가 같아 재생 시 중복을 알아본다
+                Instant.now().truncatedTo(ChronoUnit.MICROS),
                 SubmissionContext.current()
         );
     }
@@ -0,0 +1,78 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata;
+
+import com.pandaterry.concurrent_entity_change_logger.shared.domain.annotation.ExcludeFromLogging;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔티티 클래스별로 한 번만 계산되는 로깅 메타데이터.
+ * 추적 대상 필드 목록, @Id 접근자, 로깅 제외 여부를 미리 계산해 둔다.
+ */
+@Getter
+public final class EntityMetadata {
+    private final Class<?> entityClass;
+    private final String entityName;
+    private final List<FieldAccessor> loggableFields;
+    private final Map<String, FieldAccessor> loggableFieldsByName;
+    private final FieldAccessor idAccessor;
+    private final boolean excludedFromLogging;
+
+    private EntityMetadata(Class<?> entityClass, List<FieldAccessor> loggableFields,
+                           FieldAccessor idAccessor, boolean excludedFromLogging) {
+        this.entityClass = entityClass;
+        this.entityName = entityClass.getSimpleName();
+        this.loggableFields = List.copyOf(loggableFields);
+        this.idAccessor = idAccessor;
+        this.excludedFromLogging = excludedFromLogging;
+
+        Map<String, FieldAccessor> byName = new LinkedHashMap<>();
+        loggableFields.forEach(field -> byName.put(field.getName(), field));
+        this.loggableFieldsByName = Map.copyOf(byName);
+    }
+
+    static EntityMetadata introspect(Class<?> entityClass) {
+        List<FieldAccessor> loggableFields = new ArrayList<>();
+        FieldAccessor idAccessor = null;
+
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+
+            if (idAccessor == null && field.isAnnotationPresent(jakarta.persistence.Id.class)) {
+                idAccessor = FieldAccessor.of(field);
+            }
+
+            if (shouldSkipField(field)) {
+                continue;
+            }
+            loggableFields.add(FieldAccessor.of(field));
+        }
+
+        return new EntityMetadata(
+                entityClass,
+                loggableFields,
+                idAccessor,
+                entityClass.isAnnotationPresent(ExcludeFromLogging.class)
+        );
+    }
+
+    private static boolean shouldSkipField(Field field) {
+        return field.isAnnotationPresent(jakarta.persistence.Transient.class) ||
+                field.isAnnotationPresent(ExcludeFromLogging.class);
+    }
+
+    public boolean hasIdAccessor() {
+        return idAccessor != null;
+    }
+
+    public boolean isLoggableField(String fieldName) {
+        return loggableFieldsByName.containsKey(fieldName);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata;
+
+import java.util.Objects;
+
+/**
+ * 엔티티 클래스별 {@link EntityMetadata} 캐시.
+ * 기동 시 Hibernate 메타모델로 미리 등록하고, 등록되지 않은 클래스는 최초 조회 시 계산한다.
+ */
+public final class EntityMetadataRegistry {
+    private static final ClassValue<EntityMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected EntityMetadata computeValue(Class<?> type) {
+            return EntityMetadata.introspect(type);
+        }
+    };
+
+    private EntityMetadataRegistry() {
+    }
+
+    public static EntityMetadata get(Class<?> entityClass) {
+        return METADATA.get(Objects.requireNonNull(entityClass, "Entity class cannot be null"));
+    }
+
+    public static EntityMetadata of(Object entity) {
+        return get(Objects.requireNonNull(entity, "Entity cannot be null").getClass());
+    }
+
+    public static void register(Class<?> entityClass) {
+        get(entityClass);
+    }
+}
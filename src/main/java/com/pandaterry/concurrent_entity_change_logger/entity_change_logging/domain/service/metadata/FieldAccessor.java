@@ -0,0 +1,41 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+public final class FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String name;
+    private final MethodHandle getter;
+
+    private FieldAccessor(String name, MethodHandle getter) {
+        this.name = name;
+        this.getter = getter;
+    }
+
+    static FieldAccessor of(Field field) {
+        try {
+            // setAccessible 대신 private lookup 으로 한 번만 접근 권한을 확인한다
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            return new FieldAccessor(field.getName(), getter);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("필드 접근자를 생성할 수 없습니다: " + field, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object get(Object entity) {
+        try {
+            return getter.invokeExact(entity);
+        } catch (Throwable e) {
+            throw new IllegalStateException("필드 값을 읽을 수 없습니다: " + name, e);
+        }
+    }
+}
@@ -1,22 +1,52 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker;
 
-import com.pandaterry.concurrent_entity_change_logger.shared.domain.annotation.ExcludeFromLogging;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadata;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadataRegistry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.FieldAccessor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.FieldChange;
 
-import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public abstract class AbstractChangeTracker implements ChangeTracker {
-    protected Object getFieldValue(Field field, Object entity) {
-        try {
-            return field.get(entity);
-        } catch (IllegalAccessException e) {
-            return null;
+    protected List<FieldAccessor> loggableFields(Object entity) {
+        return EntityMetadataRegistry.of(entity).getLoggableFields();
+    }
+
+    // insert/delete 스냅샷의 값이 있는 프로퍼티를 식별자와 함께 단일 값 변경으로 변환
+    protected Map<String, FieldChange> collectStateValues(Class<?> entityClass, EntityState state, boolean deleted) {
+        EntityMetadata metadata = EntityMetadataRegistry.get(entityClass);
+        Map<String, FieldChange> changes = new HashMap<>();
+
+        if (metadata.hasIdAccessor() && state.getIdentifier() != null) {
+            String idName = metadata.getIdAccessor().getName();
+            if (metadata.isLoggableField(idName)) {
+                changes.put(idName, singleValueChange(idName, toText(state.getIdentifier()), deleted));
+            }
         }
+
+        for (int index : state.changedIndexes()) {
+            String propertyName = state.propertyNameAt(index);
+            Object value = deleted ? state.oldValueAt(index) : state.newValueAt(index);
+            if (value == null || !metadata.isLoggableField(propertyName)) {
+                continue;
+            }
+            changes.put(propertyName, singleValueChange(propertyName, value.toString(), deleted));
+        }
+        return changes;
+    }
+
+    private FieldChange singleValueChange(String fieldName, String value, boolean deleted) {
+        return deleted
+                ? FieldChange.of(fieldName, value, null)
+                : FieldChange.of(fieldName, null, value);
     }
 
-    protected boolean shouldSkipField(Field field) {
-        return field.isAnnotationPresent(jakarta.persistence.Transient.class) ||
-                field.isAnnotationPresent(ExcludeFromLogging.class);
+    protected String toText(Object value) {
+        return value != null ? value.toString() : null;
     }
 
     protected String formatChange(Object oldValue, Object newValue) {
@@ -28,4 +58,4 @@ public abstract class AbstractChangeTracker implements ChangeTracker {
     protected boolean isValueChanged(Object oldValue, Object newValue) {
         return !Objects.equals(oldValue, newValue);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,15 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker;
 
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeSet;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
 
 import java.util.Map;
 
 public interface ChangeTracker {
     Map<String, Object> trackChanges(Object oldEntity, Object newEntity);
 
+    ChangeSet trackStateChanges(Class<?> entityClass, EntityState state);
+
     boolean supports(Operation operationType);
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker;
 
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.FieldAccessor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeSet;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,14 +14,8 @@ public class DeleteChangeTracker extends AbstractChangeTracker {
     @Override
     public Map<String, Object> trackChanges(Object oldEntity, Object newEntity) {
         Map<String, Object> changes = new HashMap<>();
-        Field[] fields = oldEntity.getClass().getDeclaredFields();
-
-        for (Field field : fields) {
-            if (shouldSkipField(field))
-                continue;
-
-            field.setAccessible(true);
-            Object value = getFieldValue(field, oldEntity);
+        for (FieldAccessor field : loggableFields(oldEntity)) {
+            Object value = field.get(oldEntity);
             if (value != null) {
                 changes.put(field.getName(), value.toString());
             }
@@ -27,6 +23,11 @@ public class DeleteChangeTracker extends AbstractChangeTracker {
         return changes;
     }
 
+    @Override
+    public ChangeSet trackStateChanges(Class<?> entityClass, EntityState state) {
+        return ChangeSet.of(collectStateValues(entityClass, state, true));
+    }
+
     @Override
     public boolean supports(Operation operationType) {
         return operationType == Operation.DELETE;
@@ -1,6 +1,8 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker;
 
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeSet;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -22,4 +24,12 @@ public class EntityChangeTracker {
                 .map(tracker -> tracker.trackChanges(oldEntity, newEntity))
                 .orElse(new HashMap<>());
     }
+
+    public ChangeSet trackStateChanges(Class<?> entityClass, EntityState state, Operation operation) {
+        return trackers.stream()
+                .filter(tracker -> tracker.supports(operation))
+                .findFirst()
+                .map(tracker -> tracker.trackStateChanges(entityClass, state))
+                .orElse(ChangeSet.empty());
+    }
 }
\ No newline at end of file
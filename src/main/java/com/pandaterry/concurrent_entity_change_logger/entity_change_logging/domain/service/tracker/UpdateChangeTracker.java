@@ -1,9 +1,14 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker;
 
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadata;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadataRegistry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.FieldAccessor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeSet;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.FieldChange;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,15 +17,9 @@ public class UpdateChangeTracker extends AbstractChangeTracker {
     @Override
     public Map<String, Object> trackChanges(Object oldEntity, Object newEntity) {
         Map<String, Object> changes = new HashMap<>();
-        Field[] fields = newEntity.getClass().getDeclaredFields();
-
-        for (Field field : fields) {
-            if (shouldSkipField(field))
-                continue;
-
-            field.setAccessible(true);
-            Object oldValue = getFieldValue(field, oldEntity);
-            Object newValue = getFieldValue(field, newEntity);
+        for (FieldAccessor field : loggableFields(newEntity)) {
+            Object oldValue = field.get(oldEntity);
+            Object newValue = field.get(newEntity);
 
             if (isValueChanged(oldValue, newValue)) {
                 changes.put(field.getName(), formatChange(oldValue, newValue));
@@ -29,6 +28,33 @@ public class UpdateChangeTracker extends AbstractChangeTracker {
         return changes;
     }
 
+    @Override
+    public ChangeSet trackStateChanges(Class<?> entityClass, EntityState state) {
+        EntityMetadata metadata = EntityMetadataRegistry.get(entityClass);
+        Map<String, FieldChange> changes = new HashMap<>();
+
+        // dirty 프로퍼티만 순회하므로 비용은 엔티티 너비가 아닌 변경 필드 수에 비례한다
+        for (int index : state.changedIndexes()) {
+            String propertyName = state.propertyNameAt(index);
+            if (!metadata.isLoggableField(propertyName)) {
+                continue;
+            }
+
+            Object oldValue = state.oldValueAt(index);
+            Object newValue = state.newValueAt(index);
+            if (!isValueChanged(oldValue, newValue)) {
+                continue;
+            }
+
+            // 복제 기반 경로(ChangeSet.from)와 같은 기준으로 문자열이 같아지는 변경은 버린다
+            FieldChange change = FieldChange.of(propertyName, toText(oldValue), toText(newValue));
+            if (change.isSignificantChange()) {
+                changes.put(propertyName, change);
+            }
+        }
+        return ChangeSet.of(changes);
+    }
+
     @Override
     public boolean supports(Operation operation) {
         return operation == Operation.UPDATE;
@@ -0,0 +1,53 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * 커밋 리스너에서 만들어지는 원시 변경 스냅샷.
+ * 요청 스레드에서는 이 객체만 만들고, 변경 내역 계산과 직렬화는 워커 스레드에서 수행한다.
+ * 로그 ID 는 캡처 시점에 발급해 UUIDv7 순서가 커밋 순서를 따르게 한다.
+ */
+@Getter
+public final class ChangeCapture {
+    private final LogEntryId id;
+    private final Class<?> entityClass;
+    private final EntityIdentifier entityIdentifier;
+    private final Operation operation;
+    private final EntityState state;
+    private final Instant capturedAt;
+    private final String threadName;
+
+    private ChangeCapture(LogEntryId id, Class<?> entityClass, EntityIdentifier entityIdentifier, Operation operation,
+                          EntityState state, Instant capturedAt, String threadName) {
+        this.id = Objects.requireNonNull(id, "LogEntry ID cannot be null");
+        this.entityClass = Objects.requireNonNull(entityClass, "Entity class cannot be null");
+        this.entityIdentifier = Objects.requireNonNull(entityIdentifier, "Entity identifier is mandatory");
+        this.operation = Objects.requireNonNull(operation, "Operation is mandatory");
+        this.state = Objects.requireNonNull(state, "Entity state is mandatory");
+        this.capturedAt = capturedAt;
+        this.threadName = threadName;
+    }
+
+    public static ChangeCapture of(Class<?> entityClass, EntityIdentifier entityIdentifier,
+                                   Operation operation, EntityState state) {
+        return new ChangeCapture(
+                LogEntryId.generate(),
+                entityClass,
+                entityIdentifier,
+                operation,
+                state,
+                // 엔트리의 recorded_at 이 된다. LogEntry.create 와 같이 마이크로초로 자른다
+                Instant.now().truncatedTo(ChronoUnit.MICROS),
+                Thread.currentThread().getName()
+        );
+    }
+
+    public SubmissionContext toSubmissionContext() {
+        return SubmissionContext.of(threadName, capturedAt);
+    }
+}
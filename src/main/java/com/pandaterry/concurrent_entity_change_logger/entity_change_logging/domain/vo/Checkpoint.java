@@ -9,14 +9,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Checkpoint {
     private  long position;
+    // 이 위치까지의 WAL 레코드는 DB 저장이 확인됐다. 이전 형식의 체크포인트에는 없어 0 으로 읽힌다
+    private  long persistedPosition;
     private  LocalDateTime timestamp;
 
-    public static Checkpoint of(long position, LocalDateTime timestamp) {
-        return new Checkpoint(position, timestamp);
+    public static Checkpoint of(long position, long persistedPosition, LocalDateTime timestamp) {
+        return new Checkpoint(position, persistedPosition, timestamp);
     }
 
-    public static Checkpoint current(long position) {
-        return new Checkpoint(position, LocalDateTime.now());
+    public static Checkpoint current(long position, long persistedPosition) {
+        return new Checkpoint(position, persistedPosition, LocalDateTime.now());
     }
 
     public boolean isValid() {
@@ -1,8 +1,9 @@
 package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
 
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadata;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadataRegistry;
 import lombok.Value;
 
-import java.lang.reflect.Field;
 import java.util.Objects;
 
 @Value
@@ -23,10 +24,10 @@ public class EntityIdentifier {
     public static EntityIdentifier fromEntity(Object entity) {
         Objects.requireNonNull(entity, "Entity cannot be null");
 
-        String entityName = entity.getClass().getSimpleName();
-        String entityId = extractEntityId(entity);
+        EntityMetadata metadata = EntityMetadataRegistry.of(entity);
+        String entityId = extractEntityId(metadata, entity);
 
-        return of(entityName, entityId);
+        return of(metadata.getEntityName(), entityId);
     }
 
     public boolean represents(Class<?> entityClass) {
@@ -50,23 +51,14 @@ public class EntityIdentifier {
         }
     }
 
-    private static String extractEntityId(Object entity) {
-        // @Id 어노테이션이 붙은 필드를 찾아서 ID 추출
-        Class<?> clazz = entity.getClass();
-
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.isAnnotationPresent(jakarta.persistence.Id.class)) {
-                field.setAccessible(true);
-                try {
-                    Object idValue = field.get(entity);
-                    return idValue != null ? idValue.toString() : "null";
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException("Failed to extract entity ID", e);
-                }
-            }
+    private static String extractEntityId(EntityMetadata metadata, Object entity) {
+        // 클래스별로 캐싱된 @Id 접근자로 ID 추출
+        if (!metadata.hasIdAccessor()) {
+            throw new IllegalArgumentException("Entity must have @Id annotated field: " + entity.getClass());
         }
 
-        throw new IllegalArgumentException("Entity must have @Id annotated field: " + entity.getClass());
+        Object idValue = metadata.getIdAccessor().get(entity);
+        return idValue != null ? idValue.toString() : "null";
     }
 
     private static boolean isBlank(String str) {
@@ -0,0 +1,83 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Hibernate 이벤트가 전달하는 프로퍼티 상태 배열의 스냅샷.
+ * 엔티티를 복제하지 않고 변경된 프로퍼티 인덱스만으로 변경 내역을 계산하기 위해 사용한다.
+ * 이벤트 이후 Hibernate 가 배열을 재사용하더라도 영향이 없도록 배열은 얕은 복사로 보관한다.
+ */
+public final class EntityState {
+    private final String[] propertyNames;
+    private final Object identifier;
+    private final Object[] oldState;
+    private final Object[] newState;
+    private final int[] dirtyProperties;
+
+    private EntityState(String[] propertyNames, Object identifier, Object[] oldState,
+                        Object[] newState, int[] dirtyProperties) {
+        this.propertyNames = Objects.requireNonNull(propertyNames, "Property names cannot be null");
+        this.identifier = identifier;
+        this.oldState = oldState != null ? oldState.clone() : null;
+        this.newState = newState != null ? newState.clone() : null;
+        this.dirtyProperties = dirtyProperties != null ? dirtyProperties.clone() : null;
+    }
+
+    public static EntityState ofInsert(String[] propertyNames, Object identifier, Object[] state) {
+        return new EntityState(propertyNames, identifier, null, state, null);
+    }
+
+    public static EntityState ofUpdate(String[] propertyNames, Object[] oldState,
+                                       Object[] newState, int[] dirtyProperties) {
+        return new EntityState(propertyNames, null, oldState, newState, dirtyProperties);
+    }
+
+    public static EntityState ofDelete(String[] propertyNames, Object identifier, Object[] deletedState) {
+        return new EntityState(propertyNames, identifier, deletedState, null, null);
+    }
+
+    /**
+     * 변경 대상 프로퍼티 값만 주어진 함수로 바꾼 사본을 만든다.
+     * 캡처 워커로 넘기기 전에 지연 로딩 프록시 같은 세션 의존 값을 요청 스레드에서 미리 풀어 두기 위해 사용한다.
+     */
+    public EntityState snapshotValues(UnaryOperator<Object> snapshot) {
+        Object[] oldSnapshot = oldState != null ? oldState.clone() : null;
+        Object[] newSnapshot = newState != null ? newState.clone() : null;
+        for (int index : changedIndexes()) {
+            if (oldSnapshot != null) {
+                oldSnapshot[index] = snapshot.apply(oldSnapshot[index]);
+            }
+            if (newSnapshot != null) {
+                newSnapshot[index] = snapshot.apply(newSnapshot[index]);
+            }
+        }
+        return new EntityState(propertyNames, identifier, oldSnapshot, newSnapshot, dirtyProperties);
+    }
+
+    // dirty 정보가 없으면(예: insert/delete, detached merge) 전체 프로퍼티를 대상으로 삼는다
+    public int[] changedIndexes() {
+        if (dirtyProperties != null) {
+            return dirtyProperties;
+        }
+        return IntStream.range(0, propertyNames.length).toArray();
+    }
+
+    public String propertyNameAt(int index) {
+        return propertyNames[index];
+    }
+
+    public Object oldValueAt(int index) {
+        return oldState != null ? oldState[index] : null;
+    }
+
+    public Object newValueAt(int index) {
+        return newState != null ? newState[index] : null;
+    }
+
+    // Hibernate 상태 배열에는 식별자가 포함되지 않으므로 별도로 보관한다
+    public Object getIdentifier() {
+        return identifier;
+    }
+}
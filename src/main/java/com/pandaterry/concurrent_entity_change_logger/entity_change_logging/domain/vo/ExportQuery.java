@@ -0,0 +1,20 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+
+import java.time.Instant;
+
+/**
+ * 변경 이력 내보내기 조건. 모든 조건은 비어 있을 수 있으며, 결과는 오래된 순 (recorded_at, id) 이다.
+ */
+public record ExportQuery(String entityName, String entityId, Operation operation, Instant from, Instant to) {
+
+    public ExportQuery {
+        if (entityId != null && entityName == null) {
+            throw new IllegalArgumentException("Entity id requires an entity name");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range must satisfy from < to");
+        }
+    }
+}
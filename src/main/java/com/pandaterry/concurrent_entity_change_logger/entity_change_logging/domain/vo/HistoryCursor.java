@@ -0,0 +1,45 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 키셋 페이지네이션 위치. 이전 페이지 마지막 행의 (recorded_at, id) 이며, 다음 페이지는 이보다 앞선 행부터 읽는다.
+ * 외부에는 URL 에 그대로 쓸 수 있는 base64url 문자열로 내보낸다.
+ */
+public record HistoryCursor(Instant recordedAt, UUID id) {
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES * 2;
+
+    public HistoryCursor {
+        Objects.requireNonNull(recordedAt, "Cursor time cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(recordedAt.getEpochSecond())
+                .putInt(recordedAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static HistoryCursor decode(String value) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid history cursor: " + value, e);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("Invalid history cursor: " + value);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Instant recordedAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        return new HistoryCursor(recordedAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
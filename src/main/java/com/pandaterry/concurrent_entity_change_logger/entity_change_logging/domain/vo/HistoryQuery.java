@@ -0,0 +1,36 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+
+import java.time.Instant;
+
+/**
+ * 변경 이력 조회 조건. 세 가지 조회(엔티티 하나, 엔티티 타입 + 기간, 작업 종류)만 만들 수 있고,
+ * 결과는 항상 최신순 (recorded_at DESC, id DESC) 이다.
+ * from/to 는 비어 있을 수 있으며, 지정하면 파티션 프루닝이 적용된다.
+ */
+public record HistoryQuery(String entityName, String entityId, Operation operation,
+                           Instant from, Instant to, HistoryCursor after, int limit) {
+
+    public static HistoryQuery forEntity(EntityIdentifier entity, Instant from, Instant to,
+                                         HistoryCursor after, int limit) {
+        return new HistoryQuery(entity.getEntityName(), entity.getEntityId(), null, from, to, after, limit);
+    }
+
+    public static HistoryQuery forEntityType(String entityName, Instant from, Instant to,
+                                             HistoryCursor after, int limit) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Entity type history requires a time range");
+        }
+        return new HistoryQuery(entityName, null, null, from, to, after, limit);
+    }
+
+    public static HistoryQuery forOperation(Operation operation, Instant from, Instant to,
+                                            HistoryCursor after, int limit) {
+        return new HistoryQuery(null, null, operation, from, to, after, limit);
+    }
+
+    public HistoryQuery withLimit(int newLimit) {
+        return new HistoryQuery(entityName, entityId, operation, from, to, after, newLimit);
+    }
+}
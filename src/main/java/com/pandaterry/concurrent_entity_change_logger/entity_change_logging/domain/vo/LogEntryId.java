@@ -2,7 +2,9 @@ package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.dom
 
 import lombok.Value;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Value
@@ -13,8 +15,9 @@ public class LogEntryId {
         this.value = Objects.requireNonNull(value, "LogEntry ID cannot be null");
     }
 
+    // 시간 순서 UUIDv7: PK 인덱스에 항상 오른쪽 끝으로 삽입된다
     public static LogEntryId generate() {
-        return new LogEntryId(UUID.randomUUID());
+        return new LogEntryId(UuidV7.generate());
     }
 
     public static LogEntryId of(UUID value) {
@@ -23,6 +26,11 @@ public class LogEntryId {
 
     public UUID getValue() { return value; }
 
+    // UUIDv7 에 담긴 생성 시각. 이전에 만든 랜덤 UUID 는 비어 있다
+    public Optional<Instant> getTimestamp() {
+        return UuidV7.isV7(value) ? Optional.of(UuidV7.timestampOf(value)) : Optional.empty();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
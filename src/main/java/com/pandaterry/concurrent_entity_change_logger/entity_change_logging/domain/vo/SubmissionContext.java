@@ -11,6 +11,8 @@ import java.util.Objects;
 @Value
 @Getter
 public class SubmissionContext {
+    private static final String HOSTNAME = resolveHostname();
+
     private final String threadName;
     private final String hostname;
     private final Instant submittedAt;
@@ -25,10 +27,14 @@ public class SubmissionContext {
     }
 
     public static SubmissionContext current() {
+        return of(Thread.currentThread().getName(), Instant.now());
+    }
+
+    public static SubmissionContext of(String threadName, Instant submittedAt) {
         return new SubmissionContext(
-                Thread.currentThread().getName(),
-                getHostname(),
-                Instant.now(),
+                threadName,
+                HOSTNAME,
+                submittedAt,
                 ContextData.empty()
         );
     }
@@ -56,7 +62,8 @@ public class SubmissionContext {
         return map;
     }
 
-    private static String getHostname() {
+    // 호스트명 조회는 DNS 를 거칠 수 있으므로 엔트리마다 조회하지 않고 한 번만 계산
+    private static String resolveHostname() {
         try {
             return java.net.InetAddress.getLocalHost().getHostName();
         } catch (Exception e) {
@@ -0,0 +1,59 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID(RFC 9562 version 7) 생성기.
+ * 상위 48비트는 유닉스 밀리초, rand_a 12비트는 같은 밀리초 안의 순번으로 써서 JVM 안에서 단조 증가를 보장한다.
+ * 상태는 (밀리초 << 12 | 순번) 하나의 AtomicLong 이며 CAS 로만 갱신한다.
+ * 한 밀리초에 4096개를 넘기면 순번이 밀리초로 올라가 시계보다 조금 앞서 나가고, 시계가 따라오면 다시 맞춰진다.
+ */
+public final class UuidV7 {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis();
+        long state;
+        long next;
+        do {
+            state = STATE.get();
+            // 시계가 앞서면 새 밀리초의 순번 0, 아니면(같은 밀리초·시계 역행) 이전 값 + 1
+            next = now > (state >>> COUNTER_BITS) ? now << COUNTER_BITS : state + 1;
+        } while (!STATE.compareAndSet(state, next));
+
+        long mostSigBits = (next >>> COUNTER_BITS) << 16 | VERSION_BITS | (next & 0xFFF);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RAND_B_MASK) | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static boolean isV7(UUID uuid) {
+        return uuid.version() == 7 && uuid.variant() == 2;
+    }
+
+    public static Instant timestampOf(UUID uuid) {
+        if (!isV7(uuid)) {
+            throw new IllegalArgumentException("Not a UUIDv7: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    // 범위 조회용 경계값: 해당 밀리초에 만들어질 수 있는 가장 작은/큰 UUIDv7
+    public static UUID lowerBound(Instant instant) {
+        return new UUID(instant.toEpochMilli() << 16 | VERSION_BITS, VARIANT_BITS);
+    }
+
+    public static UUID upperBound(Instant instant) {
+        return new UUID(instant.toEpochMilli() << 16 | VERSION_BITS | 0xFFF, VARIANT_BITS | RAND_B_MASK);
+    }
+}
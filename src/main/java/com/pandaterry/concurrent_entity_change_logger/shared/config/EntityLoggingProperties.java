@@ -1,6 +1,7 @@
 package com.pandaterry.concurrent_entity_change_logger.shared.config;
 
-import com.pandaterry.concurrent_entity_change_logger.shared.domain.annotation.ExcludeFromLogging;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadata;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadataRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,7 +22,13 @@ public class EntityLoggingProperties {
     private Set<String> excludedEntities = new HashSet<>();
     private String storageType;
     private String processType;
+    private String persistenceType = "batch-update";
+    private String captureMode = "sync";
     private Strategy strategy = new Strategy();
+    private Partition partition = new Partition();
+    private History history = new History();
+    private Wal wal = new Wal();
+    private Recovery recovery = new Recovery();
 
     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
     private int jpaBatchSize;
@@ -31,27 +38,147 @@ public class EntityLoggingProperties {
     public static class Strategy {
         private int queueSize = 100000;
         private int threadPoolSize = 5;
-        private int flushInterval = 5000;
+        private String executionMode = "platform";
+        private long linger = 100;
+        private boolean adaptiveBatch = false;
+        private int batchMinSize = 100;
+        private int batchMaxSize = 5000;
+        private long batchTargetLatency = 200;
+        private boolean pipelineEnabled = false;
+        private int pipelineHandoffSize = 2;
+        private String copyFormat = "binary";
+        private int unnestChunkSize = 5000;
+        private int retryMaxAttempts = 3;
+        private long retryInitialBackoff = 50;
+        private long retryMaxBackoff = 2000;
+        private int captureBufferSize = 10000;
+        private int captureThreadPoolSize = 2;
+        private String waitStrategy = "block";
+        private int shardCount = 4;
+        private int highPriorityQueueSize = 10000;
+        private String overflowPolicy = "drop";
+        private long overflowTimeout = 100;
+        private double lowPriorityWatermark = 0.7;
+        private double normalPriorityWatermark = 0.9;
+        private int spillSegmentSize = 64 * 1024 * 1024;
     }
 
 
+    @Getter
+    @Setter
+    public static class Partition {
+        private boolean enabled = false;
+        private String interval = "daily";
+        private int premake = 3;
+        private long retentionDays = 0;
+        private long maintenanceInterval = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+        private boolean createIndexes = true;
+        private int defaultPageSize = 50;
+        private int maxPageSize = 500;
+        private int exportFetchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Wal {
+        private String fsyncPolicy = "os";
+        private long groupMaxDelay = 1;
+        private long groupMaxBytes = 1024 * 1024;
+        private long maxPendingBytes = 16 * 1024 * 1024;
+        private long fsyncInterval = 1000;
+        private boolean awaitDurable = true;
+        private long segmentSize = 64 * 1024 * 1024;
+        private String appender = "channel";
+        private String recordFormat = "json";
+    }
+
+    @Getter
+    @Setter
+    public static class Recovery {
+        private boolean enabled = true;
+        private int batchSize = 1000;
+        private int parallelism = 4;
+        private int maxTrackedEntries = 1_000_000;
+    }
+
     @PostConstruct
     public void validate() {
         Assert.isTrue(strategy.getQueueSize() > 0, "Queue size must be positive");
         Assert.isTrue(strategy.getThreadPoolSize() > 0, "Thread pool size must be positive");
-        Assert.isTrue(strategy.getFlushInterval() > 0, "Flush interval must be positive");
+        Assert.isTrue("platform".equalsIgnoreCase(strategy.getExecutionMode()) || isVirtualExecution(),
+                "Execution mode must be platform or virtual");
+        Assert.isTrue(strategy.getLinger() >= 0, "Linger must not be negative");
+        Assert.isTrue(strategy.getBatchMinSize() > 0 && strategy.getBatchMinSize() <= strategy.getBatchMaxSize(),
+                "Batch size bounds must satisfy 0 < min <= max");
+        Assert.isTrue(strategy.getBatchTargetLatency() > 0, "Batch target latency must be positive");
+        Assert.isTrue(strategy.getPipelineHandoffSize() > 0, "Pipeline handoff size must be positive");
+        Assert.isTrue("binary".equalsIgnoreCase(strategy.getCopyFormat())
+                        || "text".equalsIgnoreCase(strategy.getCopyFormat()),
+                "Copy format must be binary or text");
+        Assert.isTrue(strategy.getUnnestChunkSize() > 0, "Unnest chunk size must be positive");
+        Assert.isTrue(strategy.getRetryMaxAttempts() > 0, "Retry max attempts must be positive");
+        Assert.isTrue(strategy.getRetryInitialBackoff() > 0
+                        && strategy.getRetryInitialBackoff() <= strategy.getRetryMaxBackoff(),
+                "Retry backoff must satisfy 0 < initial <= max");
+        Assert.isTrue(strategy.getCaptureBufferSize() > 0, "Capture buffer size must be positive");
+        Assert.isTrue(strategy.getCaptureThreadPoolSize() > 0, "Capture thread pool size must be positive");
+        Assert.isTrue(strategy.getShardCount() > 0, "Shard count must be positive");
+        Assert.isTrue(strategy.getHighPriorityQueueSize() > 0, "High priority queue size must be positive");
+        Assert.isTrue(strategy.getOverflowTimeout() > 0, "Overflow timeout must be positive");
+        Assert.isTrue(strategy.getLowPriorityWatermark() > 0
+                        && strategy.getLowPriorityWatermark() <= strategy.getNormalPriorityWatermark()
+                        && strategy.getNormalPriorityWatermark() <= 1.0,
+                "Priority watermarks must satisfy 0 < low <= normal <= 1");
+        Assert.isTrue(strategy.getSpillSegmentSize() > 0, "Spill segment size must be positive");
+        Assert.isTrue("daily".equalsIgnoreCase(partition.getInterval())
+                        || "hourly".equalsIgnoreCase(partition.getInterval()),
+                "Partition interval must be daily or hourly");
+        Assert.isTrue(partition.getPremake() >= 0, "Partition premake must not be negative");
+        Assert.isTrue(partition.getRetentionDays() >= 0, "Partition retention days must not be negative");
+        Assert.isTrue(partition.getMaintenanceInterval() > 0, "Partition maintenance interval must be positive");
+        Assert.isTrue(history.getDefaultPageSize() > 0 && history.getDefaultPageSize() <= history.getMaxPageSize(),
+                "History page size must satisfy 0 < default <= max");
+        Assert.isTrue(history.getExportFetchSize() > 0, "Export fetch size must be positive");
+        Assert.isTrue(Set.of("record", "group", "interval", "os").contains(wal.getFsyncPolicy().toLowerCase()),
+                "WAL fsync policy must be record, group, interval or os");
+        Assert.isTrue(wal.getGroupMaxDelay() >= 0, "WAL group max delay must not be negative");
+        Assert.isTrue(wal.getGroupMaxBytes() > 0 && wal.getGroupMaxBytes() <= wal.getMaxPendingBytes(),
+                "WAL group bytes must satisfy 0 < group <= max pending");
+        Assert.isTrue(wal.getFsyncInterval() > 0, "WAL fsync interval must be positive");
+        Assert.isTrue(wal.getSegmentSize() >= 1024 * 1024 && wal.getSegmentSize() <= 1024 * 1024 * 1024,
+                "WAL segment size must be between 1MB and 1GB");
+        Assert.isTrue("channel".equalsIgnoreCase(wal.getAppender()) || "mmap".equalsIgnoreCase(wal.getAppender()),
+                "WAL appender must be channel or mmap");
+        Assert.isTrue("json".equalsIgnoreCase(wal.getRecordFormat()) || "binary".equalsIgnoreCase(wal.getRecordFormat()),
+                "WAL record format must be json or binary");
+        Assert.isTrue(recovery.getBatchSize() > 0, "Recovery batch size must be positive");
+        Assert.isTrue(recovery.getParallelism() > 0, "Recovery parallelism must be positive");
+        Assert.isTrue(recovery.getMaxTrackedEntries() > 0, "Recovery max tracked entries must be positive");
         Assert.isTrue(jpaBatchSize > 0, "JPA batch size must be specified or must be positive");
     }
 
+    public boolean isVirtualExecution() {
+        return "virtual".equalsIgnoreCase(strategy.getExecutionMode());
+    }
+
+    public boolean isDeferredCapture() {
+        return "deferred".equalsIgnoreCase(captureMode);
+    }
+
     public boolean shouldLogChanges(Object entity) {
         if (!enabled)
             return false;
 
-        String entityName = entity.getClass().getSimpleName();
-        if (excludedEntities.contains(entityName)) {
+        EntityMetadata metadata = EntityMetadataRegistry.of(entity);
+        if (excludedEntities.contains(metadata.getEntityName())) {
             return false;
         }
 
-        return !entity.getClass().isAnnotationPresent(ExcludeFromLogging.class);
+        return !metadata.isExcludedFromLogging();
     }
 }
\ No newline at end of file
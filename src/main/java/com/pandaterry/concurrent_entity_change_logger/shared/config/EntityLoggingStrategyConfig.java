@@ -1,31 +1,121 @@
 package com.pandaterry.concurrent_entity_change_logger.shared.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.mapper.LogEntryMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.JsonLogEntryEncoder;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch.BatchPersistenceAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch.CopyBatchPersistenceAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch.UnnestBatchPersistenceAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryTableResolver;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue.BlockingQueueAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue.PriorityLaneQueueAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue.RingBufferQueueAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue.ShardedQueueAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.DeadLetterFileAdapter;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.DiskLogWriteAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.MappedSpillStorageAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryRepository;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
 import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.BlockingOverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.CallerRunsOverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.DropOldestOverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.DropOverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.OverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.PriorityOverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow.SpillOverflowPolicy;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.BatchRetryService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
 
 @Configuration
 public class EntityLoggingStrategyConfig {
     @Bean
-    public LogStoragePort logStoragePort(EntityLoggingProperties properties, LogEntryMapper logEntryMapper, ObjectMapper objectMapper) {
+    public LogStoragePort logStoragePort(EntityLoggingProperties properties, JsonLogEntryEncoder encoder,
+                                         ObjectMapper objectMapper, MetricsPort metricsPort,
+                                         PersistedWalCursor persistedWalCursor) {
         return switch (properties.getStorageType().toLowerCase()) {
-            case "disk" -> new DiskLogWriteAdapter(logEntryMapper, objectMapper);
+            case "disk" -> new DiskLogWriteAdapter(encoder, objectMapper, properties.getWal(), metricsPort,
+                    persistedWalCursor);
             default -> throw new IllegalArgumentException(
                     "Unknown storage type: " + properties.getStorageType());
         };
     }
 
     @Bean
-    public QueuePort queuePort(EntityLoggingProperties properties, LogEntryMapper logEntryMapper) {
+    public QueuePort queuePort(EntityLoggingProperties properties, MetricsPort metricsPort) {
         return switch (properties.getProcessType().toLowerCase()) {
-            case "blocking" -> new BlockingQueueAdapter(properties, logEntryMapper);
+            case "blocking" -> new BlockingQueueAdapter(properties);
+            case "ringbuffer" -> new RingBufferQueueAdapter(properties);
+            case "sharded" -> new ShardedQueueAdapter(properties, metricsPort);
+            case "priority" -> new PriorityLaneQueueAdapter(properties, metricsPort);
             default -> throw new IllegalArgumentException(
-                    "Unknown storage type: " + properties.getStorageType());
+                    "Unknown process type: " + properties.getProcessType());
+        };
+    }
+
+    @Bean
+    public BatchPersistencePort batchPersistencePort(EntityLoggingProperties properties,
+                                                     LogEntryRepository logEntryRepository,
+                                                     DataSource dataSource,
+                                                     JdbcTemplate jdbcTemplate,
+                                                     PlatformTransactionManager transactionManager,
+                                                     LogEntryTableResolver tableResolver,
+                                                     MetricsPort metricsPort) {
+        return switch (properties.getPersistenceType().toLowerCase()) {
+            case "batch-update" -> new BatchPersistenceAdapter(logEntryRepository);
+            case "unnest" -> new UnnestBatchPersistenceAdapter(jdbcTemplate,
+                    new TransactionTemplate(transactionManager), tableResolver, metricsPort,
+                    properties.getStrategy().getUnnestChunkSize());
+            case "copy" -> new CopyBatchPersistenceAdapter(dataSource, tableResolver,
+                    properties.getStrategy().getCopyFormat());
+            default -> throw new IllegalArgumentException(
+                    "Unknown persistence type: " + properties.getPersistenceType());
+        };
+    }
+
+    @Bean
+    public SpillStoragePort spillStoragePort(EntityLoggingProperties properties, JsonLogEntryEncoder encoder,
+                                             MetricsPort metricsPort) {
+        // 샤드 큐면 샤드마다 스필 레인을 하나씩 둔다
+        int lanes = "sharded".equalsIgnoreCase(properties.getProcessType())
+                ? properties.getStrategy().getShardCount()
+                : 1;
+        return new MappedSpillStorageAdapter(encoder, metricsPort,
+                properties.getStrategy().getSpillSegmentSize(), lanes);
+    }
+
+    @Bean
+    public DeadLetterPort deadLetterPort(JsonLogEntryEncoder encoder, ObjectMapper objectMapper,
+                                         MetricsPort metricsPort) {
+        return new DeadLetterFileAdapter(encoder, objectMapper, metricsPort);
+    }
+
+    @Bean
+    public OverflowPolicy overflowPolicy(EntityLoggingProperties properties, QueuePort queuePort,
+                                         BatchRetryService batchRetryService,
+                                         SpillStoragePort spillStoragePort, MetricsPort metricsPort,
+                                         PersistedWalCursor persistedWalCursor) {
+        EntityLoggingProperties.Strategy strategy = properties.getStrategy();
+        return switch (strategy.getOverflowPolicy().toLowerCase()) {
+            case "drop" -> new DropOverflowPolicy(queuePort);
+            case "block" -> new BlockingOverflowPolicy(queuePort, strategy.getOverflowTimeout());
+            case "drop-oldest" -> new DropOldestOverflowPolicy(queuePort, metricsPort, persistedWalCursor);
+            case "priority" -> new PriorityOverflowPolicy(queuePort,
+                    strategy.getLowPriorityWatermark(), strategy.getNormalPriorityWatermark());
+            case "caller-runs" -> new CallerRunsOverflowPolicy(queuePort, batchRetryService);
+            case "spill" -> new SpillOverflowPolicy(queuePort, spillStoragePort);
+            default -> throw new IllegalArgumentException(
+                    "Unknown overflow policy: " + strategy.getOverflowPolicy());
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.pandaterry.concurrent_entity_change_logger.shared.config;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.metadata.EntityMetadataRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class EntityMetadataConfig {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void registerEntityMetadata() {
+        // 첫 이벤트가 리플렉션 비용을 떠안지 않도록 기동 시점에 미리 계산
+        List<Class<?>> entityClasses = entityManagerFactory.getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .filter(Objects::nonNull)
+                .toList();
+
+        entityClasses.forEach(EntityMetadataRegistry::register);
+        log.info("엔티티 메타데이터 등록 완료 - {}개", entityClasses.size());
+    }
+}
@@ -1,11 +1,128 @@
 package com.pandaterry.concurrent_entity_change_logger.shared.constant;
 
+import java.util.List;
+
 public class LogEntrySql {
-    public static final String INSERT = """
-            INSERT INTO log_entries (id, entity_name, entity_id, changes, operation, recorded_at, context)\s
-                            VALUES (?::uuid, ?, ?, ?::jsonb, ?, ?, ?::jsonb)
-                        """;
+    public static final String TABLE = "log_entries";
+
+    public static final String COLUMNS = "(id, entity_name, entity_id, changes, operation, recorded_at, context)";
+
+    public static final String INSERT = insertInto(TABLE);
+
+    public static final String COPY_COLUMNS = TABLE + " " + COLUMNS;
+
+    public static final String COPY_TEXT = copyInto(TABLE, false);
+
+    public static final String COPY_BINARY = copyInto(TABLE, true);
+
+    // 파티션 키(recorded_at)가 PK 에 포함되어야 한다
+    public static final String CREATE_PARTITIONED_TABLE = """
+            CREATE TABLE IF NOT EXISTS log_entries (
+                id uuid NOT NULL,
+                entity_name varchar(255),
+                entity_id varchar(255),
+                changes jsonb,
+                operation varchar(255),
+                recorded_at timestamp(6) with time zone NOT NULL,
+                context jsonb,
+                PRIMARY KEY (id, recorded_at)
+            ) PARTITION BY RANGE (recorded_at)
+            """;
+
+    public static final String CREATE_DEFAULT_PARTITION = "CREATE TABLE IF NOT EXISTS %s PARTITION OF log_entries DEFAULT";
+
+    public static final String CREATE_RANGE_PARTITION =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF log_entries FOR VALUES FROM ('%s') TO ('%s')";
+
+    public static final String EXISTS_IN_RANGE = "SELECT EXISTS (SELECT 1 FROM %s WHERE recorded_at >= ? AND recorded_at < ?)";
+
+    // default 파티션에 이미 그 구간의 행이 있으면 PARTITION OF 가 실패하므로, 빈 테이블을 만들어 행을 옮긴 뒤 붙인다.
+    // DO 블록 하나가 한 트랜잭션이라 중간에 끊겨도 붙지 않은 테이블에 행이 남지 않는다
+    // 인자: 1 파티션 이름, 2 default 파티션 이름, 3 시작, 4 끝
+    public static final String MOVE_DEFAULT_ROWS_AND_ATTACH_PARTITION = """
+            DO $$
+            BEGIN
+                CREATE TABLE %1$s (LIKE log_entries INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+                WITH moved AS (
+                    DELETE FROM %2$s WHERE recorded_at >= '%3$s' AND recorded_at < '%4$s' RETURNING *
+                )
+                INSERT INTO %1$s SELECT * FROM moved;
+                ALTER TABLE log_entries ATTACH PARTITION %1$s FOR VALUES FROM ('%3$s') TO ('%4$s');
+            END $$""";
+
+    public static final String SELECT_TABLE_KIND = "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)";
+
+    public static final String SELECT_PARTITIONS = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            """;
+
+    // WAL 재생용: 같은 (id, recorded_at) 이 이미 있으면 건너뛴다. 동시에 들어온 같은 키는 ON CONFLICT 로 넘긴다.
+    // recorded_at 조건이 있어야 행마다 파티션 하나의 PK 인덱스만 확인한다 (없으면 모든 파티션을 뒤진다).
+    // 파티션 전 테이블(PK id)에서도 돌도록 ON CONFLICT 대상은 적지 않는다
+    public static final String INSERT_MISSING_UNNEST = """
+            INSERT INTO log_entries (id, entity_name, entity_id, changes, operation, recorded_at, context)
+            SELECT * FROM unnest(?::uuid[], ?::text[], ?::text[], ?::jsonb[], ?::text[], ?::timestamptz[], ?::jsonb[])
+                AS r(id, entity_name, entity_id, changes, operation, recorded_at, context)
+            WHERE NOT EXISTS (SELECT 1 FROM log_entries e WHERE e.id = r.id AND e.recorded_at = r.recorded_at)
+            ON CONFLICT DO NOTHING""";
+
+    public static final String SELECT_HISTORY = """
+            SELECT id, entity_name, entity_id, changes::text AS changes, operation, recorded_at, context::text AS context
+            FROM log_entries""";
+
+    // 이력 조회용 인덱스: 선두 컬럼 등호 조건 + (recorded_at, id) 키셋 범위를 그대로 받는다
+    public static final List<IndexDefinition> HISTORY_INDEXES = List.of(
+            new IndexDefinition("idx_log_entries_entity_history",
+                    "(entity_name, entity_id, recorded_at, id) INCLUDE (operation)"),
+            new IndexDefinition("idx_log_entries_type_history", "(entity_name, recorded_at, id)"),
+            new IndexDefinition("idx_log_entries_operation_history", "(operation, recorded_at, id)"),
+            // 조건 없는/기간만 지정한 내보내기의 ORDER BY recorded_at, id 용. PK 는 (id, recorded_at) 라 쓸 수 없다
+            new IndexDefinition("idx_log_entries_time_history", "(recorded_at, id)")
+    );
+
+    // 없으면 null, 있으면 사용 가능 여부. CONCURRENTLY 생성이 끊기거나 파티션이 다 붙지 않은 인덱스는 false
+    public static final String SELECT_INDEX_VALID =
+            "SELECT (SELECT x.indisvalid FROM pg_index x WHERE x.indexrelid = to_regclass(?))";
+
+    // 부모 테이블에만 만들어 두는 빈 인덱스. 파티션 인덱스가 모두 붙어야 유효해진다
+    public static final String CREATE_INDEX_ON_PARENT = "CREATE INDEX IF NOT EXISTS %s ON ONLY %s %s";
+
+    // 인자: 1 인덱스 이름, 2 테이블, 3 컬럼 정의
+    public static final String CREATE_INDEX_CONCURRENTLY = "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s %s";
+
+    public static final String DROP_INDEX_CONCURRENTLY = "DROP INDEX CONCURRENTLY IF EXISTS %s";
+
+    public static final String ATTACH_INDEX = "ALTER INDEX %s ATTACH PARTITION %s";
+
+    // 부모 인덱스에 붙은 인덱스가 아직 없는 파티션. 인자: 1 부모 테이블, 2 부모 인덱스
+    public static final String SELECT_PARTITIONS_WITHOUT_INDEX = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+              AND NOT EXISTS (
+                  SELECT 1 FROM pg_inherits ii
+                  JOIN pg_index x ON x.indexrelid = ii.inhrelid
+                  WHERE ii.inhparent = to_regclass(?) AND x.indrelid = c.oid)
+            """;
 
     private LogEntrySql() {
     }
+
+    public static String insertInto(String table) {
+        return "INSERT INTO " + table + " " + COLUMNS + " VALUES (?::uuid, ?, ?, ?::jsonb, ?, ?, ?::jsonb)";
+    }
+
+    public static String insertUnnestInto(String table) {
+        return "INSERT INTO " + table + " " + COLUMNS
+                + " SELECT * FROM unnest(?::uuid[], ?::text[], ?::text[], ?::jsonb[], ?::text[], ?::timestamptz[], ?::jsonb[])";
+    }
+
+    public static String copyInto(String table, boolean binary) {
+        return "COPY " + table + " " + COLUMNS + " FROM STDIN" + (binary ? " (FORMAT binary)" : "");
+    }
+
+    public record IndexDefinition(String name, String columns) {
+    }
 }
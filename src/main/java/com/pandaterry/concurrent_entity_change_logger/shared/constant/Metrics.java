@@ -4,11 +4,31 @@ public class Metrics {
     private Metrics(){}
     public static final String ENTITYLOG_QUEUE_DROPPED          = "entitylog.queue.dropped";
     public static final String ENTITYLOG_BATCH_SAVE_ERRORS      = "entitylog.batch.save.errors";
+    public static final String ENTITYLOG_BATCH_RETRY            = "entitylog.batch.retry";
+    public static final String ENTITYLOG_BATCH_BISECT           = "entitylog.batch.bisect";
+    public static final String ENTITYLOG_DEADLETTER_WRITTEN     = "entitylog.deadletter.written";
+    public static final String ENTITYLOG_DEADLETTER_SIZE        = "entitylog.deadletter.size";
+    public static final String ENTITYLOG_PERSISTENCE_STATEMENT_ROWS = "entitylog.persistence.statement.rows";
+    public static final String ENTITYLOG_PERSISTENCE_CHUNK_LATENCY  = "entitylog.persistence.chunk.latency";
     public static final String ENTITYLOG_BATCH_PROCESSED        = "entitylog.batch.processed";
     public static final String ENTITYLOG_BATCH_SIZE             = "entitylog.batch.size";
+    public static final String ENTITYLOG_BATCH_TARGET_SIZE      = "entitylog.batch.target.size";
+    public static final String ENTITYLOG_PIPELINE_STAGE_BUSY    = "entitylog.pipeline.stage.busy";
+    public static final String ENTITYLOG_PIPELINE_STAGE_WAIT    = "entitylog.pipeline.stage.wait";
+    public static final String ENTITYLOG_PIPELINE_HANDOFF_SIZE  = "entitylog.pipeline.handoff.size";
     public static final String ENTITYLOG_QUEUE_SIZE             = "entitylog.queue.size";
+    public static final String ENTITYLOG_QUEUE_SHARD_SIZE       = "entitylog.queue.shard.size";
+    public static final String ENTITYLOG_QUEUE_LANE_SIZE        = "entitylog.queue.lane.size";
+    public static final String ENTITYLOG_QUEUE_OVERFLOW         = "entitylog.queue.overflow";
+    public static final String ENTITYLOG_SPILL_SIZE             = "entitylog.spill.size";
     public static final String ENTITYLOG_QUEUE_OFFER_LATENCY    = "entitylog.queue.offer.latency";
     public static final String ENTITYLOG_BATCH_PROCESSING_LATENCY = "entitylog.batch.processing.latency";
     public static final String ENTITYLOG_FLUSH_LATENCY          = "entitylog.flush.latency";
     public static final String ENTITYLOG_SHUTDOWN_FLUSHED_COUNT = "entitylog.shutdown.flushed.count";
+    public static final String ENTITYLOG_CAPTURE_LATENCY        = "entitylog.capture.latency";
+    public static final String ENTITYLOG_CAPTURE_OVERFLOW       = "entitylog.capture.overflow";
+    public static final String ENTITYLOG_WAL_GROUP_SIZE         = "entitylog.wal.group.size";
+    public static final String ENTITYLOG_WAL_FSYNC_LATENCY      = "entitylog.wal.fsync.latency";
+    public static final String ENTITYLOG_WAL_REPLAYED           = "entitylog.wal.replay.records";
+    public static final String ENTITYLOG_WAL_REPLAY_BACKLOG     = "entitylog.wal.replay.backlog";
 }
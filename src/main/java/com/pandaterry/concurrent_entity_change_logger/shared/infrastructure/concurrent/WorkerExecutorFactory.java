@@ -0,0 +1,33 @@
+package com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.concurrent;
+
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로깅 워커 스레드 풀 생성기.
+ * platform 모드는 고정 크기 플랫폼 스레드 풀, virtual 모드는 작업마다 가상 스레드를 만든다.
+ * 워커는 대부분 JDBC 나 대기 상태로 블로킹되므로 virtual 모드에서는 워커 수를 늘려도 메모리 부담이 작다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkerExecutorFactory {
+    private final EntityLoggingProperties loggingProperties;
+
+    public ExecutorService newWorkerPool(String name, int workers) {
+        if (loggingProperties.isVirtualExecution()) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(workers, platformThreadFactory(name));
+    }
+
+    private static ThreadFactory platformThreadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> new Thread(runnable, name + "-" + sequence.getAndIncrement());
+    }
+}
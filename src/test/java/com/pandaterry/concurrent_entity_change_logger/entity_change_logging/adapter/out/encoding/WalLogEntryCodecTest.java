@@ -0,0 +1,83 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal.WalDictionary;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WalLogEntryCodecTest {
+    private static final String CHANGES = "{\"price\":{\"fieldName\":\"price\",\"oldValue\":1.50,\"newValue\":12345678901234567890.125,"
+            + "\"changeType\":\"MODIFIED\"},\"status\":{\"fieldName\":\"status\",\"newValue\":\"PAID\",\"changeType\":\"CREATED\"},"
+            + "\"tags\":{\"fieldName\":\"tags\",\"oldValue\":null,\"newValue\":[\"a\",{\"b\":-3}],\"changeType\":\"MODIFIED\"}}";
+    private static final String CONTEXT = "{\"threadName\":\"http-nio-8080-exec-1\",\"hostname\":\"app-1\","
+            + "\"submittedAt\":\"2025-01-01T00:00:00Z\",\"retry\":2,\"manual\":false}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonLogEntryEncoder jsonEncoder = new JsonLogEntryEncoder(objectMapper);
+    private final WalLogEntryCodec codec = new WalLogEntryCodec(jsonEncoder, objectMapper, "binary");
+
+    @Test
+    @DisplayName("바이너리 레코드는 같은 의미의 JSON 으로 복원되고 시각은 마이크로초 단위로 남는다")
+    void shouldRoundTripBinaryRecord() throws IOException {
+        EncodedLogEntry entry = entry("42", CHANGES, CONTEXT);
+
+        byte[] record = codec.encode(entry).encode(new WalDictionary());
+        EncodedLogEntry decoded = codec.decode(ByteBuffer.wrap(record), new WalDictionary());
+
+        assertThat(record[0]).isEqualTo(WalLogEntryCodec.BINARY_V1);
+        assertThat(decoded.getId()).isEqualTo(entry.getId());
+        assertThat(decoded.getEntityIdentifier()).isEqualTo(entry.getEntityIdentifier());
+        assertThat(decoded.getOperation()).isEqualTo(Operation.UPDATE);
+        assertThat(decoded.getRecordedAt()).isEqualTo(Instant.parse("2025-01-01T12:34:56.123456Z"));
+        assertThat(decoded.isHighPriority()).isTrue();
+        assertThat(objectMapper.readTree(decoded.getChangesJson())).isEqualTo(objectMapper.readTree(CHANGES));
+        assertThat(objectMapper.readTree(decoded.getContextJson())).isEqualTo(objectMapper.readTree(CONTEXT));
+        assertThat(decoded.getChangesJson()).contains("1.50", "12345678901234567890.125");
+    }
+
+    @Test
+    @DisplayName("같은 세그먼트에서 반복되는 이름은 사전 번호로만 기록한다")
+    void shouldReuseSegmentDictionary() throws IOException {
+        WalDictionary writeDictionary = new WalDictionary();
+        byte[] first = codec.encode(entry("1", CHANGES, CONTEXT)).encode(writeDictionary);
+        byte[] second = codec.encode(entry("2", CHANGES, CONTEXT)).encode(writeDictionary);
+
+        assertThat(second.length).isLessThan(first.length);
+        assertThat(second.length).isLessThan(jsonEncoder.toJson(entry("2", CHANGES, CONTEXT)).length / 2);
+
+        WalDictionary readDictionary = new WalDictionary();
+        codec.absorb(ByteBuffer.wrap(first), readDictionary);
+        EncodedLogEntry decoded = codec.decode(ByteBuffer.wrap(second), readDictionary);
+        assertThat(decoded.getEntityIdentifier().getEntityId()).isEqualTo("2");
+        assertThat(objectMapper.readTree(decoded.getContextJson())).isEqualTo(objectMapper.readTree(CONTEXT));
+    }
+
+    @Test
+    @DisplayName("예상과 다른 모양의 JSON 과 JSON 줄 레코드도 그대로 읽는다")
+    void shouldKeepUnstructuredAndJsonRecords() throws IOException {
+        EncodedLogEntry unstructured = entry("7", "{\"price\":[1,2]}", "[]");
+        EncodedLogEntry decoded = codec.decode(
+                ByteBuffer.wrap(codec.encode(unstructured).encode(new WalDictionary())), new WalDictionary());
+        assertThat(decoded.getChangesJson()).isEqualTo("{\"price\":[1,2]}");
+        assertThat(decoded.getContextJson()).isEqualTo("[]");
+
+        WalLogEntryCodec jsonCodec = new WalLogEntryCodec(jsonEncoder, objectMapper, "json");
+        byte[] json = jsonCodec.encode(unstructured).encode(new WalDictionary());
+        assertThat(codec.decode(ByteBuffer.wrap(json), new WalDictionary()).getId()).isEqualTo(unstructured.getId());
+    }
+
+    private static EncodedLogEntry entry(String entityId, String changes, String context) {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", entityId), Operation.UPDATE,
+                Instant.parse("2025-01-01T12:34:56.123456789Z"), changes, context, true);
+    }
+}
@@ -0,0 +1,109 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryTableResolver;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository.LogEntryRepositoryImpl;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로컬 PostgreSQL 에서 batchUpdate, unnest, COPY(text/binary) 저장 처리량을 비교한다.
+ * 실행: ./gradlew test --tests '*CopyBatchPersistenceBenchmarkTest' \
+ * -Dentitylog.benchmark.url=jdbc:postgresql://localhost:5432/postgres -Dentitylog.benchmark.user=postgres -Dentitylog.benchmark.password=postgres
+ * 접속 정보가 없으면 건너뛴다.
+ */
+@EnabledIfSystemProperty(named = "entitylog.benchmark.url", matches = ".+")
+class CopyBatchPersistenceBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(CopyBatchPersistenceBenchmarkTest.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final int WARMUP_BATCHES = 20;
+    private static final int MEASURED_BATCHES = 100;
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new DriverManagerDataSource(
+                System.getProperty("entitylog.benchmark.url"),
+                System.getProperty("entitylog.benchmark.user", "postgres"),
+                System.getProperty("entitylog.benchmark.password", "postgres"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS log_entries (
+                    id uuid PRIMARY KEY,
+                    entity_name varchar(255),
+                    entity_id varchar(255),
+                    changes jsonb,
+                    operation varchar(255),
+                    recorded_at timestamp(6) with time zone,
+                    context jsonb
+                )""");
+    }
+
+    @Test
+    @DisplayName("batchUpdate, unnest, COPY 처리량 비교")
+    void compareThroughput() {
+        double batchUpdate = measure("batch-update",
+                new BatchPersistenceAdapter(new LogEntryRepositoryImpl(null, jdbcTemplate, null, LogEntryTableResolver.parentTable())));
+        double unnest = measure("unnest", new UnnestBatchPersistenceAdapter(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                LogEntryTableResolver.parentTable(), mock(MetricsPort.class), 5000));
+        double copyText = measure("copy-text", new CopyBatchPersistenceAdapter(dataSource, LogEntryTableResolver.parentTable(), "text"));
+        double copyBinary = measure("copy-binary", new CopyBatchPersistenceAdapter(dataSource, LogEntryTableResolver.parentTable(), "binary"));
+
+        log.info("rows/s - batch-update: {}, unnest: {}, copy-text: {}, copy-binary: {}",
+                Math.round(batchUpdate), Math.round(unnest), Math.round(copyText), Math.round(copyBinary));
+        assertThat(List.of(batchUpdate, unnest, copyText, copyBinary)).allSatisfy(rate -> assertThat(rate).isPositive());
+    }
+
+    private double measure(String name, BatchPersistencePort port) {
+        jdbcTemplate.execute("TRUNCATE log_entries");
+        for (int i = 0; i < WARMUP_BATCHES; i++) {
+            port.saveBatch(batch());
+        }
+
+        long elapsed = 0;
+        for (int i = 0; i < MEASURED_BATCHES; i++) {
+            List<EncodedLogEntry> batch = batch();
+            long start = System.nanoTime();
+            port.saveBatch(batch);
+            elapsed += System.nanoTime() - start;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT count(*) FROM log_entries", Integer.class);
+        assertThat(rows).as(name).isEqualTo((WARMUP_BATCHES + MEASURED_BATCHES) * BATCH_SIZE);
+        return MEASURED_BATCHES * BATCH_SIZE / (elapsed / 1_000_000_000.0);
+    }
+
+    private static List<EncodedLogEntry> batch() {
+        List<EncodedLogEntry> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", String.valueOf(i)),
+                    Operation.UPDATE, Instant.now(),
+                    "{\"status\":{\"oldValue\":\"PENDING\",\"newValue\":\"PAID\"},\"memo\":{\"oldValue\":null,\"newValue\":\"a\\\\b\"}}",
+                    "{\"thread\":\"benchmark\"}", false));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,70 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgCopyEncoderTest {
+    private static final UUID ID = UUID.fromString("0190f3a2-6c1e-7000-8000-000000000001");
+
+    @Test
+    @DisplayName("텍스트 형식은 탭 구분 한 줄이며 JSON 의 역슬래시와 제어 문자를 이스케이프한다")
+    void shouldEscapeTextFormat() {
+        EncodedLogEntry entry = entry("{\"memo\":\"a\\\"b\"}", "id\twith\ttab");
+
+        String row = new String(PgCopyEncoder.text(List.of(entry)), StandardCharsets.UTF_8);
+
+        assertThat(row).isEqualTo(ID + "\tOrder\tid\\twith\\ttab\t{\"memo\":\"a\\\\\"b\"}\tCREATE\t"
+                + "2024-01-01T00:00:00Z\t{}\n");
+    }
+
+    @Test
+    @DisplayName("바이너리 형식은 PGCOPY 헤더, 행당 7개 컬럼, 트레일러로 구성된다")
+    void shouldEncodeBinaryFormat() {
+        ByteBuffer payload = ByteBuffer.wrap(PgCopyEncoder.binary(List.of(entry("{}", "1"))));
+
+        byte[] signature = new byte[11];
+        payload.get(signature);
+        assertThat(signature).isEqualTo(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0});
+        assertThat(payload.getInt()).isZero();
+        assertThat(payload.getInt()).isZero();
+
+        assertThat(payload.getShort()).isEqualTo((short) 7);
+        assertThat(payload.getInt()).isEqualTo(16);
+        assertThat(new UUID(payload.getLong(), payload.getLong())).isEqualTo(ID);
+        skipField(payload); // entity_name
+        skipField(payload); // entity_id
+        assertThat(payload.getInt()).isEqualTo(3); // jsonb 버전 바이트 + "{}"
+        assertThat(payload.get()).isEqualTo((byte) 1);
+        payload.position(payload.position() + 2);
+        skipField(payload); // operation
+        assertThat(payload.getInt()).isEqualTo(8);
+        // 2024-01-01 은 PostgreSQL 기준 시각(2000-01-01)으로부터 8766일
+        assertThat(payload.getLong()).isEqualTo(8766L * 86_400_000_000L);
+        skipField(payload); // context
+
+        assertThat(payload.getShort()).isEqualTo((short) -1);
+        assertThat(payload.hasRemaining()).isFalse();
+    }
+
+    private static void skipField(ByteBuffer payload) {
+        int length = payload.getInt();
+        payload.position(payload.position() + length);
+    }
+
+    private static EncodedLogEntry entry(String changesJson, String entityId) {
+        return EncodedLogEntry.of(LogEntryId.of(ID), EntityIdentifier.of("Order", entityId), Operation.CREATE,
+                Instant.parse("2024-01-01T00:00:00Z"), changesJson, "{}", false);
+    }
+}
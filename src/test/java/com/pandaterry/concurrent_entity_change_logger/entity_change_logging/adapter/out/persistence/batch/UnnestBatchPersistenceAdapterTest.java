@@ -0,0 +1,77 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.batch;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition.LogEntryTableResolver;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UnnestBatchPersistenceAdapterTest {
+
+    @Test
+    @DisplayName("청크 크기 기준으로 행을 나눈다")
+    void shouldSplitByChunkSize() {
+        UnnestPreparedBatch batch = prepare(adapter(3, Long.MAX_VALUE), entries(7, "{}"));
+
+        assertThat(batch.chunks()).extracting(UnnestPreparedBatch.Chunk::rows).containsExactly(3, 3, 1);
+        assertThat(batch.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("바이트 상한은 문자 수가 아니라 UTF-8 바이트 수로 계산한다")
+    void shouldSplitByUtf8Bytes() {
+        // 한글 100자 = 300바이트. 문자 수로 세면 세 행이 한 청크에 들어가지만 바이트로 세면 한 행씩 나뉜다
+        String changes = "{\"memo\":\"" + "가".repeat(100) + "\"}";
+        long charRow = 128 + changes.length() + 2;
+        UnnestPreparedBatch batch = prepare(adapter(1000, charRow * 3), entries(3, changes));
+
+        assertThat(batch.chunks()).extracting(UnnestPreparedBatch.Chunk::rows).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("상한보다 큰 행도 혼자 한 청크로 저장한다")
+    void shouldKeepOversizedRowInOwnChunk() {
+        UnnestPreparedBatch batch = prepare(adapter(1000, 1), entries(2, "{}"));
+
+        assertThat(batch.chunks()).extracting(UnnestPreparedBatch.Chunk::rows).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("UTF-8 바이트 수는 String.getBytes 결과와 같다")
+    void shouldMatchEncodedLength() {
+        for (String value : List.of("", "ascii", "é", "한글", "😀 emoji")) {
+            assertThat(UnnestBatchPersistenceAdapter.utf8Length(value))
+                    .as(value)
+                    .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    private static UnnestBatchPersistenceAdapter adapter(int chunkSize, long maxChunkBytes) {
+        return new UnnestBatchPersistenceAdapter(null, null, LogEntryTableResolver.parentTable(),
+                mock(MetricsPort.class), chunkSize, maxChunkBytes);
+    }
+
+    private static UnnestPreparedBatch prepare(UnnestBatchPersistenceAdapter adapter, List<EncodedLogEntry> entries) {
+        return (UnnestPreparedBatch) adapter.prepare(entries);
+    }
+
+    private static List<EncodedLogEntry> entries(int count, String changes) {
+        List<EncodedLogEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", String.valueOf(i)),
+                    Operation.UPDATE, Instant.now(), changes, "{}", false));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,152 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogEntryPartitionManagerTest {
+    private static final Instant NOW = Instant.parse("2024-03-10T12:00:00Z");
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private EntityLoggingProperties properties;
+    private LogEntryPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecordingJdbcTemplate();
+        properties = new EntityLoggingProperties();
+        properties.getPartition().setEnabled(true);
+        properties.getPartition().setInterval("daily");
+        properties.getPartition().setPremake(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("지난 구간 하나와 현재, 앞으로 premake 개 구간의 파티션을 만든다")
+    void shouldCreatePreviousCurrentAndPremadePartitions() {
+        init();
+
+        assertThat(jdbcTemplate.executed).contains(
+                createSql("log_entries_p20240309", "2024-03-09T00:00:00Z", "2024-03-10T00:00:00Z"),
+                createSql("log_entries_p20240310", "2024-03-10T00:00:00Z", "2024-03-11T00:00:00Z"),
+                createSql("log_entries_p20240311", "2024-03-11T00:00:00Z", "2024-03-12T00:00:00Z"),
+                createSql("log_entries_p20240312", "2024-03-12T00:00:00Z", "2024-03-13T00:00:00Z"));
+        assertThat(jdbcTemplate.executed).noneMatch(sql -> sql.startsWith("DROP"));
+    }
+
+    @Test
+    @DisplayName("default 파티션에 같은 구간의 행이 있으면 옮긴 뒤 붙인다")
+    void shouldMoveDefaultRowsBeforeAttaching() {
+        jdbcTemplate.defaultRowStarts.add(Instant.parse("2024-03-11T00:00:00Z"));
+
+        init();
+
+        assertThat(jdbcTemplate.executed)
+                .doesNotContain(createSql("log_entries_p20240311", "2024-03-11T00:00:00Z", "2024-03-12T00:00:00Z"))
+                .contains(String.format(LogEntrySql.MOVE_DEFAULT_ROWS_AND_ATTACH_PARTITION, "log_entries_p20240311",
+                        "log_entries_default", Instant.parse("2024-03-11T00:00:00Z"), Instant.parse("2024-03-12T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("보관 기간을 완전히 지난 파티션만 삭제한다")
+    void shouldDropOnlyExpiredPartitions() {
+        properties.getPartition().setRetentionDays(2);
+        jdbcTemplate.existing.addAll(List.of("log_entries_p20240307", "log_entries_p20240308", "log_entries_default"));
+
+        init();
+
+        // 보관 경계는 2024-03-08T12:00Z. 03-08 파티션은 경계 이후 행을 담고 있어 남긴다
+        assertThat(jdbcTemplate.executed)
+                .contains("DROP TABLE IF EXISTS log_entries_p20240307")
+                .doesNotContain("DROP TABLE IF EXISTS log_entries_p20240308");
+    }
+
+    @Test
+    @DisplayName("한 구간 안의 배치는 해당 파티션으로, 경계에 걸친 배치는 부모 테이블로 보낸다")
+    void shouldResolveTableForBatch() {
+        init();
+
+        assertThat(manager.tableFor(List.of(entry("2024-03-10T01:00:00Z"), entry("2024-03-10T23:59:59Z"))))
+                .isEqualTo("log_entries_p20240310");
+        assertThat(manager.tableFor(List.of(entry("2024-03-10T23:59:59Z"), entry("2024-03-11T00:00:00Z"))))
+                .isEqualTo(LogEntrySql.TABLE);
+        assertThat(manager.tableFor(List.of(entry("2024-01-01T00:00:00Z"))))
+                .isEqualTo(LogEntrySql.TABLE);
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 관리를 시작하지 않는다")
+    void shouldSkipWhenTableIsNotPartitioned() {
+        jdbcTemplate.tableKind = "r";
+
+        init();
+
+        assertThat(manager.tableFor(List.of(entry("2024-03-10T01:00:00Z")))).isEqualTo(LogEntrySql.TABLE);
+        assertThat(jdbcTemplate.executed).noneMatch(sql -> sql.contains("FOR VALUES"));
+    }
+
+    private void init() {
+        manager = new LogEntryPartitionManager(jdbcTemplate, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+        manager.init();
+    }
+
+    private static String createSql(String name, String start, String end) {
+        return String.format(LogEntrySql.CREATE_RANGE_PARTITION, name, Instant.parse(start), Instant.parse(end));
+    }
+
+    private static EncodedLogEntry entry(String recordedAt) {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", "1"),
+                Operation.UPDATE, Instant.parse(recordedAt), "{}", "{}", false);
+    }
+
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> executed = new ArrayList<>();
+        private final List<String> existing = new ArrayList<>();
+        private final Set<Instant> defaultRowStarts = new HashSet<>();
+        private String tableKind = "p";
+
+        @Override
+        public void execute(String sql) {
+            executed.add(sql);
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            if (sql.equals(LogEntrySql.SELECT_TABLE_KIND)) {
+                return requiredType.cast(tableKind);
+            }
+            Instant start = ((OffsetDateTime) args[0]).toInstant();
+            return requiredType.cast(defaultRowStarts.contains(start));
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            return existing.stream().map(elementType::cast).toList();
+        }
+    }
+}
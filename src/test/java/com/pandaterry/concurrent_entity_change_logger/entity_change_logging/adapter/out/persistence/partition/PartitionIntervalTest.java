@@ -0,0 +1,60 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartitionIntervalTest {
+
+    @Test
+    @DisplayName("구간 시작은 UTC 기준으로 잘라낸다")
+    void shouldTruncateToUtcBoundary() {
+        Instant instant = Instant.parse("2024-03-10T23:59:59.999Z");
+
+        assertThat(PartitionInterval.DAILY.startOf(instant)).isEqualTo(Instant.parse("2024-03-10T00:00:00Z"));
+        assertThat(PartitionInterval.HOURLY.startOf(instant)).isEqualTo(Instant.parse("2024-03-10T23:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("다음/이전 구간은 월과 연 경계를 넘는다")
+    void shouldStepAcrossMonthAndYear() {
+        assertThat(PartitionInterval.DAILY.next(Instant.parse("2024-02-29T00:00:00Z")))
+                .isEqualTo(Instant.parse("2024-03-01T00:00:00Z"));
+        assertThat(PartitionInterval.DAILY.previous(Instant.parse("2024-01-01T00:00:00Z")))
+                .isEqualTo(Instant.parse("2023-12-31T00:00:00Z"));
+        assertThat(PartitionInterval.HOURLY.next(Instant.parse("2024-12-31T23:00:00Z")))
+                .isEqualTo(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("접미사는 구간 시작으로 되돌릴 수 있다")
+    void shouldRoundTripSuffix() {
+        Instant day = Instant.parse("2024-03-10T00:00:00Z");
+        Instant hour = Instant.parse("2024-03-10T07:00:00Z");
+
+        assertThat(PartitionInterval.DAILY.suffix(day)).isEqualTo("20240310");
+        assertThat(PartitionInterval.HOURLY.suffix(hour)).isEqualTo("2024031007");
+        assertThat(PartitionInterval.DAILY.parseSuffix("20240310")).isEqualTo(day);
+        assertThat(PartitionInterval.HOURLY.parseSuffix("2024031007")).isEqualTo(hour);
+    }
+
+    @Test
+    @DisplayName("다른 단위나 형식의 접미사는 null 을 돌려준다")
+    void shouldRejectForeignSuffix() {
+        assertThat(PartitionInterval.DAILY.parseSuffix("2024031007")).isNull();
+        assertThat(PartitionInterval.HOURLY.parseSuffix("20240310")).isNull();
+        assertThat(PartitionInterval.DAILY.parseSuffix("2024-3-10")).isNull();
+    }
+
+    @Test
+    @DisplayName("설정 값은 대소문자를 가리지 않고 모르는 값은 거부한다")
+    void shouldParseSetting() {
+        assertThat(PartitionInterval.from("Daily")).isEqualTo(PartitionInterval.DAILY);
+        assertThat(PartitionInterval.from("hourly")).isEqualTo(PartitionInterval.HOURLY);
+        assertThatThrownBy(() -> PartitionInterval.from("weekly")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ExportQuery;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogEntryExportRepositoryTest {
+
+    @Test
+    @DisplayName("조건 없는 내보내기는 오래된 순으로 읽고, 그 정렬을 받는 (recorded_at, id) 인덱스가 있다")
+    void shouldOrderUnfilteredExportByTimeIndex() {
+        List<Object> args = new ArrayList<>();
+
+        String sql = LogEntryExportRepository.exportSql(new ExportQuery(null, null, null, null, null), args);
+
+        assertThat(sql).endsWith(" WHERE TRUE ORDER BY recorded_at, id");
+        assertThat(args).isEmpty();
+        assertThat(LogEntrySql.HISTORY_INDEXES).anyMatch(index -> index.columns().equals("(recorded_at, id)"));
+    }
+
+    @Test
+    @DisplayName("조건은 이력 조회 인덱스의 선두 컬럼 순서대로 붙는다")
+    void shouldAppendFilters() {
+        Instant from = Instant.parse("2024-03-01T00:00:00Z");
+        Instant to = Instant.parse("2024-03-02T00:00:00Z");
+        List<Object> args = new ArrayList<>();
+
+        String sql = LogEntryExportRepository.exportSql(new ExportQuery(null, null, Operation.DELETE, from, to), args);
+
+        assertThat(sql).endsWith(" AND operation = ? AND recorded_at >= ? AND recorded_at < ? ORDER BY recorded_at, id");
+        assertThat(args).containsExactly("DELETE", Timestamp.from(from), Timestamp.from(to));
+    }
+}
@@ -0,0 +1,63 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogEntryHistoryRepositoryTest {
+    private static final EntityIdentifier ORDER = EntityIdentifier.of("Order", "1");
+
+    @Test
+    @DisplayName("첫 페이지는 키셋 조건 없이 최신순으로 limit 만큼 읽는다")
+    void shouldQueryFirstPageWithoutKeyset() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+
+        new LogEntryHistoryRepository(jdbcTemplate).find(HistoryQuery.forEntity(ORDER, null, null, null, 51));
+
+        assertThat(jdbcTemplate.sql)
+                .doesNotContain("(recorded_at, id) <")
+                .endsWith(" AND entity_name = ? AND entity_id = ? ORDER BY recorded_at DESC, id DESC LIMIT ?");
+        assertThat(jdbcTemplate.args).containsExactly("Order", "1", 51);
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 커서보다 엄격히 앞선 행을 (recorded_at, id) 행 비교로 읽는다")
+    void shouldQueryNextPageStrictlyBeforeCursor() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        Instant from = Instant.parse("2024-03-01T00:00:00Z");
+        Instant to = Instant.parse("2024-03-11T00:00:00Z");
+        HistoryCursor cursor = new HistoryCursor(Instant.parse("2024-03-10T12:00:00.000001Z"), UUID.randomUUID());
+
+        new LogEntryHistoryRepository(jdbcTemplate).find(HistoryQuery.forEntityType("Order", from, to, cursor, 11));
+
+        assertThat(jdbcTemplate.sql).endsWith(" AND entity_name = ? AND recorded_at >= ? AND recorded_at < ?"
+                + " AND (recorded_at, id) < (?, ?) ORDER BY recorded_at DESC, id DESC LIMIT ?");
+        assertThat(jdbcTemplate.args).containsExactly("Order", Timestamp.from(from), Timestamp.from(to),
+                Timestamp.from(cursor.recordedAt()), cursor.id(), 11);
+    }
+
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private String sql;
+        private List<Object> args;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            this.sql = sql;
+            this.args = List.of(args);
+            return (List<T>) List.<EncodedLogEntry>of();
+        }
+    }
+}
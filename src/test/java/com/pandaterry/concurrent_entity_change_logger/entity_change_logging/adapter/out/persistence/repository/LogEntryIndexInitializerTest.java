@@ -0,0 +1,110 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.persistence.repository;
+
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.constant.LogEntrySql;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogEntryIndexInitializerTest {
+    private static final String ENTITY_HISTORY = "idx_log_entries_entity_history";
+    private static final String ENTITY_HISTORY_COLUMNS = "(entity_name, entity_id, recorded_at, id) INCLUDE (operation)";
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+
+    @Test
+    @DisplayName("파티션 테이블은 부모에 빈 인덱스를 만들고 파티션마다 CONCURRENTLY 로 만든 인덱스를 붙인다")
+    void shouldBuildPartitionIndexesConcurrentlyAndAttach() {
+        jdbcTemplate.partitions.addAll(List.of("log_entries_p20240310", "log_entries_default"));
+
+        init();
+
+        assertThat(statementsFor("entity_history")).containsExactly(
+                "CREATE INDEX IF NOT EXISTS " + ENTITY_HISTORY + " ON ONLY log_entries " + ENTITY_HISTORY_COLUMNS,
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS log_entries_p20240310_entity_history"
+                        + " ON log_entries_p20240310 " + ENTITY_HISTORY_COLUMNS,
+                "ALTER INDEX " + ENTITY_HISTORY + " ATTACH PARTITION log_entries_p20240310_entity_history",
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS log_entries_default_entity_history"
+                        + " ON log_entries_default " + ENTITY_HISTORY_COLUMNS,
+                "ALTER INDEX " + ENTITY_HISTORY + " ATTACH PARTITION log_entries_default_entity_history");
+        assertThat(jdbcTemplate.executed).noneMatch(sql -> sql.contains(" ON log_entries ("));
+    }
+
+    @Test
+    @DisplayName("이미 유효한 인덱스는 확인만 하고 DDL 을 실행하지 않는다")
+    void shouldSkipValidIndexes() {
+        jdbcTemplate.partitions.add("log_entries_p20240310");
+        LogEntrySql.HISTORY_INDEXES.forEach(index -> jdbcTemplate.valid.put(index.name(), true));
+
+        init();
+
+        assertThat(jdbcTemplate.executed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간에 끊겨 쓸 수 없게 남은 파티션 인덱스는 지우고 다시 만든다")
+    void shouldRebuildInvalidPartitionIndex() {
+        jdbcTemplate.partitions.add("log_entries_p20240310");
+        jdbcTemplate.valid.put("log_entries_p20240310_entity_history", false);
+
+        init();
+
+        assertThat(statementsFor("entity_history")).containsSubsequence(
+                "DROP INDEX CONCURRENTLY IF EXISTS log_entries_p20240310_entity_history",
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS log_entries_p20240310_entity_history"
+                        + " ON log_entries_p20240310 " + ENTITY_HISTORY_COLUMNS);
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 테이블에 바로 CONCURRENTLY 로 만든다")
+    void shouldBuildConcurrentlyOnPlainTable() {
+        jdbcTemplate.tableKind = "r";
+
+        init();
+
+        assertThat(jdbcTemplate.executed).hasSize(LogEntrySql.HISTORY_INDEXES.size())
+                .allMatch(sql -> sql.startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_log_entries_"))
+                .contains("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + ENTITY_HISTORY
+                        + " ON log_entries " + ENTITY_HISTORY_COLUMNS);
+    }
+
+    private void init() {
+        new LogEntryIndexInitializer(jdbcTemplate, new EntityLoggingProperties()).init();
+    }
+
+    private List<String> statementsFor(String suffix) {
+        return jdbcTemplate.executed.stream().filter(sql -> sql.contains(suffix)).toList();
+    }
+
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> executed = new ArrayList<>();
+        private final List<String> partitions = new ArrayList<>();
+        private final Map<String, Boolean> valid = new HashMap<>();
+        private String tableKind = "p";
+
+        @Override
+        public void execute(String sql) {
+            executed.add(sql);
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            if (sql.equals(LogEntrySql.SELECT_TABLE_KIND)) {
+                return requiredType.cast(tableKind);
+            }
+            return requiredType.cast(valid.get((String) args[0]));
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            return partitions.stream().map(elementType::cast).toList();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PriorityLaneQueueAdapterTest {
+    private static final int HIGH_CAPACITY = 2;
+    private static final int NORMAL_CAPACITY = 4;
+
+    private PriorityLaneQueueAdapter queue;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getStrategy().setHighPriorityQueueSize(HIGH_CAPACITY);
+        properties.getStrategy().setQueueSize(NORMAL_CAPACITY);
+        queue = new PriorityLaneQueueAdapter(properties, mock(MetricsPort.class));
+        queue.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("high 레인 엔트리는 먼저 들어온 normal 엔트리보다 먼저 꺼내고, 레인 안에서는 들어온 순서를 지킨다")
+    void shouldDrainHighLaneFirst() {
+        EncodedLogEntry normal1 = entry(false);
+        EncodedLogEntry high1 = entry(true);
+        EncodedLogEntry normal2 = entry(false);
+        EncodedLogEntry high2 = entry(true);
+        List.of(normal1, high1, normal2, high2).forEach(queue::offer);
+
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained, 10)).isEqualTo(4);
+
+        assertThat(drained).containsExactly(high1, high2, normal1, normal2);
+    }
+
+    @Test
+    @DisplayName("배치 한도가 high 레인에서 다 차면 normal 레인은 다음 배치로 남긴다")
+    void shouldLeaveNormalLaneWhenHighLaneFillsBatch() {
+        EncodedLogEntry normal = entry(false);
+        EncodedLogEntry high1 = entry(true);
+        EncodedLogEntry high2 = entry(true);
+        List.of(normal, high1, high2).forEach(queue::offer);
+
+        List<EncodedLogEntry> first = new ArrayList<>();
+        queue.drainTo(first, 2);
+        List<EncodedLogEntry> second = new ArrayList<>();
+        queue.drainTo(second, 2);
+
+        assertThat(first).containsExactly(high1, high2);
+        assertThat(second).containsExactly(normal);
+    }
+
+    @Test
+    @DisplayName("high 레인이 가득 차면 버리지 않고 normal 레인으로 보낸다")
+    void shouldFallBackToNormalLaneWhenHighLaneIsFull() {
+        List<EncodedLogEntry> highs = new ArrayList<>();
+        for (int i = 0; i < HIGH_CAPACITY + 1; i++) {
+            EncodedLogEntry high = entry(true);
+            highs.add(high);
+            assertThat(queue.offer(high)).isTrue();
+        }
+        EncodedLogEntry normal = entry(false);
+        queue.offer(normal);
+
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        queue.drainTo(drained, 10);
+
+        assertThat(queue.size()).isZero();
+        assertThat(drained).containsExactly(highs.get(0), highs.get(1), highs.get(2), normal);
+    }
+
+    @Test
+    @DisplayName("normal 레인이 가득 차면 normal 엔트리는 거부하지만 high 엔트리는 받는다")
+    void shouldRejectNormalEntryWhenNormalLaneIsFull() {
+        for (int i = 0; i < NORMAL_CAPACITY; i++) {
+            assertThat(queue.offer(entry(false))).isTrue();
+        }
+
+        assertThat(queue.offer(entry(false))).isFalse();
+        assertThat(queue.offer(entry(true))).isTrue();
+        assertThat(queue.size()).isEqualTo(NORMAL_CAPACITY + 1);
+    }
+
+    @Test
+    @DisplayName("poll 은 normal 레인부터 꺼내 drop-oldest 가 high 엔트리를 밀어내지 않게 한다")
+    void shouldPollNormalLaneBeforeHighLane() {
+        EncodedLogEntry high = entry(true);
+        EncodedLogEntry normal = entry(false);
+        queue.offer(high);
+        queue.offer(normal);
+
+        assertThat(queue.poll()).isEqualTo(normal);
+        assertThat(queue.poll()).isEqualTo(high);
+        assertThat(queue.poll()).isNull();
+    }
+
+    private static EncodedLogEntry entry(boolean highPriority) {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", "1"),
+                highPriority ? Operation.DELETE : Operation.UPDATE, Instant.now(), "{}", "{}", highPriority);
+    }
+}
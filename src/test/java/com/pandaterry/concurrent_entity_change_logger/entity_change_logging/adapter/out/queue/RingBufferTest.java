@@ -0,0 +1,111 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림된다")
+    void shouldRoundCapacityToPowerOfTwo() {
+        assertThat(new RingBuffer<Integer>(1000).capacity()).isEqualTo(1024);
+        assertThat(new RingBuffer<Integer>(1024).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new RingBuffer<Integer>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer 가 거부되고, 소비 후 다시 받을 수 있다")
+    void shouldRejectWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.remainingCapacity()).isZero();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("drainTo 는 FIFO 순서로 최대 개수까지 일괄 소비한다")
+    void shouldDrainInFifoOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        buffer.drainTo(first, 4);
+        buffer.drainTo(second, 10);
+
+        assertThat(first).containsExactly(0, 1, 2, 3);
+        assertThat(second).containsExactly(4, 5);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다중 생산자/다중 소비자 환경에서 유실이나 중복 없이 전달된다")
+    void shouldDeliverEveryElementExactlyOnceUnderContention() throws InterruptedException {
+        int producers = 4;
+        int consumers = 3;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger receivedCount = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers + consumers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        for (int c = 0; c < consumers; c++) {
+            executor.submit(() -> {
+                List<Integer> batch = new ArrayList<>();
+                while (receivedCount.get() < total) {
+                    batch.clear();
+                    int drained = buffer.drainTo(batch, 128);
+                    received.addAll(batch);
+                    receivedCount.addAndGet(drained);
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(receivedCount.get()).isEqualTo(total);
+        assertThat(received).hasSize(total);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,140 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ShardedQueueAdapterTest {
+    private static final int SHARDS = 4;
+
+    private ShardedQueueAdapter queue;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getStrategy().setShardCount(SHARDS);
+        properties.getStrategy().setQueueSize(SHARDS * 16);
+        queue = new ShardedQueueAdapter(properties, mock(MetricsPort.class));
+        queue.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 엔티티는 항상 같은 샤드로 가고, 샤드별 깊이와 전체 크기가 맞는다")
+    void shouldRouteSameEntityToSameShard() {
+        EncodedLogEntry first = entry("1");
+        EncodedLogEntry other = entryOnAnotherShard(first);
+
+        queue.offer(first);
+        queue.offer(entry("1"));
+        queue.offer(entry("1"));
+        queue.offer(other);
+
+        int shard = queue.shardIndexOf(first);
+        assertThat(queue.shardIndexOf(entry("1"))).isEqualTo(shard);
+        assertThat(queue.shards().get(shard).size()).isEqualTo(3);
+        assertThat(queue.shards().get(queue.shardIndexOf(other)).size()).isEqualTo(1);
+        assertThat(queue.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("샤드는 처음 꺼내 간 스레드만 소비하고, 그 스레드가 끝나면 다른 스레드가 이어받는다")
+    void shouldBindShardToSingleConsumer() throws Exception {
+        EncodedLogEntry first = entry("1");
+        queue.offer(first);
+        QueuePort shard = queue.shards().get(queue.shardIndexOf(first));
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger drainedByOwner = new AtomicInteger();
+        Thread owner = new Thread(() -> {
+            drainedByOwner.set(shard.drainTo(new ArrayList<>(), 1));
+            claimed.countDown();
+            awaitQuietly(release);
+        });
+        owner.start();
+        assertThat(claimed.await(1, TimeUnit.SECONDS)).isTrue();
+
+        queue.offer(entry("1"));
+        List<EncodedLogEntry> stolen = new ArrayList<>();
+        assertThat(shard.drainTo(stolen, 10)).isZero();
+
+        release.countDown();
+        owner.join(1000);
+        assertThat(shard.drainTo(stolen, 10)).isEqualTo(1);
+        assertThat(drainedByOwner.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 샤드 안에서는 들어온 순서대로 꺼낸다")
+    void shouldDrainShardInOfferOrder() {
+        List<EncodedLogEntry> offered = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            EncodedLogEntry entry = entry("1");
+            offered.add(entry);
+            queue.offer(entry);
+        }
+
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        queue.shards().get(queue.shardIndexOf(offered.get(0))).drainTo(drained, 100);
+
+        assertThat(drained).containsExactlyElementsOf(offered);
+    }
+
+    @Test
+    @DisplayName("샤드가 가득 차면 다른 샤드에 자리가 있어도 거부한다")
+    void shouldRejectWhenTargetShardIsFull() {
+        EncodedLogEntry first = entry("1");
+        int capacity = queue.shards().get(queue.shardIndexOf(first)).remainingCapacity();
+        for (int i = 0; i < capacity; i++) {
+            assertThat(queue.offer(entry("1"))).isTrue();
+        }
+
+        assertThat(queue.offer(first)).isFalse();
+        assertThat(queue.offer(entryOnAnotherShard(first))).isTrue();
+    }
+
+    private EncodedLogEntry entryOnAnotherShard(EncodedLogEntry entry) {
+        for (int id = 2; ; id++) {
+            EncodedLogEntry candidate = entry(String.valueOf(id));
+            if (queue.shardIndexOf(candidate) != queue.shardIndexOf(entry)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static EncodedLogEntry entry(String entityId) {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", entityId), Operation.CREATE,
+                Instant.now(), "{}", "{}", false);
+    }
+}
@@ -0,0 +1,187 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.encoding.JsonLogEntryEncoder;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillRead;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MappedSpillStorageAdapterTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    private final JsonLogEntryEncoder encoder = new JsonLogEntryEncoder(new ObjectMapper());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 스필해도 넣은 순서대로 꺼내고, 확인하면 지난 세그먼트를 지운다")
+    void shouldDrainInOrderAcrossSegments() throws IOException {
+        MappedSpillStorageAdapter spill = open(1);
+        List<EncodedLogEntry> spilled = spill(spill, 0, 50);
+        assertThat(segmentsOf(0)).hasSizeGreaterThan(1);
+        assertThat(spill.size(0)).isEqualTo(50);
+
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        SpillRead read = spill.drainTo(0, drained, 100);
+
+        assertThat(drained).containsExactlyElementsOf(spilled);
+        assertThat(spill.size()).isZero();
+        spill.acknowledge(read);
+        assertThat(segmentsOf(0)).hasSize(1);
+        spill.close();
+    }
+
+    @Test
+    @DisplayName("꺼냈지만 확인하지 않은 구간은 다시 열면 다시 꺼내진다")
+    void shouldRedeliverUnacknowledgedReadsAfterReopen() throws IOException {
+        MappedSpillStorageAdapter spill = open(1);
+        List<EncodedLogEntry> spilled = spill(spill, 0, 6);
+        List<EncodedLogEntry> first = new ArrayList<>();
+        spill.acknowledge(spill.drainTo(0, first, 2));
+        spill.drainTo(0, new ArrayList<>(), 2);
+        spill.close();
+
+        MappedSpillStorageAdapter reopened = open(1);
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        reopened.drainTo(0, drained, 100);
+
+        assertThat(first).containsExactlyElementsOf(spilled.subList(0, 2));
+        assertThat(drained).containsExactlyElementsOf(spilled.subList(2, 6));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("뒤에 끝난 구간을 먼저 확인해도 앞 구간이 확인되기 전에는 커서가 나아가지 않는다")
+    void shouldCommitOnlyContiguousAcknowledgements() throws IOException {
+        MappedSpillStorageAdapter spill = open(1);
+        List<EncodedLogEntry> spilled = spill(spill, 0, 4);
+        SpillRead first = spill.drainTo(0, new ArrayList<>(), 2);
+        SpillRead second = spill.drainTo(0, new ArrayList<>(), 2);
+        spill.acknowledge(second);
+        spill.close();
+
+        MappedSpillStorageAdapter reopened = open(1);
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        reopened.drainTo(0, drained, 100);
+
+        assertThat(first.isEmpty()).isFalse();
+        assertThat(drained).containsExactlyElementsOf(spilled);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("길이를 쓰기 전에 멈춘 레코드는 다시 열 때 무시하고 그 자리부터 이어 쓴다")
+    void shouldIgnorePartiallyWrittenRecord() throws IOException {
+        MappedSpillStorageAdapter spill = open(1);
+        List<EncodedLogEntry> spilled = spill(spill, 0, 3);
+        spill.close();
+
+        // 본문만 쓰이고 길이는 쓰이지 않은 상황
+        int tail = 0;
+        for (EncodedLogEntry entry : spilled) {
+            tail += Integer.BYTES + encoder.toJson(entry).length;
+        }
+        try (FileChannel channel = FileChannel.open(segmentsOf(0).get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(encoder.toJson(entry("torn"))), tail + Integer.BYTES);
+        }
+
+        MappedSpillStorageAdapter reopened = open(1);
+        assertThat(reopened.size()).isEqualTo(3);
+        EncodedLogEntry next = entry("next");
+        reopened.spill(0, next);
+
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        reopened.drainTo(0, drained, 100);
+        assertThat(drained).hasSize(4).last().isEqualTo(next);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("레인 수가 줄면 남은 레인은 번호가 띄엄띄엄해도 같은 나머지의 레인에서 꺼내고 확인한다")
+    void shouldDrainLeftoverLanesAfterLaneCountShrinks() throws IOException {
+        MappedSpillStorageAdapter spill = open(8);
+        List<EncodedLogEntry> inLane3 = spill(spill, 3, 2);
+        List<EncodedLogEntry> inLane7 = spill(spill, 7, 2);
+        spill.close();
+        // 빈 레인 디렉터리는 지워져 lane-0..3 과 lane-7 만 남은 상황
+        for (int lane = 4; lane < 7; lane++) {
+            deleteRecursively(directory.resolve("lane-" + lane));
+        }
+
+        MappedSpillStorageAdapter reopened = open(4);
+        assertThat(reopened.size(3)).isEqualTo(4);
+
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        SpillRead first = reopened.drainTo(3, drained, 100);
+        reopened.acknowledge(first);
+        SpillRead second = reopened.drainTo(3, drained, 100);
+        reopened.acknowledge(second);
+
+        assertThat(List.of(first.lane(), second.lane())).containsExactly(3, 7);
+        assertThat(drained).containsExactlyElementsOf(Stream.concat(inLane3.stream(), inLane7.stream()).toList());
+        assertThat(reopened.size()).isZero();
+        reopened.close();
+
+        MappedSpillStorageAdapter again = open(4);
+        assertThat(again.size()).isZero();
+        again.close();
+    }
+
+    private MappedSpillStorageAdapter open(int laneCount) throws IOException {
+        MappedSpillStorageAdapter spill = new MappedSpillStorageAdapter(encoder, mock(MetricsPort.class),
+                SEGMENT_SIZE, laneCount, directory);
+        spill.init();
+        return spill;
+    }
+
+    private static List<EncodedLogEntry> spill(MappedSpillStorageAdapter spill, int lane, int count)
+            throws IOException {
+        List<EncodedLogEntry> spilled = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            EncodedLogEntry entry = entry(String.valueOf(i));
+            spill.spill(lane, entry);
+            spilled.add(entry);
+        }
+        return spilled;
+    }
+
+    private List<Path> segmentsOf(int lane) throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("lane-" + lane))) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static EncodedLogEntry entry(String entityId) {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", entityId), Operation.UPDATE,
+                Instant.now(), "{\"status\":{\"oldValue\":\"NEW\",\"newValue\":\"PAID\"}}", "{}", false);
+    }
+}
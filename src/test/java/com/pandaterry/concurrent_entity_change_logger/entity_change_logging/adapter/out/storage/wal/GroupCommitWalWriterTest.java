@@ -0,0 +1,147 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class GroupCommitWalWriterTest {
+    private final FakeAppender appender = new FakeAppender();
+    private GroupCommitWalWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown(1000);
+    }
+
+    @Test
+    @DisplayName("group 정책은 동시에 들어온 레코드를 적은 fsync 로 함께 완료한다")
+    void shouldShareFsyncAcrossConcurrentRecords() throws Exception {
+        writer = start(FsyncPolicy.GROUP, 5);
+
+        ExecutorService producers = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 800; i++) {
+            byte[] record = ("record-" + i).getBytes(StandardCharsets.UTF_8);
+            futures.add(CompletableFuture.supplyAsync(() -> writer.append(record), producers).thenCompose(f -> f));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        producers.shutdown();
+
+        assertThat(appender.records).hasSize(800);
+        assertThat(appender.forces).isLessThan(800);
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isLessThanOrEqualTo(appender.forcedPosition));
+    }
+
+    @Test
+    @DisplayName("record 정책은 레코드마다 fsync 한다")
+    void shouldForceEveryRecord() throws Exception {
+        writer = start(FsyncPolicy.RECORD, 0);
+
+        for (int i = 0; i < 10; i++) {
+            writer.append(new byte[]{(byte) i}).get(1, TimeUnit.SECONDS);
+        }
+
+        assertThat(appender.forces).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("interval 정책은 다음 fsync 전까지 완료를 통지하지 않는다")
+    void shouldCompleteOnlyAfterIntervalFsync() throws Exception {
+        writer = start(FsyncPolicy.INTERVAL, 0);
+
+        CompletableFuture<Long> future = writer.append(new byte[]{1, 2, 3});
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(4L);
+        assertThat(appender.forces).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료하면 남은 레코드를 쓰고 이후 요청은 거부한다")
+    void shouldDrainOnShutdown() throws Exception {
+        writer = start(FsyncPolicy.GROUP, 50);
+        CompletableFuture<Long> pending = writer.append(new byte[]{1});
+
+        writer.shutdown(1000);
+
+        assertThat(pending).isCompletedWithValue(2L);
+        assertThat(writer.append(new byte[]{2})).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("쓰기가 없어도 주기적으로 현재 위치를 알린다")
+    void shouldNotifyPositionWhileIdle() throws Exception {
+        List<Long> notified = new CopyOnWriteArrayList<>();
+        writer = new GroupCommitWalWriter(appender, FsyncPolicy.GROUP, 0, 64 * 1024, 1024 * 1024, 100,
+                mock(MetricsPort.class), notified::add, 10);
+        writer.start();
+        writer.append(new byte[]{1}).get(1, TimeUnit.SECONDS);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (notified.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(appender.records).hasSize(1);
+        assertThat(notified).hasSizeGreaterThanOrEqualTo(3).contains(2L);
+        assertThat(notified.get(notified.size() - 1)).isEqualTo(2L);
+    }
+
+    private GroupCommitWalWriter start(FsyncPolicy policy, long groupMaxDelay) {
+        GroupCommitWalWriter started = new GroupCommitWalWriter(appender, policy, groupMaxDelay,
+                64 * 1024, 1024 * 1024, 100, mock(MetricsPort.class), position -> {
+        });
+        started.start();
+        return started;
+    }
+
+    // writer 스레드 하나만 호출하지만 검증은 테스트 스레드에서 하므로 volatile 로 둔다
+    private static class FakeAppender implements WalAppender {
+        private final List<byte[]> records = new ArrayList<>();
+        private volatile long position;
+        private volatile long flushedPosition;
+        private volatile long forcedPosition;
+        private volatile int forces;
+
+        @Override
+        public long append(WalPayload payload) {
+            byte[] record = payload.encode(null);
+            records.add(record);
+            position += record.length + 1;
+            return position;
+        }
+
+        @Override
+        public void flush() {
+            flushedPosition = position;
+        }
+
+        @Override
+        public void force() {
+            forcedPosition = flushedPosition;
+            forces++;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
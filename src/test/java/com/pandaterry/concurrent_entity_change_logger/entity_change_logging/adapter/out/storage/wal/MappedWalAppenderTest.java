@@ -0,0 +1,143 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedWalAppenderTest {
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("미리 매핑한 세그먼트로 전환하며 channel 방식과 같은 파일 형식을 쓴다")
+    void shouldRollIntoPremappedSegments() throws IOException {
+        try (MappedWalAppender appender = new MappedWalAppender(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 100_000; i++) {
+                appender.append(record(i));
+            }
+        }
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            assertThat(appender.lastSequence()).isEqualTo(100_000);
+            appender.append(record(100_000));
+        }
+
+        assertThat(WalSegment.list(directory)).hasSizeGreaterThan(1);
+        assertThat(readAll()).hasSize(100_001).last().isEqualTo("record-100000");
+    }
+
+    @Test
+    @DisplayName("깨진 프레임 뒤의 옛 바이트를 지워 이어 쓴 레코드 뒤에서 되살아나지 않게 한다")
+    void shouldClearStaleBytesAfterCorruptedFrame() throws IOException {
+        try (MappedWalAppender appender = new MappedWalAppender(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 4; i++) {
+                appender.append(record(i));
+            }
+        }
+
+        // 첫 레코드가 깨지면 세그먼트를 비우고 그 자리에 다시 쓴다
+        Path tail = WalSegment.list(directory).get(0);
+        long corrupted = WalSegment.HEADER_SIZE + WalSegment.FRAME_HEADER_SIZE;
+        try (FileChannel channel = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), corrupted);
+        }
+
+        try (MappedWalAppender appender = new MappedWalAppender(directory, SEGMENT_SIZE)) {
+            assertThat(appender.position()).isEqualTo(WalSegment.HEADER_SIZE);
+            appender.append(record(9));
+        }
+
+        // 지우지 않았다면 순번 2 인 옛 record-1 이 record-9 뒤에 이어 읽힌다
+        assertThat(readAll()).containsExactly("record-9");
+    }
+
+    @Test
+    @DisplayName("레코드가 남은 마지막 세그먼트는 봉인하고 새 세그먼트에서 이어 쓴다")
+    void shouldSealRecoveredTail() throws IOException {
+        long validPosition;
+        try (MappedWalAppender appender = new MappedWalAppender(directory, SEGMENT_SIZE)) {
+            appender.append(record(0));
+            validPosition = appender.append(record(1));
+            appender.append(record(2));
+        }
+
+        Path tail = WalSegment.list(directory).get(0);
+        int frameSize = WalSegment.FRAME_HEADER_SIZE + record(0).length;
+        try (FileChannel channel = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), WalSegment.HEADER_SIZE + 2L * frameSize + WalSegment.FRAME_HEADER_SIZE);
+        }
+
+        try (MappedWalAppender appender = new MappedWalAppender(directory, SEGMENT_SIZE)) {
+            assertThat(appender.position()).isEqualTo(validPosition + WalSegment.HEADER_SIZE);
+            appender.append(record(9));
+        }
+
+        assertThat(Files.size(tail)).isEqualTo(validPosition);
+        assertThat(readAll()).containsExactly("record-0", "record-1", "record-9");
+    }
+
+    @Test
+    @DisplayName("이름 변경이 남기 전에 멈춰 예비 파일 이름으로 남은 세그먼트를 헤더 위치로 되살린다")
+    void shouldRecoverSegmentLeftUnderSpareName() throws IOException {
+        try (MappedWalAppender appender = new MappedWalAppender(directory, 4096)) {
+            for (int i = 0; i < 300; i++) {
+                appender.append(record(i));
+            }
+        }
+
+        // 전환 직후 디렉터리 항목이 디스크에 남지 않은 상황
+        List<Path> segments = WalSegment.list(directory);
+        assertThat(segments).hasSizeGreaterThan(1);
+        Path tail = segments.get(segments.size() - 1);
+        Files.move(tail, directory.resolve("wal-next.tmp"));
+
+        try (MappedWalAppender appender = new MappedWalAppender(directory, 4096)) {
+            assertThat(appender.lastSequence()).isEqualTo(300);
+            appender.append(record(300));
+        }
+        assertThat(WalSegment.list(directory)).contains(tail);
+        assertThat(readAll()).hasSize(301).last().isEqualTo("record-300");
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 예비 파일은 쓰이기 전이므로 버린다")
+    void shouldDiscardUnusedSpare() throws IOException {
+        Files.write(directory.resolve("wal-next.tmp"), new byte[4096]);
+
+        try (MappedWalAppender appender = new MappedWalAppender(directory, 4096)) {
+            assertThat(appender.lastSequence()).isZero();
+            appender.append(record(0));
+        }
+        assertThat(WalSegment.list(directory)).hasSize(1);
+        assertThat(readAll()).containsExactly("record-0");
+    }
+
+    private List<String> readAll() throws IOException {
+        List<String> records = new ArrayList<>();
+        for (Path segment : WalSegment.list(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long firstSequence = WalSegment.readFirstSequence(channel, WalSegment.baseOffsetOf(segment));
+                WalSegment.scan(channel, firstSequence,
+                        record -> records.add(StandardCharsets.UTF_8.decode(record.payload()).toString()));
+            }
+        }
+        return records;
+    }
+
+    private static byte[] record(int i) {
+        return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,141 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.storage.wal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedWalAppenderTest {
+    private static final long SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트가 차면 이어지는 위치에서 새 세그먼트를 연다")
+    void shouldRollSegments() throws IOException {
+        long position;
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 500; i++) {
+                appender.append(record(i));
+            }
+            appender.flush();
+            position = appender.position();
+        }
+
+        List<Path> segments = WalSegment.list(directory);
+        assertThat(segments).hasSizeGreaterThan(1);
+        assertThat(WalSegment.baseOffsetOf(segments.get(0))).isZero();
+        assertThat(readAll()).hasSize(500).first().isEqualTo("record-0");
+
+        Path last = segments.get(segments.size() - 1);
+        assertThat(WalSegment.baseOffsetOf(last) + Files.size(last)).isEqualTo(position);
+    }
+
+    @Test
+    @DisplayName("마지막 세그먼트의 찢어진 레코드는 잘라내고 새 세그먼트에서 순번을 이어간다")
+    void shouldTruncateTornTail() throws IOException {
+        long validPosition;
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            appender.append(record(0));
+            validPosition = appender.append(record(1));
+            appender.append(record(2));
+        }
+
+        // 마지막 레코드가 쓰이다 멈춘 상황
+        Path tail = WalSegment.list(directory).get(0);
+        try (FileChannel channel = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            assertThat(appender.position()).isEqualTo(validPosition + WalSegment.HEADER_SIZE);
+            assertThat(appender.lastSequence()).isEqualTo(2);
+            appender.append(record(3));
+        }
+
+        assertThat(WalSegment.list(directory)).hasSize(2)
+                .last().satisfies(segment -> assertThat(WalSegment.baseOffsetOf(segment)).isEqualTo(validPosition));
+
+        assertThat(readAll()).containsExactly("record-0", "record-1", "record-3");
+    }
+
+    @Test
+    @DisplayName("CRC 가 맞지 않는 레코드부터 뒤는 버린다")
+    void shouldDropRecordsFromCorruptedFrame() throws IOException {
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 5; i++) {
+                appender.append(record(i));
+            }
+        }
+
+        // 세 번째 레코드 payload 의 한 바이트를 바꾼다
+        Path tail = WalSegment.list(directory).get(0);
+        int frameSize = WalSegment.FRAME_HEADER_SIZE + record(0).length;
+        long corrupted = WalSegment.HEADER_SIZE + 2L * frameSize + WalSegment.FRAME_HEADER_SIZE;
+        try (FileChannel channel = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), corrupted);
+        }
+
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            assertThat(appender.lastSequence()).isEqualTo(2);
+        }
+        assertThat(readAll()).containsExactly("record-0", "record-1");
+    }
+
+    @Test
+    @DisplayName("재생 커서 앞에서 끝나는 봉인 세그먼트만 지우고 쓰고 있는 세그먼트는 남긴다")
+    void shouldDeleteSegmentsBelowPersistedPosition() throws IOException {
+        try (SegmentedWalAppender appender = new SegmentedWalAppender(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 500; i++) {
+                appender.append(record(i));
+            }
+            appender.flush();
+
+            List<Path> segments = WalSegment.list(directory);
+            assertThat(segments).hasSizeGreaterThan(3);
+            long thirdBase = WalSegment.baseOffsetOf(segments.get(2));
+
+            // 세 번째 세그먼트 시작 바로 앞이면 두 번째 세그먼트의 마지막 레코드가 아직 남아 있다
+            appender.deleteSegmentsBefore(thirdBase - 1);
+            assertThat(WalSegment.list(directory)).hasSize(segments.size() - 1);
+
+            appender.deleteSegmentsBefore(thirdBase);
+            assertThat(WalSegment.list(directory)).hasSize(segments.size() - 2)
+                    .first().satisfies(segment -> assertThat(WalSegment.baseOffsetOf(segment)).isEqualTo(thirdBase));
+
+            appender.deleteSegmentsBefore(Long.MAX_VALUE);
+            assertThat(WalSegment.list(directory)).hasSize(1);
+            appender.append(record(500));
+        }
+
+        assertThat(readAll()).last().isEqualTo("record-500");
+    }
+
+    private List<String> readAll() throws IOException {
+        List<String> records = new ArrayList<>();
+        for (Path segment : WalSegment.list(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                long firstSequence = WalSegment.readFirstSequence(channel, WalSegment.baseOffsetOf(segment));
+                WalSegment.scan(channel, firstSequence,
+                        record -> records.add(StandardCharsets.UTF_8.decode(record.payload()).toString()));
+            }
+        }
+        return records;
+    }
+
+    private static byte[] record(int i) {
+        return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+}
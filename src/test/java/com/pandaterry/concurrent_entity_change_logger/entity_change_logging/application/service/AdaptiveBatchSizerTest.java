@@ -0,0 +1,91 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBatchSizerTest {
+    private static final long TARGET_NANOS = 50_000_000L;
+
+    @Test
+    @DisplayName("목표 지연 안에서 배치가 꽉 차고 큐가 밀려 있으면 최소 크기만큼 늘린다")
+    void shouldGrowAdditivelyWhenFullAndBacklogged() {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive(100, 10_000, 1_000, TARGET_NANOS);
+
+        sizer.onSuccess(1_000, TARGET_NANOS / 2, 5_000);
+
+        assertThat(sizer.currentSize()).isEqualTo(1_100);
+    }
+
+    @Test
+    @DisplayName("배치가 덜 찼거나 큐가 비어 있으면 크기를 유지한다")
+    void shouldKeepSizeWhenNotSaturated() {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive(100, 10_000, 1_000, TARGET_NANOS);
+
+        sizer.onSuccess(400, TARGET_NANOS / 2, 5_000);
+        sizer.onSuccess(1_000, TARGET_NANOS / 2, 10);
+
+        assertThat(sizer.currentSize()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("목표 지연을 넘기면 0.75 배로 줄인다")
+    void shouldShrinkWhenLatencyExceedsTarget() {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive(100, 10_000, 1_000, TARGET_NANOS);
+
+        sizer.onSuccess(1_000, TARGET_NANOS + 1, 5_000);
+
+        assertThat(sizer.currentSize()).isEqualTo(750);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 절반으로 줄인다")
+    void shouldHalveOnFailure() {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive(100, 10_000, 1_000, TARGET_NANOS);
+
+        sizer.onFailure();
+
+        assertThat(sizer.currentSize()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("크기는 최소와 최대 사이로 제한된다")
+    void shouldClampToBounds() {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.adaptive(100, 1_000, 950, TARGET_NANOS);
+
+        sizer.onSuccess(950, 0, 5_000);
+        sizer.onSuccess(1_000, 0, 5_000);
+        assertThat(sizer.currentSize()).isEqualTo(1_000);
+
+        for (int i = 0; i < 10; i++) {
+            sizer.onFailure();
+        }
+        assertThat(sizer.currentSize()).isEqualTo(100);
+
+        assertThat(AdaptiveBatchSizer.adaptive(100, 1_000, 5, TARGET_NANOS).currentSize()).isEqualTo(100);
+        assertThat(AdaptiveBatchSizer.adaptive(100, 1_000, 5_000, TARGET_NANOS).currentSize()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("고정 크기는 지연이나 실패와 무관하게 변하지 않는다")
+    void shouldNeverChangeFixedSize() {
+        AdaptiveBatchSizer sizer = AdaptiveBatchSizer.fixed(500);
+
+        sizer.onSuccess(500, Long.MAX_VALUE - 1, 10_000);
+        sizer.onFailure();
+        sizer.onSuccess(500, 0, 10_000);
+
+        assertThat(sizer.currentSize()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기 범위는 거부한다")
+    void shouldRejectInvalidBounds() {
+        assertThatThrownBy(() -> AdaptiveBatchSizer.adaptive(0, 100, 10, TARGET_NANOS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AdaptiveBatchSizer.adaptive(200, 100, 150, TARGET_NANOS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
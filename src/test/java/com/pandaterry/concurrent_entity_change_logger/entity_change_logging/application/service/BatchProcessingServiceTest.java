@@ -0,0 +1,152 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue.RingBufferQueueAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryReplayPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillRead;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.SpillStoragePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.BatchRetryService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.concurrent.WorkerExecutorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchProcessingServiceTest {
+    private static final int BATCH_SIZE = 2;
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private RingBufferQueueAdapter queue;
+    private SlowPersistence persistence;
+    private DeadLetterPort deadLetterPort;
+    private BatchProcessingService service;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.setJpaBatchSize(BATCH_SIZE);
+        properties.getStrategy().setThreadPoolSize(1);
+        properties.getStrategy().setPipelineEnabled(true);
+        properties.getStrategy().setPipelineHandoffSize(2);
+        properties.getStrategy().setLinger(1);
+        properties.getStrategy().setRetryMaxAttempts(1);
+
+        queue = new RingBufferQueueAdapter(properties);
+        queue.init();
+        SpillStoragePort spillStoragePort = mock(SpillStoragePort.class);
+        when(spillStoragePort.drainTo(anyInt(), any(), anyInt())).thenReturn(SpillRead.NONE);
+        persistence = new SlowPersistence();
+        deadLetterPort = mock(DeadLetterPort.class);
+        MetricsPort metricsPort = mock(MetricsPort.class);
+
+        service = new BatchProcessingService(queue, spillStoragePort, persistence,
+                new BatchRetryService(persistence, deadLetterPort, mock(LogEntryReplayPort.class), metricsPort,
+                        properties),
+                metricsPort, properties, new WorkerExecutorFactory(properties), new PersistedWalCursor(properties));
+    }
+
+    @Test
+    @DisplayName("준비에 실패한 배치도 저장 단계에서 순서대로 쓰여, 쓰기 순서가 큐에서 꺼낸 순서와 같다")
+    void shouldKeepWriteOrderWhenPrepareFails() throws Exception {
+        List<EncodedLogEntry> offered = offer(10);
+        EncodedLogEntry poison = offered.get(5);
+        persistence.poison = poison;
+
+        service.init();
+        await(() -> persistence.saved.size() == offered.size() - 1);
+        service.shutdown();
+
+        List<EncodedLogEntry> expected = new ArrayList<>(offered);
+        expected.remove(poison);
+        assertThat(persistence.saved).containsExactlyElementsOf(expected);
+        verify(deadLetterPort).write(eq(poison), anyString());
+        verify(deadLetterPort, times(1)).write(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("종료할 때 준비 단계가 핸드오프에 넘긴 배치는 저장 단계가 모두 쓰고 끝난다")
+    void shouldWriteHandedOffBatchesOnShutdown() throws Exception {
+        List<EncodedLogEntry> offered = offer(10);
+
+        service.init();
+        // 저장이 느려 큐를 다 꺼냈을 때 핸드오프에는 아직 쓰지 않은 배치가 남아 있다
+        await(() -> queue.size() == 0);
+        assertThat(persistence.saved.size()).isLessThan(offered.size());
+        service.shutdown();
+
+        assertThat(persistence.saved).containsExactlyElementsOf(offered);
+    }
+
+    private List<EncodedLogEntry> offer(int count) {
+        List<EncodedLogEntry> offered = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            EncodedLogEntry entry = EncodedLogEntry.of(LogEntryId.generate(),
+                    EntityIdentifier.of("Order", String.valueOf(i)), Operation.UPDATE, Instant.now(), "{}", "{}",
+                    false);
+            assertThat(queue.offer(entry)).isTrue();
+            offered.add(entry);
+        }
+        return offered;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static class SlowPersistence implements BatchPersistencePort {
+        private final List<EncodedLogEntry> saved = new CopyOnWriteArrayList<>();
+        private volatile EncodedLogEntry poison;
+
+        @Override
+        public PreparedBatch prepare(List<EncodedLogEntry> batch) {
+            if (batch.contains(poison)) {
+                throw new IllegalArgumentException("인코딩할 수 없는 엔트리");
+            }
+            List<EncodedLogEntry> copy = List.copyOf(batch);
+            return () -> copy;
+        }
+
+        @Override
+        public void write(PreparedBatch batch) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            saved.addAll(batch.entries());
+        }
+
+        @Override
+        public boolean isRetryable(Exception e) {
+            return false;
+        }
+    }
+}
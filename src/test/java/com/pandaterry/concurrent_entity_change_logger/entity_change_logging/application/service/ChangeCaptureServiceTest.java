@@ -0,0 +1,79 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeCapture;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import com.pandaterry.concurrent_entity_change_logger.shared.infrastructure.concurrent.WorkerExecutorFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ChangeCaptureServiceTest {
+    private static final int ENTITIES = 4;
+    private static final int CAPTURES = 400;
+
+    @Test
+    @DisplayName("deferred 모드에서도 같은 엔티티의 스냅샷은 캡처한 순서대로, 캡처 시점 ID 순으로 처리된다")
+    void shouldProcessCapturesOfSameEntityInOrder() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.setCaptureMode("deferred");
+        properties.getStrategy().setCaptureThreadPoolSize(4);
+        // 레인이 가득 차는 경우도 지나가도록 버퍼를 작게 둔다
+        properties.getStrategy().setCaptureBufferSize(16);
+
+        List<ChangeCapture> processed = Collections.synchronizedList(new ArrayList<>());
+        LoggingService loggingService = mock(LoggingService.class);
+        doAnswer(invocation -> {
+            // 워커마다 처리 시간이 달라야 순서가 뒤섞일 기회가 생긴다
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(200_000));
+            processed.add(invocation.getArgument(0));
+            return null;
+        }).when(loggingService).logCapture(any());
+
+        ChangeCaptureService service = new ChangeCaptureService(loggingService, mock(MetricsPort.class),
+                properties, new WorkerExecutorFactory(properties));
+        service.init();
+
+        List<ChangeCapture> captured = new ArrayList<>();
+        for (int i = 0; i < CAPTURES; i++) {
+            ChangeCapture capture = ChangeCapture.of(Order.class,
+                    EntityIdentifier.of("Order", String.valueOf(i % ENTITIES)), Operation.UPDATE,
+                    EntityState.ofUpdate(new String[]{"quantity"}, new Object[]{i}, new Object[]{i + 1}, null));
+            captured.add(capture);
+            service.capture(capture);
+        }
+        service.shutdown();
+
+        assertThat(processed).hasSize(CAPTURES);
+        for (int entity = 0; entity < ENTITIES; entity++) {
+            EntityIdentifier identifier = EntityIdentifier.of("Order", String.valueOf(entity));
+            List<ChangeCapture> expected = captured.stream()
+                    .filter(capture -> capture.getEntityIdentifier().equals(identifier))
+                    .toList();
+            List<ChangeCapture> actual = processed.stream()
+                    .filter(capture -> capture.getEntityIdentifier().equals(identifier))
+                    .toList();
+
+            assertThat(actual).containsExactlyElementsOf(expected);
+            assertThat(actual).extracting(capture -> capture.getId().getValue())
+                    .isSortedAccordingTo(UUID::compareTo);
+        }
+    }
+
+    private static class Order {
+    }
+}
@@ -0,0 +1,128 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryHistoryPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.HistoryPage;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.HistoryQuery;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogEntryHistoryServiceTest {
+    private static final EntityIdentifier ORDER = EntityIdentifier.of("Order", "1");
+
+    private FakeHistoryPort port;
+    private LogEntryHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getHistory().setDefaultPageSize(2);
+        properties.getHistory().setMaxPageSize(3);
+
+        port = new FakeHistoryPort();
+        service = new LogEntryHistoryService(port, properties);
+    }
+
+    @Test
+    @DisplayName("남은 행이 정확히 한 페이지면 다음 커서를 만들지 않는다")
+    void shouldEndWhenRowsFitExactly() {
+        port.rows = rows(3);
+
+        HistoryPage page = service.find(query(null, 3));
+
+        assertThat(page.entries()).hasSize(3);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(port.lastQuery.limit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한 행이라도 더 있으면 페이지 마지막 행의 (recorded_at, id) 를 다음 커서로 준다")
+    void shouldPointNextCursorAtLastRowOfPage() {
+        port.rows = rows(4);
+
+        HistoryPage page = service.find(query(null, 3));
+
+        EncodedLogEntry last = port.rows.get(2);
+        assertThat(page.entries()).containsExactlyElementsOf(port.rows.subList(0, 3));
+        assertThat(page.next()).isEqualTo(new HistoryCursor(last.getRecordedAt(), last.getId().getValue()));
+    }
+
+    @Test
+    @DisplayName("다음 커서로 이어 읽으면 빠지거나 겹치는 행이 없다")
+    void shouldWalkAllPagesWithoutGapsOrDuplicates() {
+        port.rows = rows(7);
+
+        List<EncodedLogEntry> seen = new ArrayList<>();
+        HistoryCursor cursor = null;
+        do {
+            HistoryPage page = service.find(query(cursor, 3));
+            seen.addAll(page.entries());
+            cursor = page.next();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(port.rows);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 없으면 기본값을, 최대를 넘으면 최대값을 쓴다")
+    void shouldClampPageSize() {
+        port.rows = rows(10);
+
+        assertThat(service.find(query(null, 0)).entries()).hasSize(2);
+        assertThat(service.find(query(null, 100)).entries()).hasSize(3);
+    }
+
+    private static HistoryQuery query(HistoryCursor after, int limit) {
+        return HistoryQuery.forEntity(ORDER, null, null, after, limit);
+    }
+
+    // 최신순. 같은 시각의 행을 섞어 id 로 순서가 갈리는 경우도 포함한다
+    private static List<EncodedLogEntry> rows(int count) {
+        Instant base = Instant.parse("2024-03-10T00:00:00Z");
+        List<EncodedLogEntry> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(EncodedLogEntry.of(LogEntryId.generate(), ORDER, Operation.UPDATE,
+                    base.minusSeconds(i / 2), "{}", "{}", false));
+        }
+        rows.sort((a, b) -> {
+            int byTime = b.getRecordedAt().compareTo(a.getRecordedAt());
+            return byTime != 0 ? byTime : b.getId().getValue().compareTo(a.getId().getValue());
+        });
+        return rows;
+    }
+
+    private static class FakeHistoryPort implements LogEntryHistoryPort {
+        private List<EncodedLogEntry> rows = List.of();
+        private HistoryQuery lastQuery;
+
+        @Override
+        public List<EncodedLogEntry> find(HistoryQuery query) {
+            lastQuery = query;
+            int from = 0;
+            if (query.after() != null) {
+                // (recorded_at, id) < (?, ?) 와 같은 행 비교
+                while (from < rows.size() && !isBefore(rows.get(from), query.after())) {
+                    from++;
+                }
+            }
+            return rows.subList(from, Math.min(rows.size(), from + query.limit()));
+        }
+
+        private static boolean isBefore(EncodedLogEntry row, HistoryCursor cursor) {
+            int byTime = row.getRecordedAt().compareTo(cursor.recordedAt());
+            return byTime < 0 || (byTime == 0 && row.getId().getValue().compareTo(cursor.id()) < 0);
+        }
+    }
+}
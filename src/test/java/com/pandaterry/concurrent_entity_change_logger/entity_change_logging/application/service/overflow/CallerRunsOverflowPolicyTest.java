@@ -0,0 +1,116 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryReplayPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry.BatchRetryService;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallerRunsOverflowPolicyTest {
+    private final EncodedLogEntry entry = EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", "1"),
+            Operation.UPDATE, Instant.now(), "{}", "{}", false);
+
+    private QueuePort queuePort;
+    private FakePersistence persistence;
+    private DeadLetterPort deadLetterPort;
+    private MetricsPort metricsPort;
+    private CallerRunsOverflowPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getStrategy().setRetryMaxAttempts(3);
+        properties.getStrategy().setRetryInitialBackoff(1);
+        properties.getStrategy().setRetryMaxBackoff(2);
+
+        queuePort = mock(QueuePort.class);
+        persistence = new FakePersistence();
+        deadLetterPort = mock(DeadLetterPort.class);
+        metricsPort = mock(MetricsPort.class);
+        policy = new CallerRunsOverflowPolicy(queuePort, new BatchRetryService(persistence, deadLetterPort,
+                mock(LogEntryReplayPort.class), metricsPort, properties));
+    }
+
+    @Test
+    @DisplayName("큐에 자리가 있으면 호출 스레드에서 저장하지 않는다")
+    void shouldEnqueueWhenQueueHasRoom() {
+        when(queuePort.offer(entry)).thenReturn(true);
+
+        assertThat(policy.offer(entry)).isEqualTo(OfferOutcome.ENQUEUED);
+        assertThat(persistence.saved).isEmpty();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 저장하고, 일시적인 오류는 배치 워커처럼 재시도한다")
+    void shouldRetryTransientFailureOnCallerThread() {
+        persistence.transientFailures.set(2);
+
+        assertThat(policy.offer(entry)).isEqualTo(OfferOutcome.PERSISTED);
+        assertThat(persistence.saved).containsExactly(entry);
+        verify(metricsPort, times(2)).incrementRetryCount();
+        verify(metricsPort, never()).incrementDroppedCount();
+    }
+
+    @Test
+    @DisplayName("끝내 저장하지 못한 엔트리는 버리지 않고 데드레터에 남긴다")
+    void shouldDeadLetterWhenSaveKeepsFailing() throws Exception {
+        persistence.transientFailures.set(Integer.MAX_VALUE);
+
+        assertThat(policy.offer(entry)).isEqualTo(OfferOutcome.DEAD_LETTERED);
+        assertThat(OfferOutcome.DEAD_LETTERED.isLossy()).isFalse();
+        verify(deadLetterPort).write(eq(entry), anyString());
+        verify(deadLetterPort, times(1)).write(any(), anyString());
+    }
+
+    private static class FakePersistence implements BatchPersistencePort {
+        private final List<EncodedLogEntry> saved = new ArrayList<>();
+        private final AtomicInteger transientFailures = new AtomicInteger();
+
+        @Override
+        public PreparedBatch prepare(List<EncodedLogEntry> batch) {
+            List<EncodedLogEntry> copy = List.copyOf(batch);
+            return () -> copy;
+        }
+
+        @Override
+        public void write(PreparedBatch batch) {
+            if (transientFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new TransientFailure();
+            }
+            saved.addAll(batch.entries());
+        }
+
+        @Override
+        public boolean isRetryable(Exception e) {
+            return e instanceof TransientFailure;
+        }
+    }
+
+    private static class TransientFailure extends RuntimeException {
+    }
+}
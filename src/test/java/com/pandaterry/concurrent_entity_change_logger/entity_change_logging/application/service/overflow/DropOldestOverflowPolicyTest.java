@@ -0,0 +1,118 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.overflow;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.adapter.out.queue.ShardedQueueAdapter;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.QueuePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery.PersistedWalCursor;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DropOldestOverflowPolicyTest {
+    private static final int SHARDS = 4;
+    private static final int SHARD_CAPACITY = 4;
+
+    private ShardedQueueAdapter queue;
+    private MetricsPort metricsPort;
+    private PersistedWalCursor cursor;
+    private DropOldestOverflowPolicy policy;
+    private long position;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getStrategy().setShardCount(SHARDS);
+        properties.getStrategy().setQueueSize(SHARDS * SHARD_CAPACITY);
+        queue = new ShardedQueueAdapter(properties, mock(MetricsPort.class));
+        queue.init();
+
+        metricsPort = mock(MetricsPort.class);
+        cursor = new PersistedWalCursor(properties);
+        cursor.begin(0, 0);
+        cursor.release();
+        policy = new DropOldestOverflowPolicy(queue, metricsPort, cursor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("가득 찬 샤드에서만 가장 오래된 엔트리를 밀어내고 다른 샤드는 건드리지 않는다")
+    void shouldEvictFromTargetShardOnly() {
+        List<EncodedLogEntry> target = new ArrayList<>();
+        for (int i = 0; i < SHARD_CAPACITY; i++) {
+            target.add(write(entry("1")));
+            assertThat(policy.offer(target.get(i))).isEqualTo(OfferOutcome.ENQUEUED);
+        }
+        EncodedLogEntry other = write(entryOnAnotherShard(target.get(0)));
+        assertThat(policy.offer(other)).isEqualTo(OfferOutcome.ENQUEUED);
+
+        EncodedLogEntry newest = write(entry("1"));
+        assertThat(policy.offer(newest)).isEqualTo(OfferOutcome.DROPPED_OLDEST);
+
+        List<EncodedLogEntry> targetShard = drain(queue.shards().get(queue.shardIndexOf(newest)));
+        List<EncodedLogEntry> otherShard = drain(queue.shards().get(queue.shardIndexOf(other)));
+        assertThat(targetShard).containsExactly(target.get(1), target.get(2), target.get(3), newest);
+        assertThat(otherShard).containsExactly(other);
+        verify(metricsPort, times(1)).incrementDroppedCount();
+    }
+
+    @Test
+    @DisplayName("밀려난 엔트리는 WAL 재생 커서에서 정산되어 커서를 붙잡지 않는다")
+    void shouldSettleEvictedEntry() {
+        EncodedLogEntry oldest = write(entry("1"));
+        policy.offer(oldest);
+        for (int i = 1; i < SHARD_CAPACITY; i++) {
+            policy.offer(write(entry("1")));
+        }
+        assertThat(cursor.position()).isEqualTo(9);
+
+        policy.offer(write(entry("1")));
+
+        assertThat(cursor.position()).isEqualTo(19);
+    }
+
+    // 커서에 WAL 위치를 10 단위로 알린다
+    private EncodedLogEntry write(EncodedLogEntry entry) {
+        position += 10;
+        cursor.appended(entry.getId(), position);
+        return entry;
+    }
+
+    private static List<EncodedLogEntry> drain(QueuePort shard) {
+        List<EncodedLogEntry> drained = new ArrayList<>();
+        shard.drainTo(drained, Integer.MAX_VALUE);
+        return drained;
+    }
+
+    private EncodedLogEntry entryOnAnotherShard(EncodedLogEntry entry) {
+        for (int id = 2; ; id++) {
+            EncodedLogEntry candidate = entry(String.valueOf(id));
+            if (queue.shardIndexOf(candidate) != queue.shardIndexOf(entry)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static EncodedLogEntry entry(String entityId) {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", entityId), Operation.UPDATE,
+                Instant.now(), "{}", "{}", false);
+    }
+}
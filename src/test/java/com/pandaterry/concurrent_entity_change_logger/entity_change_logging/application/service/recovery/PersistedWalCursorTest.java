@@ -0,0 +1,158 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.recovery;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistedWalCursorTest {
+
+    @Test
+    @DisplayName("순서 없이 저장돼도 커서는 가장 앞의 미저장 레코드 바로 앞까지만 나아간다")
+    void shouldAdvanceOnlyPastContiguousSettledRecords() {
+        PersistedWalCursor cursor = cursor(100);
+        cursor.begin(0, 0);
+        cursor.release();
+        EncodedLogEntry first = entry();
+        EncodedLogEntry second = entry();
+        EncodedLogEntry third = entry();
+        cursor.appended(first.getId(), 100);
+        cursor.appended(second.getId(), 200);
+        cursor.appended(third.getId(), 300);
+
+        cursor.settled(List.of(second, third));
+        assertThat(cursor.position()).isEqualTo(99);
+        assertThat(cursor.backlogBytes()).isEqualTo(201);
+
+        cursor.settled(first);
+        assertThat(cursor.position()).isEqualTo(300);
+        assertThat(cursor.backlogBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("재생 중에는 읽은 위치를 넘지 않고, WAL 위치보다 먼저 도착한 저장 확인도 반영한다")
+    void shouldHoldDuringReplayAndAcceptEarlySettlement() {
+        PersistedWalCursor cursor = cursor(100);
+        cursor.begin(50, 500);
+        assertThat(cursor.position()).isEqualTo(50);
+
+        EncodedLogEntry replayed = entry();
+        cursor.appended(replayed.getId(), 120);
+        cursor.hold(120);
+        cursor.settled(replayed);
+        assertThat(cursor.position()).isEqualTo(120);
+
+        EncodedLogEntry live = entry();
+        cursor.settled(live);
+        cursor.appended(live.getId(), 600);
+        cursor.release();
+        assertThat(cursor.position()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("추적 한도를 넘으면 커서를 그 자리에 멈춘다")
+    void shouldFreezeWhenTrackingLimitExceeded() {
+        PersistedWalCursor cursor = cursor(2);
+        cursor.begin(0, 0);
+        cursor.release();
+        EncodedLogEntry dropped = entry();
+        cursor.appended(dropped.getId(), 10);
+        cursor.appended(entry().getId(), 20);
+        cursor.appended(entry().getId(), 30);
+
+        cursor.settled(dropped);
+        assertThat(cursor.position()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("멈춘 뒤 밀린 엔트리가 모두 정산되면 WAL 끝부터 다시 추적한다")
+    void shouldResumeAfterBacklogDrains() {
+        PersistedWalCursor cursor = cursor(2);
+        cursor.begin(0, 0);
+        cursor.release();
+        EncodedLogEntry first = write(cursor, 10);
+        EncodedLogEntry second = write(cursor, 20);
+        EncodedLogEntry third = write(cursor, 30);
+        assertThat(cursor.position()).isEqualTo(9);
+
+        cursor.settled(List.of(first, second));
+        assertThat(cursor.position()).isEqualTo(9);
+
+        cursor.settled(third);
+        assertThat(cursor.position()).isEqualTo(30);
+
+        EncodedLogEntry fourth = write(cursor, 40);
+        assertThat(cursor.position()).isEqualTo(39);
+        cursor.settled(fourth);
+        assertThat(cursor.position()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("멈춘 동안 WAL 위치보다 먼저 도착한 정산으로는 다시 추적하지 않는다")
+    void shouldNotResumeOnEarlySettlementWhileFrozen() {
+        PersistedWalCursor cursor = cursor(1);
+        cursor.begin(0, 0);
+        cursor.release();
+        EncodedLogEntry tracked = write(cursor, 10);
+        EncodedLogEntry untracked = write(cursor, 20);
+        EncodedLogEntry early = entry();
+        cursor.submitted();
+
+        cursor.settled(List.of(early, tracked));
+        assertThat(cursor.position()).isEqualTo(9);
+
+        cursor.written(early.getId(), 30);
+        assertThat(cursor.position()).isEqualTo(9);
+
+        cursor.settled(untracked);
+        assertThat(cursor.position()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("오버플로 정책이 버린 엔트리는 커서를 붙잡지 않아, 이후 트래픽이 한도를 넘겨도 커서가 나아간다")
+    void shouldAdvancePastDiscardedEntries() {
+        PersistedWalCursor cursor = cursor(2);
+        cursor.begin(0, 0);
+        cursor.release();
+        EncodedLogEntry dropped = write(cursor, 10);
+        cursor.discarded(dropped);
+        assertThat(cursor.position()).isEqualTo(10);
+
+        for (long position = 20; position <= 100; position += 10) {
+            EncodedLogEntry entry = write(cursor, position);
+            if (position % 30 == 0) {
+                cursor.discarded(entry);
+            } else {
+                cursor.settled(entry);
+            }
+            assertThat(cursor.position()).isEqualTo(position);
+        }
+        assertThat(cursor.backlogBytes()).isZero();
+    }
+
+    private static EncodedLogEntry write(PersistedWalCursor cursor, long position) {
+        EncodedLogEntry entry = entry();
+        cursor.submitted();
+        cursor.written(entry.getId(), position);
+        return entry;
+    }
+
+    private static PersistedWalCursor cursor(int maxTrackedEntries) {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getRecovery().setMaxTrackedEntries(maxTrackedEntries);
+        return new PersistedWalCursor(properties);
+    }
+
+    private static EncodedLogEntry entry() {
+        return EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", "1"), Operation.CREATE,
+                Instant.now(), "{}", "{}", false);
+    }
+}
@@ -0,0 +1,150 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.service.retry;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.BatchPersistencePort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.DeadLetterPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.LogEntryReplayPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.MetricsPort;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.application.port.output.PreparedBatch;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.Operation;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.model.EncodedLogEntry;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityIdentifier;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.LogEntryId;
+import com.pandaterry.concurrent_entity_change_logger.shared.config.EntityLoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BatchRetryServiceTest {
+    private FakePersistence persistence;
+    private DeadLetterPort deadLetterPort;
+    private MetricsPort metricsPort;
+    private BatchRetryService retryService;
+
+    @BeforeEach
+    void setUp() {
+        EntityLoggingProperties properties = new EntityLoggingProperties();
+        properties.getStrategy().setRetryMaxAttempts(3);
+        properties.getStrategy().setRetryInitialBackoff(1);
+        properties.getStrategy().setRetryMaxBackoff(2);
+
+        persistence = new FakePersistence();
+        deadLetterPort = mock(DeadLetterPort.class);
+        metricsPort = mock(MetricsPort.class);
+        retryService = new BatchRetryService(persistence, deadLetterPort, persistence, metricsPort, properties);
+    }
+
+    @Test
+    @DisplayName("문제 레코드 하나만 데드레터로 격리하고 나머지는 저장한다")
+    void shouldIsolatePoisonRecordByBisection() throws Exception {
+        List<EncodedLogEntry> batch = entries(100);
+        EncodedLogEntry poison = batch.get(37);
+        persistence.poison = Set.of(poison);
+
+        int saved = retryService.save(batch);
+
+        assertThat(saved).isEqualTo(99);
+        assertThat(persistence.saved).hasSize(99).doesNotContain(poison);
+        verify(deadLetterPort).write(eq(poison), anyString());
+        verify(deadLetterPort, times(1)).write(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 분할 없이 재시도해 저장한다")
+    void shouldRetryTransientFailure() throws Exception {
+        persistence.transientFailures.set(2);
+
+        int saved = retryService.save(entries(10));
+
+        assertThat(saved).isEqualTo(10);
+        verify(metricsPort, times(2)).incrementRetryCount();
+        verify(metricsPort, never()).incrementBisectCount();
+        verify(deadLetterPort, never()).write(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘기면 배치를 통째로 데드레터에 남긴다")
+    void shouldDeadLetterWholeBatchWhenRetriesExhausted() throws Exception {
+        persistence.transientFailures.set(Integer.MAX_VALUE);
+
+        int saved = retryService.save(entries(10));
+
+        assertThat(saved).isZero();
+        verify(deadLetterPort, times(10)).write(any(), anyString());
+        verify(metricsPort, never()).incrementBisectCount();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 엔트리가 섞인 배치를 다시 넣어도 중복 저장하거나 데드레터로 보내지 않는다")
+    void shouldSkipAlreadySavedEntriesOnReplay() throws Exception {
+        List<EncodedLogEntry> batch = entries(10);
+        retryService.save(batch.subList(0, 4));
+
+        int saved = retryService.saveMissing(batch);
+
+        assertThat(saved).isEqualTo(10);
+        assertThat(persistence.saved).hasSize(10).doesNotHaveDuplicates();
+        verify(deadLetterPort, never()).write(any(), anyString());
+    }
+
+    private static List<EncodedLogEntry> entries(int count) {
+        List<EncodedLogEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(EncodedLogEntry.of(LogEntryId.generate(), EntityIdentifier.of("Order", String.valueOf(i)),
+                    Operation.CREATE, Instant.now(), "{}", "{}", false));
+        }
+        return entries;
+    }
+
+    private static class FakePersistence implements BatchPersistencePort, LogEntryReplayPort {
+        private final List<EncodedLogEntry> saved = new ArrayList<>();
+        private final AtomicInteger transientFailures = new AtomicInteger();
+        private Set<EncodedLogEntry> poison = Set.of();
+
+        @Override
+        public PreparedBatch prepare(List<EncodedLogEntry> batch) {
+            List<EncodedLogEntry> copy = List.copyOf(batch);
+            return () -> copy;
+        }
+
+        @Override
+        public void write(PreparedBatch batch) {
+            if (transientFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new TransientFailure();
+            }
+            if (batch.entries().stream().anyMatch(poison::contains)) {
+                throw new IllegalArgumentException("constraint violation");
+            }
+            saved.addAll(batch.entries());
+        }
+
+        @Override
+        public int insertMissing(List<EncodedLogEntry> entries) {
+            List<EncodedLogEntry> missing = entries.stream().filter(entry -> !saved.contains(entry)).toList();
+            write(() -> missing);
+            return missing.size();
+        }
+
+        @Override
+        public boolean isRetryable(Exception e) {
+            return e instanceof TransientFailure;
+        }
+    }
+
+    private static class TransientFailure extends RuntimeException {
+    }
+}
@@ -0,0 +1,86 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.service.tracker;
+
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.ChangeSet;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.EntityState;
+import com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo.FieldChange;
+import jakarta.persistence.Id;
+import jakarta.persistence.Transient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpdateChangeTrackerTest {
+    // Hibernate 상태 배열에는 식별자가 빠진다
+    private static final String[] PROPERTY_NAMES = {"status", "quantity", "memo", "secret", "tag"};
+
+    private final UpdateChangeTracker tracker = new UpdateChangeTracker();
+
+    @Test
+    @DisplayName("상태 배열 경로는 복제 기반 경로와 같은 ChangeSet 을 만든다")
+    void shouldMatchCloneBasedChangeSet() {
+        Order before = new Order(1L, "NEW", 1, null, "a", new Tag("vip"));
+        Order after = new Order(1L, "PAID", null, "gift", "b", new Tag("vip"));
+
+        ChangeSet cloneBased = ChangeSet.from(tracker.trackChanges(before, after));
+        ChangeSet stateBased = tracker.trackStateChanges(Order.class,
+                EntityState.ofUpdate(PROPERTY_NAMES, before.state(), after.state(), new int[]{0, 1, 2, 3, 4}));
+
+        assertThat(stateBased).isEqualTo(cloneBased);
+        assertThat(stateBased.getChanges()).containsOnlyKeys("status", "quantity", "memo");
+        assertThat(stateBased.getChanges().get("status").getChangeType()).isEqualTo(FieldChange.ChangeType.MODIFIED);
+        assertThat(stateBased.getChanges().get("quantity").getChangeType()).isEqualTo(FieldChange.ChangeType.DELETED);
+        assertThat(stateBased.getChanges().get("memo").getChangeType()).isEqualTo(FieldChange.ChangeType.CREATED);
+    }
+
+    @Test
+    @DisplayName("dirty 로 표시됐어도 문자열 표현이 같으면 변경으로 남기지 않는다")
+    void shouldDropChangesWithSameText() {
+        Order before = new Order(1L, "NEW", 1, null, null, new Tag("vip"));
+        Order after = new Order(1L, "NEW", 1, null, null, new Tag("vip"));
+
+        ChangeSet stateBased = tracker.trackStateChanges(Order.class,
+                EntityState.ofUpdate(PROPERTY_NAMES, before.state(), after.state(), new int[]{0, 4}));
+
+        assertThat(stateBased.hasAnyChanges()).isFalse();
+        assertThat(ChangeSet.from(tracker.trackChanges(before, after))).isEqualTo(stateBased);
+    }
+
+    private static class Order {
+        @Id
+        private Long id;
+        private String status;
+        private Integer quantity;
+        private String memo;
+        @Transient
+        private String secret;
+        private Tag tag;
+
+        Order(Long id, String status, Integer quantity, String memo, String secret, Tag tag) {
+            this.id = id;
+            this.status = status;
+            this.quantity = quantity;
+            this.memo = memo;
+            this.secret = secret;
+            this.tag = tag;
+        }
+
+        Object[] state() {
+            return new Object[]{status, quantity, memo, secret, tag};
+        }
+    }
+
+    // equals 를 정의하지 않아 인스턴스가 다르면 값이 바뀐 것으로 보인다
+    private static final class Tag {
+        private final String name;
+
+        Tag(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
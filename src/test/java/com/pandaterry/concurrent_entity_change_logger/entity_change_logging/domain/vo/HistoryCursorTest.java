@@ -0,0 +1,58 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistoryCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 나노초와 id 까지 그대로 복원된다")
+    void shouldRoundTrip() {
+        HistoryCursor cursor = new HistoryCursor(Instant.parse("2024-03-10T12:34:56.123456789Z"), UuidV7.generate());
+
+        assertThat(HistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("에포크 이전 시각과 부호 비트가 선 id 도 복원된다")
+    void shouldRoundTripBoundaryValues() {
+        HistoryCursor cursor = new HistoryCursor(Instant.parse("1969-12-31T23:59:59.999999999Z"),
+                new UUID(-1L, Long.MIN_VALUE));
+
+        assertThat(HistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("URL 에 그대로 쓸 수 있는 패딩 없는 base64url 이다")
+    void shouldBeUrlSafe() {
+        HistoryCursor cursor = new HistoryCursor(Instant.MAX, new UUID(-1L, -1L));
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("base64url 이 아니거나 길이가 다른 값은 거부한다")
+    void shouldRejectMalformedCursor() {
+        String truncated = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[27]);
+        String extended = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[29]);
+
+        assertThatThrownBy(() -> HistoryCursor.decode("not a cursor!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode(extended)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("시각과 id 는 비어 있을 수 없다")
+    void shouldRejectNullParts() {
+        assertThatThrownBy(() -> new HistoryCursor(null, UUID.randomUUID())).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistoryCursor(Instant.now(), null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.pandaterry.concurrent_entity_change_logger.entity_change_logging.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+    // 생성기 상태는 JVM 전역이라 먼저 실행된 대량 생성 테스트가 순번 올림으로 시계를 앞질러 둘 수 있다.
+    // 이 클래스에서 만드는 약 50만 개는 최대 약 120ms 앞서게 하므로 넉넉히 잡는다
+    private static final long CLOCK_LEAD_TOLERANCE_MILLIS = 1_000;
+
+    @Test
+    @DisplayName("버전 7, RFC 변형 비트를 갖고 생성 시각을 꺼낼 수 있다")
+    void shouldEncodeVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // 시각은 시계보다 뒤처지지 않고, 앞서더라도 순번 올림만큼만 앞선다
+        assertThat(UuidV7.timestampOf(uuid).toEpochMilli()).isBetween(before, after + CLOCK_LEAD_TOLERANCE_MILLIS);
+        assertThat(LogEntryId.of(uuid).getTimestamp()).contains(UuidV7.timestampOf(uuid));
+    }
+
+    @Test
+    @DisplayName("한 스레드에서 연속 생성하면 항상 증가한다 (PostgreSQL uuid 정렬 기준)")
+    void shouldBeMonotonic() {
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성해도 중복이 없다")
+    void shouldBeUniqueUnderConcurrency() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    generated.add(UuidV7.generate());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(generated).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("범위 경계값은 같은 밀리초의 UUIDv7 을 감싸고, 랜덤 UUID 는 시각을 갖지 않는다")
+    void shouldProvideRangeBoundsAndRejectRandomUuid() {
+        UUID uuid = UuidV7.generate();
+        Instant timestamp = UuidV7.timestampOf(uuid);
+
+        assertThat(Long.compareUnsigned(UuidV7.lowerBound(timestamp).getMostSignificantBits(),
+                uuid.getMostSignificantBits())).isNotPositive();
+        assertThat(Long.compareUnsigned(UuidV7.upperBound(timestamp).getMostSignificantBits(),
+                uuid.getMostSignificantBits())).isNotNegative();
+
+        UUID random = UUID.randomUUID();
+        assertThat(LogEntryId.of(random).getTimestamp()).isEmpty();
+        assertThatThrownBy(() -> UuidV7.timestampOf(random)).isInstanceOf(IllegalArgumentException.class);
+    }
+}